@@ -0,0 +1,45 @@
+package io.vertx.core.file;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.impl.JsonUtil;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+
+/**
+ * Converter and mapper for {@link io.vertx.core.file.FileRange}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.core.file.FileRange} original class using Vert.x codegen.
+ */
+public class FileRangeConverter {
+
+
+  private static final Base64.Decoder BASE64_DECODER = JsonUtil.BASE64_DECODER;
+  private static final Base64.Encoder BASE64_ENCODER = JsonUtil.BASE64_ENCODER;
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, FileRange obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "position":
+          if (member.getValue() instanceof Number) {
+            obj.setPosition(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "length":
+          if (member.getValue() instanceof Number) {
+            obj.setLength(((Number)member.getValue()).intValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(FileRange obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(FileRange obj, java.util.Map<String, Object> json) {
+    json.put("position", obj.getPosition());
+    json.put("length", obj.getLength());
+  }
+}
@@ -35,6 +35,36 @@ public class FileSystemOptionsConverter {
             obj.setFileCacheDir((String)member.getValue());
           }
           break;
+        case "workerPoolSize":
+          if (member.getValue() instanceof Number) {
+            obj.setWorkerPoolSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "workerPoolMaxQueueSize":
+          if (member.getValue() instanceof Number) {
+            obj.setWorkerPoolMaxQueueSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "classPathResourceCacheSize":
+          if (member.getValue() instanceof Number) {
+            obj.setClassPathResourceCacheSize(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "classPathResourceMaxSize":
+          if (member.getValue() instanceof Number) {
+            obj.setClassPathResourceMaxSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "fileHandleCacheSize":
+          if (member.getValue() instanceof Number) {
+            obj.setFileHandleCacheSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "fileHandleCacheCheckInterval":
+          if (member.getValue() instanceof Number) {
+            obj.setFileHandleCacheCheckInterval(((Number)member.getValue()).longValue());
+          }
+          break;
       }
     }
   }
@@ -49,5 +79,11 @@ public class FileSystemOptionsConverter {
     if (obj.getFileCacheDir() != null) {
       json.put("fileCacheDir", obj.getFileCacheDir());
     }
+    json.put("workerPoolSize", obj.getWorkerPoolSize());
+    json.put("workerPoolMaxQueueSize", obj.getWorkerPoolMaxQueueSize());
+    json.put("classPathResourceCacheSize", obj.getClassPathResourceCacheSize());
+    json.put("classPathResourceMaxSize", obj.getClassPathResourceMaxSize());
+    json.put("fileHandleCacheSize", obj.getFileHandleCacheSize());
+    json.put("fileHandleCacheCheckInterval", obj.getFileHandleCacheCheckInterval());
   }
 }
@@ -0,0 +1,59 @@
+package io.vertx.core.file;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.impl.JsonUtil;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+
+/**
+ * Converter and mapper for {@link io.vertx.core.file.FileWalkOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.core.file.FileWalkOptions} original class using Vert.x codegen.
+ */
+public class FileWalkOptionsConverter {
+
+
+  private static final Base64.Decoder BASE64_DECODER = JsonUtil.BASE64_DECODER;
+  private static final Base64.Encoder BASE64_ENCODER = JsonUtil.BASE64_ENCODER;
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, FileWalkOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "maxDepth":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxDepth(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "followLinks":
+          if (member.getValue() instanceof Boolean) {
+            obj.setFollowLinks((Boolean)member.getValue());
+          }
+          break;
+        case "filter":
+          if (member.getValue() instanceof String) {
+            obj.setFilter((String)member.getValue());
+          }
+          break;
+        case "batchSize":
+          if (member.getValue() instanceof Number) {
+            obj.setBatchSize(((Number)member.getValue()).intValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(FileWalkOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(FileWalkOptions obj, java.util.Map<String, Object> json) {
+    json.put("maxDepth", obj.getMaxDepth());
+    json.put("followLinks", obj.isFollowLinks());
+    if (obj.getFilter() != null) {
+      json.put("filter", obj.getFilter());
+    }
+    json.put("batchSize", obj.getBatchSize());
+  }
+}
@@ -0,0 +1,45 @@
+package io.vertx.core.file;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.impl.JsonUtil;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+
+/**
+ * Converter and mapper for {@link io.vertx.core.file.FileWatchOptions}.
+ * NOTE: This class has been automatically generated from the {@link io.vertx.core.file.FileWatchOptions} original class using Vert.x codegen.
+ */
+public class FileWatchOptionsConverter {
+
+
+  private static final Base64.Decoder BASE64_DECODER = JsonUtil.BASE64_DECODER;
+  private static final Base64.Encoder BASE64_ENCODER = JsonUtil.BASE64_ENCODER;
+
+   static void fromJson(Iterable<java.util.Map.Entry<String, Object>> json, FileWatchOptions obj) {
+    for (java.util.Map.Entry<String, Object> member : json) {
+      switch (member.getKey()) {
+        case "recursive":
+          if (member.getValue() instanceof Boolean) {
+            obj.setRecursive((Boolean)member.getValue());
+          }
+          break;
+        case "coalescingDelay":
+          if (member.getValue() instanceof Number) {
+            obj.setCoalescingDelay(((Number)member.getValue()).longValue());
+          }
+          break;
+      }
+    }
+  }
+
+   static void toJson(FileWatchOptions obj, JsonObject json) {
+    toJson(obj, json.getMap());
+  }
+
+   static void toJson(FileWatchOptions obj, java.util.Map<String, Object> json) {
+    json.put("recursive", obj.isRecursive());
+    json.put("coalescingDelay", obj.getCoalescingDelay());
+  }
+}
@@ -150,6 +150,16 @@ public class HttpServerOptionsConverter {
             obj.setRegisterWebSocketWriteHandlers((Boolean)member.getValue());
           }
           break;
+        case "sendFileCacheSize":
+          if (member.getValue() instanceof Number) {
+            obj.setSendFileCacheSize(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "sendFileCacheMaxFileSize":
+          if (member.getValue() instanceof Number) {
+            obj.setSendFileCacheMaxFileSize(((Number)member.getValue()).intValue());
+          }
+          break;
       }
     }
   }
@@ -195,5 +205,7 @@ public class HttpServerOptionsConverter {
       json.put("tracingPolicy", obj.getTracingPolicy().name());
     }
     json.put("registerWebSocketWriteHandlers", obj.isRegisterWebSocketWriteHandlers());
+    json.put("sendFileCacheSize", obj.getSendFileCacheSize());
+    json.put("sendFileCacheMaxFileSize", obj.getSendFileCacheMaxFileSize());
   }
 }
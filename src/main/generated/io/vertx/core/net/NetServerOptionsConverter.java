@@ -70,6 +70,26 @@ public class NetServerOptionsConverter {
             obj.setRegisterWriteHandler((Boolean)member.getValue());
           }
           break;
+        case "maxBufferedBytes":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxBufferedBytes(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "adaptiveWriteQueue":
+          if (member.getValue() instanceof Boolean) {
+            obj.setAdaptiveWriteQueue((Boolean)member.getValue());
+          }
+          break;
+        case "adaptiveWriteQueueMinSize":
+          if (member.getValue() instanceof Number) {
+            obj.setAdaptiveWriteQueueMinSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "adaptiveWriteQueueMaxSize":
+          if (member.getValue() instanceof Number) {
+            obj.setAdaptiveWriteQueueMaxSize(((Number)member.getValue()).intValue());
+          }
+          break;
       }
     }
   }
@@ -97,5 +117,9 @@ public class NetServerOptionsConverter {
       json.put("trafficShapingOptions", obj.getTrafficShapingOptions().toJson());
     }
     json.put("registerWriteHandler", obj.isRegisterWriteHandler());
+    json.put("maxBufferedBytes", obj.getMaxBufferedBytes());
+    json.put("adaptiveWriteQueue", obj.isAdaptiveWriteQueue());
+    json.put("adaptiveWriteQueueMinSize", obj.getAdaptiveWriteQueueMinSize());
+    json.put("adaptiveWriteQueueMaxSize", obj.getAdaptiveWriteQueueMaxSize());
   }
 }
@@ -92,6 +92,33 @@ public interface Buffer extends ClusterSerializable, Shareable {
     return BufferInternal.buffer(bytes);
   }
 
+  /**
+   * Create a new, empty buffer appending buffers by reference instead of copying them.
+   * <p>
+   * This is useful to assemble data from many fragments, the buffer is written to a socket without copying
+   * the fragments in a single buffer first. Since the content of appended buffers is not copied, an appended buffer
+   * must not be modified afterward.
+   *
+   * @return the buffer
+   */
+  static Buffer composite() {
+    return BufferInternal.composite();
+  }
+
+  /**
+   * Create a new buffer backed by pooled memory given the initial size hint.
+   * <p>
+   * The buffer must be released after use, unless it is written to a connection that takes ownership of it,
+   * see {@link PooledBuffer}.
+   *
+   * @param initialSizeHint the hint, in bytes
+   * @return the buffer
+   */
+  @GenIgnore
+  static PooledBuffer pooled(int initialSizeHint) {
+    return BufferInternal.pooled(initialSizeHint);
+  }
+
   /**
    * Returns a {@code String} representation of the Buffer with the {@code UTF-8 }encoding
    */
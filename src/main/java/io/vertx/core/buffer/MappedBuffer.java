@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.buffer;
+
+/**
+ * A read-only {@link Buffer} backed by a region of a memory mapped file, see
+ * {@link io.vertx.core.file.FileSystem#mapFile(String, long, int)}.
+ * <p>
+ * Writing the buffer to a {@link io.vertx.core.net.NetSocket} or to an HTTP/1.x server response does not copy the
+ * file content, the region stays mapped until the connection has written it. Other destinations, e.g. the event bus,
+ * copy the buffer content.
+ * <p>
+ * The buffer must be unmapped with {@link #unmap()} or {@link #close()} once the application does not need it anymore,
+ * after which it must not be used. Slices of the buffer are valid until the buffer is unmapped, {@link #copy()}
+ * returns a regular buffer. Modifying the buffer throws {@link java.nio.ReadOnlyBufferException}.
+ */
+public interface MappedBuffer extends Buffer, AutoCloseable {
+
+  /**
+   * Unmap the buffer, this has no effect when the buffer has already been unmapped.
+   * <p>
+   * The file region is unmapped when the pending writes of the buffer to connections are done.
+   *
+   * @return {@code true} when the buffer has been unmapped by this call
+   */
+  boolean unmap();
+
+  /**
+   * @return whether the buffer has been unmapped
+   */
+  boolean isUnmapped();
+
+  /**
+   * Like {@link #unmap()}.
+   */
+  @Override
+  default void close() {
+    unmap();
+  }
+}
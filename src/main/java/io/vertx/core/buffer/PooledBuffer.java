@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.buffer;
+
+/**
+ * A {@link Buffer} backed by pooled memory, the memory returns to the pool when the buffer is released.
+ * <p>
+ * Writing the buffer to a {@link io.vertx.core.net.NetSocket} or to an HTTP/1.x server response transfers the
+ * memory to the connection without a copy: the connection releases it once written and the buffer must not be used
+ * anymore. Other destinations copy the buffer content.
+ * <p>
+ * Otherwise the buffer must be released with {@link #release()} or {@link #close()}, typically with a try-with-resources
+ * statement, after which it must not be used. Slices of the buffer are valid until the buffer is released,
+ * {@link #copy()} returns a regular buffer.
+ */
+public interface PooledBuffer extends Buffer, AutoCloseable {
+
+  /**
+   * Release the buffer memory, this has no effect when the buffer has already been released or written to a
+   * connection.
+   *
+   * @return {@code true} when the memory has been released by this call
+   */
+  boolean release();
+
+  /**
+   * @return whether the buffer has been released or written to a connection
+   */
+  boolean isReleased();
+
+  /**
+   * Like {@link #release()}.
+   */
+  @Override
+  default void close() {
+    release();
+  }
+}
@@ -251,6 +251,7 @@ public class BufferImpl implements BufferInternal {
   public BufferImpl appendBuffer(Buffer buff) {
     BufferImpl impl = (BufferImpl) buff;
     ByteBuf byteBuf = impl.buffer;
+    ensureExpandableBy(byteBuf.readableBytes());
     buffer.writeBytes(impl.buffer, byteBuf.readerIndex(), impl.buffer.readableBytes());
     return this;
   }
@@ -259,108 +260,129 @@ public class BufferImpl implements BufferInternal {
     BufferImpl impl = (BufferImpl) buff;
     ByteBuf byteBuf = impl.buffer;
     int from = byteBuf.readerIndex() + offset;
+    ensureExpandableBy(len);
     buffer.writeBytes(byteBuf, from, len);
     return this;
   }
 
   public BufferImpl appendBytes(byte[] bytes) {
+    ensureExpandableBy(bytes.length);
     buffer.writeBytes(bytes);
     return this;
   }
 
   public BufferImpl appendBytes(byte[] bytes, int offset, int len) {
+    ensureExpandableBy(len);
     buffer.writeBytes(bytes, offset, len);
     return this;
   }
 
   public BufferImpl appendByte(byte b) {
+    ensureExpandableBy(1);
     buffer.writeByte(b);
     return this;
   }
 
   public BufferImpl appendUnsignedByte(short b) {
+    ensureExpandableBy(1);
     buffer.writeByte(b);
     return this;
   }
 
   public BufferImpl appendInt(int i) {
+    ensureExpandableBy(4);
     buffer.writeInt(i);
     return this;
   }
 
   public BufferImpl appendIntLE(int i) {
+    ensureExpandableBy(4);
     buffer.writeIntLE(i);
     return this;
   }
 
   public BufferImpl appendUnsignedInt(long i) {
+    ensureExpandableBy(4);
     buffer.writeInt((int) i);
     return this;
   }
 
   public BufferImpl appendUnsignedIntLE(long i) {
+    ensureExpandableBy(4);
     buffer.writeIntLE((int) i);
     return this;
   }
 
   public BufferImpl appendMedium(int i) {
+    ensureExpandableBy(3);
     buffer.writeMedium(i);
     return this;
   }
 
   public BufferImpl appendMediumLE(int i) {
+    ensureExpandableBy(3);
     buffer.writeMediumLE(i);
     return this;
   }
 
   public BufferImpl appendLong(long l) {
+    ensureExpandableBy(8);
     buffer.writeLong(l);
     return this;
   }
 
   public BufferImpl appendLongLE(long l) {
+    ensureExpandableBy(8);
     buffer.writeLongLE(l);
     return this;
   }
 
   public BufferImpl appendShort(short s) {
+    ensureExpandableBy(2);
     buffer.writeShort(s);
     return this;
   }
 
   public BufferImpl appendShortLE(short s) {
+    ensureExpandableBy(2);
     buffer.writeShortLE(s);
     return this;
   }
 
   public BufferImpl appendUnsignedShort(int s) {
+    ensureExpandableBy(2);
     buffer.writeShort(s);
     return this;
   }
 
   public BufferImpl appendUnsignedShortLE(int s) {
+    ensureExpandableBy(2);
     buffer.writeShortLE(s);
     return this;
   }
 
   public BufferImpl appendFloat(float f) {
+    ensureExpandableBy(4);
     buffer.writeFloat(f);
     return this;
   }
 
   @Override
   public BufferImpl appendFloatLE(float f) {
+    ensureExpandableBy(4);
     buffer.writeFloatLE(f);
     return this;
   }
 
   public BufferImpl appendDouble(double d) {
+    ensureExpandableBy(8);
     buffer.writeDouble(d);
     return this;
   }
 
   @Override
   public BufferImpl appendDoubleLE(double d) {
+    ensureExpandableBy(8);
     buffer.writeDoubleLE(d);
     return this;
   }
@@ -594,9 +616,9 @@ public class BufferImpl implements BufferInternal {
   }
 
   /**
-   * Make sure that the underlying buffer can be expanded by {@code amount} bytes.
+   * Make sure that the underlying buffer can be expanded by {@code amount} bytes, this is called before appending.
    */
-  private void ensureExpandableBy(int amount) {
+  void ensureExpandableBy(int amount) {
     int minMaxCapa = buffer.writerIndex() + amount;
     if (minMaxCapa > buffer.maxCapacity()) {
       setFullMaxCapacity(minMaxCapa);
@@ -612,7 +634,7 @@ public class BufferImpl implements BufferInternal {
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
-    if (o == null || getClass() != o.getClass()) return false;
+    if (!(o instanceof BufferImpl)) return false;
     BufferImpl buffer1 = (BufferImpl) o;
     return Objects.equals(buffer, buffer1.buffer);
   }
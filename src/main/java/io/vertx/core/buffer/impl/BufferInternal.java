@@ -4,6 +4,7 @@ import io.netty.buffer.ByteBuf;
 import io.vertx.core.buffer.Buffer;
 
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.util.Objects;
 
 public interface BufferInternal extends Buffer {
@@ -50,6 +51,19 @@ public interface BufferInternal extends Buffer {
     return new BufferImpl(bytes);
   }
 
+  static BufferInternal composite() {
+    return new CompositeBufferImpl();
+  }
+
+  static PooledBufferImpl pooled(int initialSizeHint) {
+    return new PooledBufferImpl(initialSizeHint);
+  }
+
+  static MappedBufferImpl mapped(MappedByteBuffer mapped) {
+    Objects.requireNonNull(mapped);
+    return new MappedBufferImpl(mapped);
+  }
+
   @Override
   BufferInternal appendBuffer(Buffer buff);
 
@@ -212,4 +226,12 @@ public interface BufferInternal extends Buffer {
    * <p> The returned buffer is a duplicate that maintain its own indices.
    */
   ByteBuf getByteBuf();
+
+  /**
+   * Returns the Buffer as a Netty {@code ByteBuf} to be written to a channel, the memory of a pooled buffer is
+   * transferred to the caller that becomes in charge of releasing the returned buffer.
+   */
+  default ByteBuf transferByteBuf() {
+    return getByteBuf();
+  }
 }
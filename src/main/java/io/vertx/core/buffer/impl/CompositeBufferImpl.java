@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.buffer.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * A buffer backed by a {@link CompositeByteBuf}, appended buffers are added as components instead of being copied.
+ * <p>
+ * Buffers smaller than {@link #MIN_COMPONENT_SIZE} are copied, a component costs more than copying a few bytes.
+ * Pooled buffers are copied as well since the application releases them. Copied bytes are written to a tail chunk
+ * of {@link #TAIL_CHUNK_SIZE} bytes added as a component, instead of letting the composite grow its capacity to the
+ * next power of two.
+ */
+public class CompositeBufferImpl extends BufferImpl {
+
+  static final int MIN_COMPONENT_SIZE = 64;
+  static final int TAIL_CHUNK_SIZE = 256;
+
+  private final CompositeByteBuf composite;
+
+  CompositeBufferImpl() {
+    this(new CompositeByteBuf(VertxByteBufAllocator.DEFAULT, false, Integer.MAX_VALUE));
+  }
+
+  private CompositeBufferImpl(CompositeByteBuf composite) {
+    super(composite);
+    this.composite = composite;
+  }
+
+  @Override
+  public BufferImpl appendBuffer(Buffer buff) {
+    return appendBuffer(buff, 0, buff.length());
+  }
+
+  @Override
+  public BufferImpl appendBuffer(Buffer buff, int offset, int len) {
+    if (len < MIN_COMPONENT_SIZE || buff instanceof PooledBufferImpl || byteBuf() != composite) {
+      return super.appendBuffer(buff, offset, len);
+    }
+    int writerIndex = composite.writerIndex();
+    int writable = composite.capacity() - writerIndex;
+    if (len <= writable) {
+      // Fits in the tail chunk
+      return super.appendBuffer(buff, offset, len);
+    }
+    if (writable > 0) {
+      // Discard the unwritten space of the tail chunk, the component is added after it
+      composite.capacity(writerIndex);
+    }
+    ByteBuf component = ((BufferInternal) buff).getByteBuf().slice(offset, len);
+    composite.addComponent(true, component);
+    return this;
+  }
+
+  @Override
+  void ensureExpandableBy(int amount) {
+    if (byteBuf() != composite) {
+      super.ensureExpandableBy(amount);
+      return;
+    }
+    int writable = composite.capacity() - composite.writerIndex();
+    if (amount > writable) {
+      int size = Math.max(amount - writable, TAIL_CHUNK_SIZE);
+      ByteBuf chunk = VertxByteBufAllocator.DEFAULT.heapBuffer(size, size);
+      // Add the whole chunk to the capacity without moving the writer index
+      composite.addComponent(false, chunk.writerIndex(size));
+    }
+  }
+}
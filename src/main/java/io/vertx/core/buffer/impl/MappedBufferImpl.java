@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.buffer.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.internal.PlatformDependent;
+import io.vertx.core.buffer.MappedBuffer;
+
+import java.nio.MappedByteBuffer;
+
+/**
+ * A buffer wrapping a read-only {@link MappedByteBuffer}.
+ * <p>
+ * The mapping is reference counted: {@link #transferByteBuf()} returns a retained slice released by the connection
+ * once written and the file region is unmapped when the application has unmapped the buffer and the connections
+ * are done with it. Accessing the buffer afterward fails with an {@link io.netty.util.IllegalReferenceCountException}
+ * instead of reading unmapped memory.
+ */
+public class MappedBufferImpl extends BufferImpl implements MappedBuffer {
+
+  private boolean unmapped;
+
+  MappedBufferImpl(MappedByteBuffer mapped) {
+    super(new MappedByteBuf(mapped).asReadOnly());
+  }
+
+  @Override
+  public boolean unmap() {
+    if (unmapped) {
+      return false;
+    }
+    unmapped = true;
+    byteBuf().release();
+    return true;
+  }
+
+  @Override
+  public boolean isUnmapped() {
+    return unmapped;
+  }
+
+  @Override
+  public ByteBuf transferByteBuf() {
+    if (unmapped) {
+      throw new IllegalStateException("Buffer has been unmapped");
+    }
+    return byteBuf().retainedSlice();
+  }
+
+  @Override
+  public ByteBuf getByteBuf() {
+    ByteBuf buf = byteBuf();
+    return VertxByteBufAllocator.DEFAULT.heapBuffer(buf.readableBytes()).writeBytes(buf, buf.readerIndex(), buf.readableBytes());
+  }
+
+  @Override
+  public BufferImpl copy() {
+    return new BufferImpl(getByteBuf());
+  }
+
+  /**
+   * Unmaps the file region when deallocated, the platform might not allow it in which case the region is unmapped
+   * when the {@link MappedByteBuffer} is garbage collected.
+   */
+  private static final class MappedByteBuf extends CompositeByteBuf {
+
+    private final MappedByteBuffer mapped;
+
+    MappedByteBuf(MappedByteBuffer mapped) {
+      super(VertxByteBufAllocator.UNPOOLED_ALLOCATOR, true, 1, Unpooled.wrappedBuffer(mapped));
+      this.mapped = mapped;
+    }
+
+    @Override
+    protected void deallocate() {
+      super.deallocate();
+      PlatformDependent.freeDirectBuffer(mapped);
+    }
+  }
+}
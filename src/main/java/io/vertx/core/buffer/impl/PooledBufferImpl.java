@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.buffer.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.buffer.PooledBuffer;
+
+/**
+ * A buffer allocated from {@link VertxByteBufAllocator#POOLED_ALLOCATOR}.
+ * <p>
+ * {@link #getByteBuf()} returns a heap copy since the caller might keep it after the application has released the
+ * buffer, the memory is handed over by {@link #transferByteBuf()} only.
+ */
+public class PooledBufferImpl extends BufferImpl implements PooledBuffer {
+
+  private boolean released;
+
+  PooledBufferImpl(int initialSizeHint) {
+    super(VertxByteBufAllocator.POOLED_ALLOCATOR.directBuffer(initialSizeHint, Integer.MAX_VALUE));
+  }
+
+  @Override
+  public boolean release() {
+    if (released) {
+      return false;
+    }
+    released = true;
+    return byteBuf().release();
+  }
+
+  @Override
+  public boolean isReleased() {
+    return released;
+  }
+
+  @Override
+  public ByteBuf transferByteBuf() {
+    if (released) {
+      throw new IllegalStateException("Buffer has been released");
+    }
+    released = true;
+    return byteBuf();
+  }
+
+  @Override
+  public ByteBuf getByteBuf() {
+    ByteBuf buf = byteBuf();
+    return VertxByteBufAllocator.DEFAULT.heapBuffer(buf.readableBytes()).writeBytes(buf, buf.readerIndex(), buf.readableBytes());
+  }
+
+  @Override
+  public BufferImpl copy() {
+    return new BufferImpl(getByteBuf());
+  }
+}
@@ -21,6 +21,8 @@ import io.vertx.core.metrics.Measured;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.streams.WriteStream;
 
+import java.util.List;
+
 /**
  * A datagram socket can be used to send {@link DatagramPacket}'s to remote datagram servers
  * and receive {@link DatagramPacket}s .
@@ -48,6 +50,20 @@ public interface DatagramSocket extends Measured {
    */
   Future<Void> send(Buffer packet, int port, String host);
 
+  /**
+   * Write the given {@link io.vertx.core.buffer.Buffer}s as individual packets to the {@link io.vertx.core.net.SocketAddress}.
+   * <p>
+   * The packets are flushed together, the native epoll transport sends them with a single {@code sendmmsg} system call.
+   * When {@link DatagramSocketOptions#setUdpGso(boolean) UDP segmentation offload} is enabled and all the packets but the last
+   * one have the same size, the packets are handed to the kernel as a single segmented buffer.
+   *
+   * @param packets  the packets to write
+   * @param port  the host port of the remote peer
+   * @param host  the host address of the remote peer
+   * @return a future notified once all the writes complete
+   */
+  Future<Void> sendBatch(List<Buffer> packets, int port, String host);
+
   /**
    * Returns a {@code WriteStream<Buffer>} able to send {@link Buffer} to the
    * {@link io.vertx.core.net.SocketAddress}.
@@ -166,6 +182,15 @@ public interface DatagramSocket extends Measured {
 
   DatagramSocket handler(Handler<DatagramPacket> handler);
 
+  /**
+   * Set a handler called with the packets received by a read operation, up to {@link DatagramSocketOptions#getReceiveBatchSize()}
+   * packets. When a batch handler is set, the {@link #handler(Handler) packet handler} is not called.
+   *
+   * @param handler the handler
+   * @return a reference to this, so the API can be used fluently
+   */
+  DatagramSocket batchHandler(Handler<List<DatagramPacket>> handler);
+
   DatagramSocket exceptionHandler(Handler<Throwable> handler);
 
 }
@@ -55,11 +55,45 @@ public class DatagramSocketOptions extends NetworkOptions {
    */
   public static final boolean DEFAULT_IPV6 = false;
 
+  /**
+   * The default number of packets read per read operation = 1
+   */
+  public static final int DEFAULT_RECEIVE_BATCH_SIZE = 1;
+
+  /**
+   * The maximum number of packets read per read operation = 1024, the maximum batch of {@code recvmmsg}
+   */
+  public static final int MAX_RECEIVE_BATCH_SIZE = 1024;
+
+  /**
+   * The default maximum datagram payload size = 0 (unknown)
+   */
+  public static final int DEFAULT_MAX_DATAGRAM_PAYLOAD_SIZE = 0;
+
+  /**
+   * The largest datagram payload size = 65535
+   */
+  public static final int MAX_DATAGRAM_PAYLOAD_SIZE = 65535;
+
+  /**
+   * The default value of UDP generic receive offload = false
+   */
+  public static final boolean DEFAULT_UDP_GRO = false;
+
+  /**
+   * The default value of UDP generic segmentation offload = false
+   */
+  public static final boolean DEFAULT_UDP_GSO = false;
+
   private boolean broadcast;
   private boolean loopbackModeDisabled;
   private int multicastTimeToLive;
   private String multicastNetworkInterface;
   private boolean ipV6;
+  private int receiveBatchSize;
+  private int maxDatagramPayloadSize;
+  private boolean udpGro;
+  private boolean udpGso;
 
   /**
    * Default constructor
@@ -82,6 +116,10 @@ public class DatagramSocketOptions extends NetworkOptions {
     this.multicastTimeToLive = other.getMulticastTimeToLive();
     this.multicastNetworkInterface = other.getMulticastNetworkInterface();
     this.ipV6 = other.isIpV6();
+    this.receiveBatchSize = other.getReceiveBatchSize();
+    this.maxDatagramPayloadSize = other.getMaxDatagramPayloadSize();
+    this.udpGro = other.isUdpGro();
+    this.udpGso = other.isUdpGso();
   }
 
   /**
@@ -101,6 +139,10 @@ public class DatagramSocketOptions extends NetworkOptions {
     multicastTimeToLive = DEFAULT_MULTICAST_TIME_TO_LIVE;
     multicastNetworkInterface = DEFAULT_MULTICAST_NETWORK_INTERFACE;
     ipV6 = DEFAULT_IPV6;
+    receiveBatchSize = DEFAULT_RECEIVE_BATCH_SIZE;
+    maxDatagramPayloadSize = DEFAULT_MAX_DATAGRAM_PAYLOAD_SIZE;
+    udpGro = DEFAULT_UDP_GRO;
+    udpGso = DEFAULT_UDP_GSO;
   }
 
   @Override
@@ -241,6 +283,91 @@ public class DatagramSocketOptions extends NetworkOptions {
     return this;
   }
 
+  /**
+   * @return the maximum number of packets read per read operation
+   */
+  public int getReceiveBatchSize() {
+    return receiveBatchSize;
+  }
+
+  /**
+   * Set the maximum number of packets read per read operation, the packets of a read operation are delivered
+   * together to the {@link DatagramSocket#batchHandler(io.vertx.core.Handler) batch handler}.
+   *
+   * @param receiveBatchSize the number of packets, between {@code 1} and {@link #MAX_RECEIVE_BATCH_SIZE}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DatagramSocketOptions setReceiveBatchSize(int receiveBatchSize) {
+    Arguments.require(receiveBatchSize > 0, "receiveBatchSize must be > 0");
+    Arguments.require(receiveBatchSize <= MAX_RECEIVE_BATCH_SIZE, "receiveBatchSize must be <= " + MAX_RECEIVE_BATCH_SIZE);
+    this.receiveBatchSize = receiveBatchSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum datagram payload size
+   */
+  public int getMaxDatagramPayloadSize() {
+    return maxDatagramPayloadSize;
+  }
+
+  /**
+   * Set the maximum payload size of the received datagrams.
+   * <p>
+   * When set, the native epoll transport reads up to {@link #getReceiveBatchSize()} datagrams with a single
+   * {@code recvmmsg} system call. Datagrams larger than this size are truncated. The default value {@code 0}
+   * reads a single datagram per system call.
+   *
+   * @param maxDatagramPayloadSize the size in bytes, at most {@link #MAX_DATAGRAM_PAYLOAD_SIZE}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DatagramSocketOptions setMaxDatagramPayloadSize(int maxDatagramPayloadSize) {
+    Arguments.require(maxDatagramPayloadSize >= 0, "maxDatagramPayloadSize must be >= 0");
+    Arguments.require(maxDatagramPayloadSize <= MAX_DATAGRAM_PAYLOAD_SIZE, "maxDatagramPayloadSize must be <= " + MAX_DATAGRAM_PAYLOAD_SIZE);
+    this.maxDatagramPayloadSize = maxDatagramPayloadSize;
+    return this;
+  }
+
+  /**
+   * @return whether UDP generic receive offload is enabled
+   */
+  public boolean isUdpGro() {
+    return udpGro;
+  }
+
+  /**
+   * Enable UDP generic receive offload, the kernel coalesces consecutive datagrams of a flow that are then split
+   * back into packets by the transport. This is only supported by the native epoll transport and requires
+   * {@link #setMaxDatagramPayloadSize(int)} to be set.
+   *
+   * @param udpGro {@code true} to enable UDP generic receive offload
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DatagramSocketOptions setUdpGro(boolean udpGro) {
+    this.udpGro = udpGro;
+    return this;
+  }
+
+  /**
+   * @return whether UDP generic segmentation offload is used by {@link DatagramSocket#sendBatch}
+   */
+  public boolean isUdpGso() {
+    return udpGso;
+  }
+
+  /**
+   * Use UDP generic segmentation offload in {@link DatagramSocket#sendBatch}: a batch of packets of the same size
+   * is handed to the kernel as a single buffer segmented by the kernel or the network card. This is only supported
+   * by the native epoll transport, other transports send the packets individually.
+   *
+   * @param udpGso {@code true} to use UDP generic segmentation offload
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DatagramSocketOptions setUdpGso(boolean udpGso) {
+    this.udpGso = udpGso;
+    return this;
+  }
+
   @Override
   public DatagramSocketOptions setLogActivity(boolean logEnabled) {
     return (DatagramSocketOptions) super.setLogActivity(logEnabled);
@@ -13,8 +13,10 @@ package io.vertx.core.datagram.impl;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPromise;
 import io.netty.channel.MaxMessagesRecvByteBufAllocator;
 import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.socket.DatagramPacket;
@@ -47,13 +49,22 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.NetworkInterface;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author <a href="mailto:nmaurer@redhat.com">Norman Maurer</a>
  */
 public class DatagramSocketImpl implements DatagramSocket, MetricsProvider, Closeable {
 
+  /**
+   * Kernel limits of UDP segmentation offload.
+   */
+  private static final int MAX_GSO_SEGMENTS = 64;
+  private static final int MAX_GSO_LENGTH = 65507;
+
   public static DatagramSocketImpl create(VertxInternal vertx, CloseFuture closeFuture, DatagramSocketOptions options) {
     DatagramSocketImpl socket = new DatagramSocketImpl(vertx, closeFuture, options);
     // Make sure object is fully initiliased to avoid race with async registration
@@ -63,8 +74,11 @@ public class DatagramSocketImpl implements DatagramSocket, MetricsProvider, Clos
 
   private final ContextInternal context;
   private final DatagramSocketMetrics metrics;
+  private final int receiveBatchSize;
+  private final boolean udpGso;
   private DatagramChannel channel;
   private Handler<io.vertx.core.datagram.DatagramPacket> packetHandler;
+  private Handler<List<io.vertx.core.datagram.DatagramPacket>> batchHandler;
   private Handler<Throwable> exceptionHandler;
   private final CloseFuture closeFuture;
 
@@ -75,7 +89,7 @@ public class DatagramSocketImpl implements DatagramSocket, MetricsProvider, Clos
     ContextInternal context = vertx.getOrCreateContext();
     channel.config().setOption(ChannelOption.DATAGRAM_CHANNEL_ACTIVE_ON_REGISTRATION, true);
     MaxMessagesRecvByteBufAllocator bufAllocator = channel.config().getRecvByteBufAllocator();
-    bufAllocator.maxMessagesPerRead(1);
+    bufAllocator.maxMessagesPerRead(options.getReceiveBatchSize());
     context.nettyEventLoop().register(channel);
     if (options.getLogActivity()) {
       channel.pipeline().addLast("logging", new LoggingHandler(options.getActivityLogDataFormat()));
@@ -85,6 +99,8 @@ public class DatagramSocketImpl implements DatagramSocket, MetricsProvider, Clos
     this.channel = channel;
     this.context = context;
     this.closeFuture = closeFuture;
+    this.receiveBatchSize = options.getReceiveBatchSize();
+    this.udpGso = options.isUdpGso();
   }
 
   private void init() {
@@ -227,6 +243,12 @@ public class DatagramSocketImpl implements DatagramSocket, MetricsProvider, Clos
     this.packetHandler = handler;
     return this;
   }
+
+  @Override
+  public synchronized DatagramSocket batchHandler(Handler<List<io.vertx.core.datagram.DatagramPacket>> handler) {
+    this.batchHandler = handler;
+    return this;
+  }
   @Override
   public DatagramSocketImpl exceptionHandler(Handler<Throwable> handler) {
     exceptionHandler = handler;
@@ -283,6 +305,97 @@ public class DatagramSocketImpl implements DatagramSocket, MetricsProvider, Clos
     return promise.future();
   }
 
+  @Override
+  public Future<Void> sendBatch(List<Buffer> packets, int port, String host) {
+    Objects.requireNonNull(packets, "no null packets accepted");
+    Objects.requireNonNull(host, "no null host accepted");
+    if (port < 0 || port > 65535) {
+      throw new IllegalArgumentException("port out of range:" + port);
+    }
+    if (packets.isEmpty()) {
+      return context.succeededFuture();
+    }
+    AddressResolver resolver = context.owner().addressResolver();
+    PromiseInternal<Void> promise = context.promise();
+    io.netty.util.concurrent.Future<InetSocketAddress> f1 = resolver.resolveHostname(context.nettyEventLoop(), host);
+    f1.addListener((GenericFutureListener<io.netty.util.concurrent.Future<InetSocketAddress>>) res1 -> {
+      if (res1.isSuccess()) {
+        InetSocketAddress recipient = new InetSocketAddress(f1.getNow().getAddress(), port);
+        DatagramPacket segmented = udpGso ? segmentedPacket(packets, recipient) : null;
+        ChannelPromise f2 = channel.newPromise();
+        AtomicInteger pending = new AtomicInteger(segmented != null ? 1 : packets.size());
+        ChannelFutureListener listener = fut -> {
+          if (!fut.isSuccess()) {
+            f2.tryFailure(fut.cause());
+          } else if (pending.decrementAndGet() == 0) {
+            f2.trySuccess();
+          }
+        };
+        if (segmented != null) {
+          channel.write(segmented).addListener(listener);
+        } else {
+          for (Buffer packet : packets) {
+            channel.write(new DatagramPacket(((BufferInternal)packet).getByteBuf(), recipient)).addListener(listener);
+          }
+        }
+        // Flush all the packets at once, the epoll transport uses sendmmsg
+        channel.flush();
+        if (metrics != null) {
+          f2.addListener(fut -> {
+            if (fut.isSuccess()) {
+              SocketAddress remoteAddress = SocketAddress.inetSocketAddress(port, host);
+              for (Buffer packet : packets) {
+                metrics.bytesWritten(null, remoteAddress, packet.length());
+              }
+            }
+          });
+        }
+        f2.addListener(promise);
+      } else {
+        promise.fail(res1.cause());
+      }
+    });
+    return promise.future();
+  }
+
+  /**
+   * Concatenate the packets in a single packet segmented by the kernel, this requires all the packets
+   * but the last one to have the same size.
+   *
+   * @return the packet or {@code null} when the packets cannot be segmented
+   */
+  private DatagramPacket segmentedPacket(List<Buffer> packets, InetSocketAddress recipient) {
+    int count = packets.size();
+    if (count < 2 || count > MAX_GSO_SEGMENTS) {
+      return null;
+    }
+    int segmentSize = packets.get(0).length();
+    if (segmentSize == 0) {
+      return null;
+    }
+    long length = 0;
+    for (int i = 0;i < count;i++) {
+      int size = packets.get(i).length();
+      if (size > segmentSize || (size < segmentSize && i < count - 1)) {
+        return null;
+      }
+      length += size;
+    }
+    if (length > MAX_GSO_LENGTH) {
+      return null;
+    }
+    ByteBuf content = channel.alloc().directBuffer((int) length);
+    for (Buffer packet : packets) {
+      ByteBuf buf = ((BufferInternal)packet).getByteBuf();
+      content.writeBytes(buf, buf.readerIndex(), buf.readableBytes());
+    }
+    DatagramPacket segmented = context.owner().transport().segmentedDatagramPacket(content, segmentSize, recipient);
+    if (segmented == null) {
+      content.release();
+    }
+    return segmented;
+  }
+
   @Override
   public WriteStream<Buffer> sender(int port, String host) {
     Arguments.requireInRange(port, 0, 65535, "port p must be in range 0 <= p <= 65535");
@@ -341,6 +454,8 @@ public class DatagramSocketImpl implements DatagramSocket, MetricsProvider, Clos
 
   class Connection extends ConnectionBase {
 
+    private List<io.vertx.core.datagram.DatagramPacket> batch;
+
     public Connection(ContextInternal context, ChannelHandlerContext channel) {
       super(context, channel);
     }
@@ -391,15 +506,37 @@ public class DatagramSocketImpl implements DatagramSocket, MetricsProvider, Clos
 
     void handlePacket(io.vertx.core.datagram.DatagramPacket packet) {
       Handler<io.vertx.core.datagram.DatagramPacket> handler;
+      boolean batched;
       synchronized (DatagramSocketImpl.this) {
         if (metrics != null) {
           metrics.bytesRead(null, packet.sender(), packet.data().length());
         }
         handler = packetHandler;
+        batched = batchHandler != null;
       }
-      if (handler != null) {
+      if (batched) {
+        if (batch == null) {
+          batch = new ArrayList<>(receiveBatchSize);
+        }
+        batch.add(packet);
+      } else if (handler != null) {
         context.emit(packet, handler);
       }
     }
+
+    @Override
+    protected void handleReadComplete() {
+      List<io.vertx.core.datagram.DatagramPacket> packets = batch;
+      if (packets != null) {
+        batch = null;
+        Handler<List<io.vertx.core.datagram.DatagramPacket>> handler;
+        synchronized (DatagramSocketImpl.this) {
+          handler = batchHandler;
+        }
+        if (handler != null) {
+          context.emit(packets, handler);
+        }
+      }
+    }
   }
 }
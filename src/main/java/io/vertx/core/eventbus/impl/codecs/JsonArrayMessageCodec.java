@@ -22,9 +22,7 @@ public class JsonArrayMessageCodec implements MessageCodec<JsonArray, JsonArray>
 
   @Override
   public void encodeToWire(Buffer buffer, JsonArray jsonArray) {
-    Buffer encoded = jsonArray.toBuffer();
-    buffer.appendInt(encoded.length());
-    buffer.appendBuffer(encoded);
+    jsonArray.writeToBuffer(buffer);
   }
 
   @Override
@@ -22,16 +22,15 @@ public class JsonObjectMessageCodec implements MessageCodec<JsonObject, JsonObje
 
   @Override
   public void encodeToWire(Buffer buffer, JsonObject jsonObject) {
-    Buffer encoded = jsonObject.toBuffer();
-    buffer.appendInt(encoded.length());
-    buffer.appendBuffer(encoded);
+    jsonObject.writeToBuffer(buffer);
   }
 
   @Override
   public JsonObject decodeFromWire(int pos, Buffer buffer) {
     int length = buffer.getInt(pos);
     pos += 4;
-    return new JsonObject(buffer.slice(pos, pos + length));
+    // Consumers often read a few fields of the body, decode it on access
+    return JsonObject.lazy(buffer.getBuffer(pos, pos + length));
   }
 
   @Override
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.file;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * An append only file where records are durable when their append completes.
+ * <p>
+ * Appends are group committed: the records appended while the file is being synced are written together and
+ * synced with a single {@code fsync} once the current sync is done, so the cost of a sync is shared by the records
+ * of a batch.
+ */
+@VertxGen
+public interface AppendLog {
+
+  /**
+   * Append a record to the log.
+   *
+   * @param record the record
+   * @return a future completed with the position of the record in the file once the record is durable
+   */
+  Future<Long> append(Buffer record);
+
+  /**
+   * Set the maximum time in milliseconds an append waits for other appends before its batch is written and synced,
+   * by default {@code 0}: a batch is synced as soon as the previous sync is done.
+   * <p>
+   * A larger value increases the batches size when the appends are not concurrent enough to fill them.
+   *
+   * @param maxLatency the latency in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  AppendLog setMaxLatency(long maxLatency);
+
+  /**
+   * @return the size of the log, including the records not yet durable
+   */
+  long size();
+
+  /**
+   * @return the number of syncs performed
+   */
+  long fsyncCount();
+
+  /**
+   * @return the total time spent syncing in nanoseconds
+   */
+  long fsyncTime();
+
+  /**
+   * @return the longest sync time in nanoseconds
+   */
+  long maxFsyncTime();
+
+  /**
+   * Close the log, the pending appends are completed before the file is closed.
+   *
+   * @return a future completed when the log is closed
+   */
+  Future<Void> close();
+
+}
@@ -22,6 +22,7 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.core.streams.WriteStream;
 
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -62,6 +63,21 @@ public interface AsyncFile extends ReadStream<Buffer>, WriteStream<Buffer> {
   @Override
   AsyncFile fetch(long amount);
 
+  /**
+   * Pipe this file to the {@code dst} stream, see {@link ReadStream#pipeTo(WriteStream)}.
+   * <p>
+   * A file opened for reading only is sent without being read by the application when {@code dst} is a socket or
+   * an HTTP/1.x response which head is not yet written. The file is opened again by path for the transfer: when the
+   * path does not denote the opened file anymore (e.g. it has been replaced or deleted) the file is streamed instead.
+   *
+   * @param dst the destination write stream
+   * @return a future notified when the write stream will be ended with the outcome
+   */
+  @Override
+  default Future<Void> pipeTo(WriteStream<Buffer> dst) {
+    return ReadStream.super.pipeTo(dst);
+  }
+
   /**
    * Close the file. The actual close happens asynchronously.
    *
@@ -100,6 +116,19 @@ public interface AsyncFile extends ReadStream<Buffer>, WriteStream<Buffer> {
    */
   Future<Buffer> read(Buffer buffer, int offset, long position, int length);
 
+  /**
+   * Reads several ranges of the file in a single operation, asynchronously.
+   * <p>
+   * Ranges close to each other are coalesced into a single read, the reads are issued concurrently with a bounded
+   * parallelism and the returned buffers are slices of a single buffer holding the data read.
+   * <p>
+   * A range read past the end of the file is truncated.
+   *
+   * @param ranges  the ranges to read
+   * @return a future notified with the data read, one buffer per range in the order of {@code ranges}
+   */
+  Future<List<Buffer>> readVectored(List<FileRange> ranges);
+
   /**
    * Flush any writes made to this file to underlying persistent storage.
    * <p>
@@ -157,6 +186,19 @@ public interface AsyncFile extends ReadStream<Buffer>, WriteStream<Buffer> {
   @Fluent
   AsyncFile setReadBufferSize(int readBufferSize);
 
+  /**
+   * Sets the number of reads performed ahead of the stream consumer, by default a single read is performed at a time.
+   * <p>
+   * When greater than {@code 1}, the reads are performed concurrently and delivered in order. The size of the reads
+   * grows from the read buffer size while the consumer keeps up with the stream, it is reset to the read buffer size
+   * when the stream is paused. This mode is suited to stream large files at disk speed, e.g. with {@link #pipeTo}.
+   *
+   * @param readAhead the number of reads, must be {@code >= 1}
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  AsyncFile setReadAhead(int readAhead);
+
   /**
    * Like {@link #size()} but blocking.
    *
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.file;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * The type of a {@link FileChangeEvent}.
+ */
+@VertxGen
+public enum FileChangeType {
+
+  /**
+   * The file has been created.
+   */
+  CREATED,
+
+  /**
+   * The file has been modified.
+   */
+  MODIFIED,
+
+  /**
+   * The file has been deleted.
+   */
+  DELETED,
+
+  /**
+   * Changes have been lost, the watched files should be scanned again.
+   */
+  OVERFLOW
+
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.file;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * An entry of a file tree, see {@link FileSystem#walk(String, FileWalkOptions)}.
+ */
+@VertxGen
+public interface FileEntry {
+
+  /**
+   * @return the path of the file
+   */
+  String path();
+
+  /**
+   * @return the properties of the file
+   */
+  FileProps props();
+
+}
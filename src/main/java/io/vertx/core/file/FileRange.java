@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.file;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * A range of a file, see {@link AsyncFile#readVectored(java.util.List)}.
+ */
+@DataObject(generateConverter = true, publicConverter = false)
+public class FileRange {
+
+  private long position;
+  private int length;
+
+  /**
+   * Default constructor.
+   */
+  public FileRange() {
+  }
+
+  /**
+   * Create a range.
+   *
+   * @param position the position in the file where the range starts
+   * @param length the length of the range
+   */
+  public FileRange(long position, int length) {
+    setPosition(position);
+    setLength(length);
+  }
+
+  /**
+   * Copy constructor.
+   *
+   * @param other the range to copy
+   */
+  public FileRange(FileRange other) {
+    this.position = other.position;
+    this.length = other.length;
+  }
+
+  /**
+   * Constructor to create a range from JSON.
+   *
+   * @param json the JSON
+   */
+  public FileRange(JsonObject json) {
+    this();
+    FileRangeConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return the position in the file where the range starts
+   */
+  public long getPosition() {
+    return position;
+  }
+
+  /**
+   * Set the position in the file where the range starts.
+   *
+   * @param position the position
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileRange setPosition(long position) {
+    if (position < 0) {
+      throw new IllegalArgumentException("position must be >= 0");
+    }
+    this.position = position;
+    return this;
+  }
+
+  /**
+   * @return the length of the range
+   */
+  public int getLength() {
+    return length;
+  }
+
+  /**
+   * Set the length of the range.
+   *
+   * @param length the length
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileRange setLength(int length) {
+    if (length < 0) {
+      throw new IllegalArgumentException("length must be >= 0");
+    }
+    this.length = length;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    FileRangeConverter.toJson(this, json);
+    return json;
+  }
+
+  @Override
+  public String toString() {
+    return "FileRange[position=" + position + ",length=" + length + "]";
+  }
+}
@@ -12,12 +12,15 @@
 package io.vertx.core.file;
 
 import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.MappedBuffer;
+import io.vertx.core.streams.ReadStream;
 
 import java.util.List;
 
@@ -434,6 +437,27 @@ public interface FileSystem {
    */
   Buffer readFileBlocking(String path) ;
 
+  /**
+   * Maps the region of the file represented by the path {@code path} in memory as a read-only {@link MappedBuffer},
+   * asynchronously.
+   * <p>
+   * The file content is not copied in the heap, the operating system loads it on access. This is the preferred way
+   * to serve or scan large files. The buffer must be unmapped with {@link MappedBuffer#unmap()} after use.
+   *
+   * @param path  path to the file
+   * @param offset  the position in the file at which the region starts
+   * @param length  the length of the region
+   * @return a future notified on completion
+   */
+  @GenIgnore
+  Future<MappedBuffer> mapFile(String path, long offset, int length);
+
+  /**
+   * Blocking version of {@link #mapFile(String, long, int)}
+   */
+  @GenIgnore
+  MappedBuffer mapFileBlocking(String path, long offset, int length);
+
   /**
    * Creates the file, and writes the specified {@code Buffer data} to the file represented by the path {@code path},
    * asynchronously.
@@ -507,6 +531,49 @@ public interface FileSystem {
    */
   boolean existsBlocking(String path) ;
 
+  /**
+   * Open the append only log represented by {@code path}, asynchronously.
+   * <p>
+   * The file is created if it does not exist, records are appended at the end of the file.
+   *
+   * @param path  path to the file
+   * @return a future notified on completion
+   */
+  Future<AppendLog> openAppendLog(String path);
+
+  /**
+   * Blocking version of {@link #openAppendLog(String)}
+   */
+  AppendLog openAppendLogBlocking(String path);
+
+  /**
+   * Watch the changes of the file or directory represented by {@code path}, asynchronously.
+   * <p>
+   * The changes are reported by the operating system when it supports it, a single thread polls the changes of all
+   * the watched files. When {@code path} is a directory, the changes of its entries are reported, including its sub
+   * directories when {@link FileWatchOptions#isRecursive()} is set.
+   * <p>
+   * The watcher is closed when the context it was created from is closed.
+   *
+   * @param path  path to the file or directory
+   * @param options  the watch options
+   * @return a future notified with the watcher on completion
+   */
+  Future<FileWatcher> watch(String path, FileWatchOptions options);
+
+  /**
+   * Walk the file tree rooted at {@code path} and stream its entries together with their properties.
+   * <p>
+   * The tree is walked depth first by batches of {@link FileWalkOptions#getBatchSize()} entries, the next batch is
+   * read when the previous one has been consumed. The walk starts when a handler is set on the stream, failures are
+   * reported to the stream exception handler.
+   *
+   * @param path  path to the directory to walk
+   * @param options  the walk options
+   * @return the stream of entries, the entry of {@code path} itself is not streamed
+   */
+  ReadStream<FileEntry> walk(String path, FileWalkOptions options);
+
   /**
    * Returns properties of the file-system being used by the specified {@code path}, asynchronously.
    *
@@ -47,9 +47,45 @@ public class FileSystemOptions {
    */
   public static final String DEFAULT_FILE_CACHING_DIR = System.getProperty(FileResolverImpl.CACHE_DIR_BASE_PROP_NAME, TMPDIR + File.separator + DEFAULT_CACHE_DIR_BASE);
 
+  /**
+   * The default size of the file system worker pool = {@code 0}, file system operations use the Vert.x shared pools.
+   */
+  public static final int DEFAULT_WORKER_POOL_SIZE = 0;
+
+  /**
+   * The default maximum number of file system operations waiting for a thread of the file system worker pool = {@link Integer#MAX_VALUE}
+   */
+  public static final int DEFAULT_WORKER_POOL_MAX_QUEUE_SIZE = Integer.MAX_VALUE;
+
+  /**
+   * The default size in bytes of the in-memory class path resource cache = {@code 0}, the cache is disabled.
+   */
+  public static final long DEFAULT_CLASS_PATH_RESOURCE_CACHE_SIZE = 0L;
+
+  /**
+   * The default maximum size in bytes of a class path resource held in memory = {@code 65536}
+   */
+  public static final int DEFAULT_CLASS_PATH_RESOURCE_MAX_SIZE = 64 * 1024;
+
+  /**
+   * The default maximum number of cached open file handles = {@code 0}, the cache is disabled.
+   */
+  public static final int DEFAULT_FILE_HANDLE_CACHE_SIZE = 0;
+
+  /**
+   * The default interval in milliseconds between the checks of a cached file handle = {@code 1000}
+   */
+  public static final long DEFAULT_FILE_HANDLE_CACHE_CHECK_INTERVAL = 1000L;
+
   private boolean classPathResolvingEnabled = DEFAULT_CLASS_PATH_RESOLVING_ENABLED;
   private boolean fileCachingEnabled = DEFAULT_FILE_CACHING_ENABLED;
   private String fileCacheDir = DEFAULT_FILE_CACHING_DIR;
+  private int workerPoolSize = DEFAULT_WORKER_POOL_SIZE;
+  private int workerPoolMaxQueueSize = DEFAULT_WORKER_POOL_MAX_QUEUE_SIZE;
+  private long classPathResourceCacheSize = DEFAULT_CLASS_PATH_RESOURCE_CACHE_SIZE;
+  private int classPathResourceMaxSize = DEFAULT_CLASS_PATH_RESOURCE_MAX_SIZE;
+  private int fileHandleCacheSize = DEFAULT_FILE_HANDLE_CACHE_SIZE;
+  private long fileHandleCacheCheckInterval = DEFAULT_FILE_HANDLE_CACHE_CHECK_INTERVAL;
 
   /**
    * Default constructor
@@ -66,6 +102,12 @@ public class FileSystemOptions {
     this.classPathResolvingEnabled = other.isClassPathResolvingEnabled();
     this.fileCachingEnabled = other.isFileCachingEnabled();
     this.fileCacheDir = other.getFileCacheDir();
+    this.workerPoolSize = other.getWorkerPoolSize();
+    this.workerPoolMaxQueueSize = other.getWorkerPoolMaxQueueSize();
+    this.classPathResourceCacheSize = other.getClassPathResourceCacheSize();
+    this.classPathResourceMaxSize = other.getClassPathResourceMaxSize();
+    this.fileHandleCacheSize = other.getFileHandleCacheSize();
+    this.fileHandleCacheCheckInterval = other.getFileHandleCacheCheckInterval();
   }
 
   /**
@@ -149,6 +191,150 @@ public class FileSystemOptions {
     return this;
   }
 
+  /**
+   * @return the size of the file system worker pool
+   */
+  public int getWorkerPoolSize() {
+    return workerPoolSize;
+  }
+
+  /**
+   * Set the size of the worker pool dedicated to the file system operations and to the {@link AsyncFile} I/O, so
+   * they don't compete with the blocking tasks of the application for the shared worker pools.
+   * <p>
+   * When {@code 0}, the file system uses the shared worker pools.
+   *
+   * @param workerPoolSize the pool size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileSystemOptions setWorkerPoolSize(int workerPoolSize) {
+    if (workerPoolSize < 0) {
+      throw new IllegalArgumentException("workerPoolSize must be >= 0");
+    }
+    this.workerPoolSize = workerPoolSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of file system operations waiting for a thread of the file system worker pool
+   */
+  public int getWorkerPoolMaxQueueSize() {
+    return workerPoolMaxQueueSize;
+  }
+
+  /**
+   * Set the maximum number of file system operations waiting for a thread of the file system worker pool, the
+   * operations submitted when the queue is full fail with a {@link FileSystemException}.
+   *
+   * @param workerPoolMaxQueueSize the queue size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileSystemOptions setWorkerPoolMaxQueueSize(int workerPoolMaxQueueSize) {
+    if (workerPoolMaxQueueSize < 1) {
+      throw new IllegalArgumentException("workerPoolMaxQueueSize must be > 0");
+    }
+    this.workerPoolMaxQueueSize = workerPoolMaxQueueSize;
+    return this;
+  }
+
+  /**
+   * @return the size in bytes of the in-memory class path resource cache
+   */
+  public long getClassPathResourceCacheSize() {
+    return classPathResourceCacheSize;
+  }
+
+  /**
+   * Set the size in bytes of the in-memory class path resource cache.
+   * <p>
+   * When greater than {@code 0}, the entries of the jars of the class path are indexed at startup and the content of
+   * the small class path resources read with {@link FileSystem#readFile(String)} is served from memory, instead of
+   * being looked up with the class loader and unpacked to the file cache directory. The least recently used resources
+   * are evicted when the cache is full.
+   * <p>
+   * The cache is only used when class path resolving and file caching are enabled.
+   *
+   * @param classPathResourceCacheSize the cache size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileSystemOptions setClassPathResourceCacheSize(long classPathResourceCacheSize) {
+    if (classPathResourceCacheSize < 0) {
+      throw new IllegalArgumentException("classPathResourceCacheSize must be >= 0");
+    }
+    this.classPathResourceCacheSize = classPathResourceCacheSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum size in bytes of a class path resource held in memory
+   */
+  public int getClassPathResourceMaxSize() {
+    return classPathResourceMaxSize;
+  }
+
+  /**
+   * Set the maximum size in bytes of a class path resource held in the in-memory cache, larger resources are
+   * unpacked to the file cache directory.
+   *
+   * @param classPathResourceMaxSize the maximum resource size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileSystemOptions setClassPathResourceMaxSize(int classPathResourceMaxSize) {
+    if (classPathResourceMaxSize < 0) {
+      throw new IllegalArgumentException("classPathResourceMaxSize must be >= 0");
+    }
+    this.classPathResourceMaxSize = classPathResourceMaxSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of cached open file handles
+   */
+  public int getFileHandleCacheSize() {
+    return fileHandleCacheSize;
+  }
+
+  /**
+   * Set the maximum number of cached open file handles.
+   * <p>
+   * When greater than {@code 0}, the files sent with {@code sendFile} and read with {@link FileSystem#readFile(String)}
+   * are kept open and shared by the concurrent operations, instead of being opened, stat-ed and closed by each
+   * operation. The least recently used handles are closed when the cache is full.
+   *
+   * @param fileHandleCacheSize the cache size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileSystemOptions setFileHandleCacheSize(int fileHandleCacheSize) {
+    if (fileHandleCacheSize < 0) {
+      throw new IllegalArgumentException("fileHandleCacheSize must be >= 0");
+    }
+    this.fileHandleCacheSize = fileHandleCacheSize;
+    return this;
+  }
+
+  /**
+   * @return the interval in milliseconds between the checks of a cached file handle
+   */
+  public long getFileHandleCacheCheckInterval() {
+    return fileHandleCacheCheckInterval;
+  }
+
+  /**
+   * Set the interval in milliseconds between the checks of a cached file handle, a handle used after this interval
+   * is checked against the size, the last modified time and the inode of the file and is opened again when the file
+   * has changed. Defaults to {@code 1000}.
+   *
+   * @param fileHandleCacheCheckInterval the interval in milliseconds, {@code 0} checks the file at each use
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileSystemOptions setFileHandleCacheCheckInterval(long fileHandleCacheCheckInterval) {
+    if (fileHandleCacheCheckInterval < 0) {
+      throw new IllegalArgumentException("fileHandleCacheCheckInterval must be >= 0");
+    }
+    this.fileHandleCacheCheckInterval = fileHandleCacheCheckInterval;
+    return this;
+  }
+
 
   @Override
   public String toString() {
@@ -156,6 +342,12 @@ public class FileSystemOptions {
     "classPathResolvingEnabled=" + classPathResolvingEnabled +
     ", fileCachingEnabled=" + fileCachingEnabled +
     ", fileCacheDir=" + fileCacheDir +
+    ", workerPoolSize=" + workerPoolSize +
+    ", workerPoolMaxQueueSize=" + workerPoolMaxQueueSize +
+    ", classPathResourceCacheSize=" + classPathResourceCacheSize +
+    ", classPathResourceMaxSize=" + classPathResourceMaxSize +
+    ", fileHandleCacheSize=" + fileHandleCacheSize +
+    ", fileHandleCacheCheckInterval=" + fileHandleCacheCheckInterval +
     '}';
   }
 }
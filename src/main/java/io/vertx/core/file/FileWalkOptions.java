@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.file;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Describes how a file tree is walked, see {@link FileSystem#walk(String, FileWalkOptions)}.
+ */
+@DataObject(generateConverter = true, publicConverter = false)
+public class FileWalkOptions {
+
+  /**
+   * The default maximum depth of the walk = {@code Integer.MAX_VALUE}.
+   */
+  public static final int DEFAULT_MAX_DEPTH = Integer.MAX_VALUE;
+
+  /**
+   * Whether symbolic links are followed by default = false.
+   */
+  public static final boolean DEFAULT_FOLLOW_LINKS = false;
+
+  /**
+   * The default number of entries read by a single blocking task = 256.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 256;
+
+  private int maxDepth = DEFAULT_MAX_DEPTH;
+  private boolean followLinks = DEFAULT_FOLLOW_LINKS;
+  private String filter;
+  private int batchSize = DEFAULT_BATCH_SIZE;
+
+  /**
+   * Default constructor.
+   */
+  public FileWalkOptions() {
+  }
+
+  /**
+   * Copy constructor.
+   *
+   * @param other the options to copy
+   */
+  public FileWalkOptions(FileWalkOptions other) {
+    this.maxDepth = other.maxDepth;
+    this.followLinks = other.followLinks;
+    this.filter = other.filter;
+    this.batchSize = other.batchSize;
+  }
+
+  /**
+   * Constructor to create options from JSON.
+   *
+   * @param json the JSON
+   */
+  public FileWalkOptions(JsonObject json) {
+    this();
+    FileWalkOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return the maximum number of directory levels to visit
+   */
+  public int getMaxDepth() {
+    return maxDepth;
+  }
+
+  /**
+   * Set the maximum number of directory levels to visit, {@code 1} visits only the entries of the walked directory.
+   * Defaults to {@code Integer.MAX_VALUE}.
+   *
+   * @param maxDepth the maximum depth
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileWalkOptions setMaxDepth(int maxDepth) {
+    if (maxDepth < 0) {
+      throw new IllegalArgumentException("maxDepth must be >= 0");
+    }
+    this.maxDepth = maxDepth;
+    return this;
+  }
+
+  /**
+   * @return whether symbolic links are followed
+   */
+  public boolean isFollowLinks() {
+    return followLinks;
+  }
+
+  /**
+   * Whether symbolic links are followed, when set the properties of an entry are those of the link target and linked
+   * directories are visited. Defaults to {@code false}.
+   *
+   * @param followLinks true to follow symbolic links
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileWalkOptions setFollowLinks(boolean followLinks) {
+    this.followLinks = followLinks;
+    return this;
+  }
+
+  /**
+   * @return the regular expression the names of the streamed entries must match
+   */
+  public String getFilter() {
+    return filter;
+  }
+
+  /**
+   * Set a regular expression the file name of an entry must match to be streamed, like
+   * {@link FileSystem#readDir(String, String)}. Directories that do not match are still visited.
+   *
+   * @param filter the regular expression or {@code null} to stream all entries
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileWalkOptions setFilter(String filter) {
+    this.filter = filter;
+    return this;
+  }
+
+  /**
+   * @return the number of entries read by a single blocking task
+   */
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  /**
+   * Set the number of entries read by a single blocking task, the entries of a batch are written to the stream
+   * together. Defaults to {@code 256}.
+   *
+   * @param batchSize the batch size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileWalkOptions setBatchSize(int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("batchSize must be > 0");
+    }
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    FileWalkOptionsConverter.toJson(this, json);
+    return json;
+  }
+}
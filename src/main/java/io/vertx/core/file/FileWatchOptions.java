@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.file;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Describes how files are watched, see {@link FileSystem#watch(String, FileWatchOptions)}.
+ */
+@DataObject(generateConverter = true, publicConverter = false)
+public class FileWatchOptions {
+
+  /**
+   * Whether the sub directories of a watched directory are watched by default = false.
+   */
+  public static final boolean DEFAULT_RECURSIVE = false;
+
+  /**
+   * The default time in milliseconds during which the changes of a file are coalesced = 100.
+   */
+  public static final long DEFAULT_COALESCING_DELAY = 100L;
+
+  private boolean recursive = DEFAULT_RECURSIVE;
+  private long coalescingDelay = DEFAULT_COALESCING_DELAY;
+
+  /**
+   * Default constructor.
+   */
+  public FileWatchOptions() {
+  }
+
+  /**
+   * Copy constructor.
+   *
+   * @param other the options to copy
+   */
+  public FileWatchOptions(FileWatchOptions other) {
+    this.recursive = other.recursive;
+    this.coalescingDelay = other.coalescingDelay;
+  }
+
+  /**
+   * Constructor to create options from JSON.
+   *
+   * @param json the JSON
+   */
+  public FileWatchOptions(JsonObject json) {
+    this();
+    FileWatchOptionsConverter.fromJson(json, this);
+  }
+
+  /**
+   * @return whether the sub directories of a watched directory are watched
+   */
+  public boolean isRecursive() {
+    return recursive;
+  }
+
+  /**
+   * Whether the sub directories of a watched directory are watched, including the directories created afterward.
+   * Defaults to {@code false}.
+   *
+   * @param recursive true to watch the sub directories
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileWatchOptions setRecursive(boolean recursive) {
+    this.recursive = recursive;
+    return this;
+  }
+
+  /**
+   * @return the time in milliseconds during which the changes of a file are coalesced
+   */
+  public long getCoalescingDelay() {
+    return coalescingDelay;
+  }
+
+  /**
+   * Set the time in milliseconds during which the changes of a file are coalesced in a single event, e.g. a file
+   * written several times is reported once as modified and a file created then deleted is not reported. Defaults
+   * to {@code 100}.
+   *
+   * @param coalescingDelay the delay in milliseconds, {@code 0} to report the changes as they are notified
+   * @return a reference to this, so the API can be used fluently
+   */
+  public FileWatchOptions setCoalescingDelay(long coalescingDelay) {
+    if (coalescingDelay < 0) {
+      throw new IllegalArgumentException("coalescingDelay must be >= 0");
+    }
+    this.coalescingDelay = coalescingDelay;
+    return this;
+  }
+
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    FileWatchOptionsConverter.toJson(this, json);
+    return json;
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.file;
+
+import io.vertx.codegen.annotations.Nullable;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.streams.ReadStream;
+
+/**
+ * A stream of the changes of watched files, see {@link FileSystem#watch(String, FileWatchOptions)}.
+ * <p>
+ * The stream ends when the watcher is closed.
+ */
+@VertxGen
+public interface FileWatcher extends ReadStream<FileChangeEvent> {
+
+  @Override
+  FileWatcher exceptionHandler(@Nullable Handler<Throwable> handler);
+
+  @Override
+  FileWatcher handler(@Nullable Handler<FileChangeEvent> handler);
+
+  @Override
+  FileWatcher pause();
+
+  @Override
+  FileWatcher resume();
+
+  @Override
+  FileWatcher fetch(long amount);
+
+  @Override
+  FileWatcher endHandler(@Nullable Handler<Void> endHandler);
+
+  /**
+   * Stop watching the files.
+   *
+   * @return a future completed when the watcher is closed
+   */
+  Future<Void> close();
+
+}
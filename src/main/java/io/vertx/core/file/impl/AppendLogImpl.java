@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.file.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferInternal;
+import io.vertx.core.file.AppendLog;
+import io.vertx.core.file.FileSystemException;
+import io.vertx.core.impl.Arguments;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The batch of records appended while the previous batch is synced is written with a single gathering write followed
+ * by a single {@link FileChannel#force(boolean)}, both performed by one blocking task.
+ */
+public class AppendLogImpl implements AppendLog {
+
+  private final VertxInternal vertx;
+  private final ContextInternal context;
+  private final FileChannel channel;
+  private long position;
+  private List<PendingAppend> batch = new ArrayList<>();
+  private boolean syncing;
+  private long maxLatency;
+  private long timerId = -1L;
+  private Throwable failure;
+  private Promise<Void> closePromise;
+  private volatile long fsyncCount;
+  private volatile long fsyncTime;
+  private volatile long maxFsyncTime;
+
+  AppendLogImpl(VertxInternal vertx, String path, ContextInternal context) {
+    this.vertx = vertx;
+    this.context = context;
+    try {
+      channel = FileChannel.open(Paths.get(path), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+      position = channel.size();
+      channel.position(position);
+    } catch (IOException e) {
+      throw new FileSystemException(FileSystemImpl.getFileAccessErrorMessage("open", path), e);
+    }
+  }
+
+  @Override
+  public synchronized Future<Long> append(Buffer record) {
+    if (closePromise != null) {
+      return context.failedFuture("Append log closed");
+    }
+    if (failure != null) {
+      return context.failedFuture(failure);
+    }
+    PendingAppend append = new PendingAppend(((BufferInternal) record).getByteBuf().nioBuffer(), context.promise());
+    batch.add(append);
+    if (!syncing) {
+      if (maxLatency == 0L) {
+        commit();
+      } else if (timerId == -1L) {
+        timerId = vertx.setTimer(maxLatency, id -> {
+          synchronized (AppendLogImpl.this) {
+            timerId = -1L;
+            if (!syncing && !batch.isEmpty()) {
+              commit();
+            }
+          }
+        });
+      }
+    }
+    return append.promise.future();
+  }
+
+  @Override
+  public synchronized AppendLog setMaxLatency(long maxLatency) {
+    Arguments.require(maxLatency >= 0L, "maxLatency must be >= 0");
+    this.maxLatency = maxLatency;
+    return this;
+  }
+
+  @Override
+  public synchronized long size() {
+    return position;
+  }
+
+  @Override
+  public long fsyncCount() {
+    return fsyncCount;
+  }
+
+  @Override
+  public long fsyncTime() {
+    return fsyncTime;
+  }
+
+  @Override
+  public long maxFsyncTime() {
+    return maxFsyncTime;
+  }
+
+  @Override
+  public synchronized Future<Void> close() {
+    if (closePromise == null) {
+      closePromise = context.promise();
+      if (!syncing) {
+        if (batch.isEmpty()) {
+          doClose();
+        } else {
+          commit();
+        }
+      }
+    }
+    return closePromise.future();
+  }
+
+  private void commit() {
+    if (timerId != -1L) {
+      vertx.cancelTimer(timerId);
+      timerId = -1L;
+    }
+    List<PendingAppend> records = batch;
+    batch = new ArrayList<>();
+    syncing = true;
+    ByteBuffer[] buffers = new ByteBuffer[records.size()];
+    long start = position;
+    for (int i = 0;i < buffers.length;i++) {
+      PendingAppend append = records.get(i);
+      append.position = position;
+      position += append.buffer.remaining();
+      buffers[i] = append.buffer;
+    }
+    long length = position - start;
+    FileSystemImpl.<Void>executeBlocking(context, () -> {
+      long written = 0L;
+      while (written < length) {
+        written += channel.write(buffers);
+      }
+      long syncStart = System.nanoTime();
+      channel.force(false);
+      long time = System.nanoTime() - syncStart;
+      fsyncCount++;
+      fsyncTime += time;
+      maxFsyncTime = Math.max(maxFsyncTime, time);
+      return null;
+    }).onComplete(ar -> handleCommit(records, ar));
+  }
+
+  private void handleCommit(List<PendingAppend> records, AsyncResult<Void> ar) {
+    List<PendingAppend> failed = null;
+    synchronized (this) {
+      syncing = false;
+      if (ar.failed()) {
+        // The file content is unknown after a failed write or sync
+        failure = ar.cause();
+        failed = batch;
+        batch = new ArrayList<>();
+      }
+      if (!batch.isEmpty()) {
+        commit();
+      } else if (closePromise != null) {
+        doClose();
+      }
+    }
+    for (PendingAppend append : records) {
+      if (ar.succeeded()) {
+        append.promise.complete(append.position);
+      } else {
+        append.promise.fail(ar.cause());
+      }
+    }
+    if (failed != null) {
+      for (PendingAppend append : failed) {
+        append.promise.fail(ar.cause());
+      }
+    }
+  }
+
+  private void doClose() {
+    FileSystemImpl.<Void>executeBlocking(context, () -> {
+      channel.close();
+      return null;
+    }).onComplete(closePromise);
+  }
+
+  private static class PendingAppend {
+
+    final ByteBuffer buffer;
+    final Promise<Long> promise;
+    long position;
+
+    PendingAppend(ByteBuffer buffer, Promise<Long> promise) {
+      this.buffer = buffer;
+      this.promise = promise;
+    }
+  }
+}
@@ -19,30 +19,41 @@ import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.buffer.impl.BufferInternal;
+import io.vertx.core.buffer.impl.VertxByteBufAllocator;
 import io.vertx.core.file.AsyncFile;
 import io.vertx.core.file.AsyncFileLock;
+import io.vertx.core.file.FileRange;
 import io.vertx.core.file.FileSystemException;
 import io.vertx.core.file.OpenOptions;
 import io.vertx.core.impl.Arguments;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.impl.WorkerPool;
 import io.vertx.core.impl.future.PromiseInternal;
 import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
+import io.vertx.core.net.impl.FileTransferStream;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.core.streams.impl.InboundBuffer;
 
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.CompletionHandler;
 import java.nio.channels.FileLock;
+import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.FileAttribute;
 import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -63,7 +74,13 @@ public class AsyncFileImpl implements AsyncFile {
 
   public static final int DEFAULT_READ_BUFFER_SIZE = 8192;
 
+  /**
+   * The maximum size the read buffer grows to when reading ahead.
+   */
+  public static final int MAX_READ_AHEAD_BUFFER_SIZE = 1024 * 1024;
+
   private final VertxInternal vertx;
+  private final String path;
   private final AsynchronousFileChannel ch;
   private final ContextInternal context;
   private boolean closed;
@@ -76,17 +93,24 @@ public class AsyncFileImpl implements AsyncFile {
   private int maxWrites = 128 * 1024;    // TODO - we should tune this for best performance
   private int lwm = maxWrites / 2;
   private int readBufferSize = DEFAULT_READ_BUFFER_SIZE;
+  private int readAhead = 1;
+  private int readSize = DEFAULT_READ_BUFFER_SIZE;
+  private final ArrayDeque<PendingRead> pendingReads = new ArrayDeque<>();
+  private long issuePos;
+  private long issueLength;
   private InboundBuffer<Buffer> queue;
   private Handler<Buffer> handler;
   private Handler<Void> endHandler;
   private long readPos;
   private long readLength = Long.MAX_VALUE;
+  private final Object fileKey; // Identifies a file opened for reading only, null when it cannot be transferred
 
   AsyncFileImpl(VertxInternal vertx, String path, OpenOptions options, ContextInternal context) {
     if (!options.isRead() && !options.isWrite()) {
       throw new FileSystemException("Cannot open file for neither reading nor writing");
     }
     this.vertx = vertx;
+    this.path = path;
     Path file = Paths.get(path);
     HashSet<OpenOption> opts = new HashSet<>();
     if (options.isRead()) opts.add(StandardOpenOption.READ);
@@ -98,14 +122,19 @@ public class AsyncFileImpl implements AsyncFile {
     if (options.isDeleteOnClose()) opts.add(StandardOpenOption.DELETE_ON_CLOSE);
     if (options.isSparse()) opts.add(StandardOpenOption.SPARSE);
     if (options.isTruncateExisting()) opts.add(StandardOpenOption.TRUNCATE_EXISTING);
+    WorkerPool workerPool = vertx.getFileSystemWorkerPool();
+    if (workerPool == null) {
+      workerPool = vertx.getWorkerPool();
+    }
     try {
       if (options.getPerms() != null) {
         FileAttribute<?> attrs = PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(options.getPerms()));
-        ch = AsynchronousFileChannel.open(file, opts, vertx.getWorkerPool().executor(), attrs);
+        ch = AsynchronousFileChannel.open(file, opts, workerPool.executor(), attrs);
       } else {
-        ch = AsynchronousFileChannel.open(file, opts, vertx.getWorkerPool().executor());
+        ch = AsynchronousFileChannel.open(file, opts, workerPool.executor());
       }
       if (options.isAppend()) writePos = ch.size();
+      fileKey = options.isWrite() ? null : fileKey(file);
     } catch (IOException e) {
       throw new FileSystemException(FileSystemImpl.getFileAccessErrorMessage("open", path), e);
     }
@@ -150,6 +179,95 @@ public class AsyncFileImpl implements AsyncFile {
     return promise.future();
   }
 
+  @Override
+  public Future<List<Buffer>> readVectored(List<FileRange> ranges) {
+    Objects.requireNonNull(ranges, "ranges");
+    check();
+    Promise<List<Buffer>> promise = context.promise();
+    new VectoredRead(ch, new ArrayList<>(ranges), promise).start();
+    return promise.future();
+  }
+
+  /**
+   * Send the file to the destination without reading it when the destination supports it, the file region is
+   * transferred by the kernel ({@code sendfile}) when the connection is not encrypted.
+   * <p>
+   * The destination needs its own descriptor of the file: the file is opened again by path in a blocking task and
+   * the transfer only happens when the path still denotes the file opened by this instance, otherwise the file is
+   * streamed. Only files opened for reading only are transferred, the content of a file being written is streamed.
+   */
+  @Override
+  public Future<Void> pipeTo(WriteStream<Buffer> dst) {
+    if (fileKey == null || !(dst instanceof FileTransferStream) || !((FileTransferStream) dst).canTransferFile() || !canTransferFile()) {
+      return streamTo(dst);
+    }
+    FileTransferStream transferStream = (FileTransferStream) dst;
+    return FileSystemImpl.executeBlocking(context, () -> {
+      RandomAccessFile raf = new RandomAccessFile(path, "r");
+      try {
+        if (!fileKey.equals(Files.readAttributes(Paths.get(path), BasicFileAttributes.class).fileKey())) {
+          throw new FileSystemException("File " + path + " has been replaced");
+        }
+        return new FileTransfer(raf, raf.length());
+      } catch (Exception e) {
+        raf.close();
+        throw e;
+      }
+    }).transform(ar -> {
+      if (ar.failed()) {
+        return streamTo(dst);
+      }
+      FileTransfer transfer = ar.result();
+      long offset;
+      long length;
+      synchronized (this) {
+        if (!canTransferFile() || !transferStream.canTransferFile()) {
+          transfer.close();
+          return streamTo(dst);
+        }
+        offset = Math.min(readPos, transfer.size);
+        length = Math.min(readLength, transfer.size - offset);
+        readPos += length;
+        readLength -= length;
+      }
+      return transferStream.transferFile(transfer.raf, offset, length);
+    });
+  }
+
+  private static Object fileKey(Path file) {
+    try {
+      return Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private synchronized boolean canTransferFile() {
+    return !closed && handler == null && pendingReads.isEmpty();
+  }
+
+  private Future<Void> streamTo(WriteStream<Buffer> dst) {
+    return AsyncFile.super.pipeTo(dst);
+  }
+
+  private static class FileTransfer {
+
+    final RandomAccessFile raf;
+    final long size;
+
+    FileTransfer(RandomAccessFile raf, long size) {
+      this.raf = raf;
+      this.size = size;
+    }
+
+    void close() {
+      try {
+        raf.close();
+      } catch (IOException ignore) {
+      }
+    }
+  }
+
   @Override
   public AsyncFile fetch(long amount) {
     queue.fetch(amount);
@@ -235,6 +353,14 @@ public class AsyncFileImpl implements AsyncFile {
   @Override
   public synchronized AsyncFile setReadBufferSize(int readBufferSize) {
     this.readBufferSize = readBufferSize;
+    this.readSize = readBufferSize;
+    return this;
+  }
+
+  @Override
+  public synchronized AsyncFile setReadAhead(int readAhead) {
+    Arguments.require(readAhead >= 1, "readAhead must be >= 1");
+    this.readAhead = readAhead;
     return this;
   }
 
@@ -361,31 +487,94 @@ public class AsyncFileImpl implements AsyncFile {
     }
   }
 
-  private void doRead() {
-    doRead(ByteBuffer.allocate(readBufferSize));
+  /**
+   * Issue reads until {@code readAhead} reads are pending, the reads complete in any order and are delivered to the
+   * stream in file order by {@link #handleRead}.
+   */
+  private synchronized void doRead() {
+    if (pendingReads.isEmpty()) {
+      issuePos = readPos;
+      issueLength = readLength;
+    }
+    while (pendingReads.size() < readAhead) {
+      int size = (int) Math.min((long) readSize, issueLength);
+      PendingRead read = new PendingRead(size);
+      pendingReads.add(read);
+      Promise<Buffer> promise = context.promise();
+      promise.future().onComplete(ar -> handleRead(read, ar));
+      doRead(read, read.byteBuf.nioBuffer(0, size), issuePos, promise);
+      if (size == 0) {
+        break;
+      }
+      issuePos += size;
+      issueLength -= size;
+    }
   }
 
-  private synchronized void doRead(ByteBuffer bb) {
-    Buffer buff = Buffer.buffer(readBufferSize);
-    int readSize = (int) Math.min((long)readBufferSize, readLength);
-    bb.limit(readSize);
-    Promise<Buffer> promise = context.promise();
-    promise.future().onComplete(ar -> {
-      if (ar.succeeded()) {
-        Buffer buffer = ar.result();
+  private void handleRead(PendingRead read, AsyncResult<Buffer> ar) {
+    boolean accepted = true;
+    Throwable failure = null;
+    synchronized (this) {
+      read.result = ar;
+      if (pendingReads.peek() != read) {
+        // Delivered when the preceding reads complete or discarded
+        return;
+      }
+    }
+    while (true) {
+      Buffer buffer;
+      synchronized (this) {
+        PendingRead head = pendingReads.peek();
+        if (head == null || head.result == null) {
+          break;
+        }
+        pendingReads.poll();
+        if (head.result.failed()) {
+          pendingReads.clear();
+          failure = head.result.cause();
+          break;
+        }
+        buffer = head.result.result();
         readPos += buffer.length();
         readLength -= buffer.length();
-        // Empty buffer represents end of file
-        if (queue.write(buffer) && buffer.length() > 0) {
-          doRead(bb);
+        if (buffer.length() == 0 || buffer.length() < head.size) {
+          // End of file, the following reads are empty
+          pendingReads.clear();
+        }
+        if (readAhead > 1) {
+          // Larger reads while the stream consumer keeps up
+          readSize = accepted && buffer.length() == head.size ? Math.min(readSize * 2, Math.max(readBufferSize, MAX_READ_AHEAD_BUFFER_SIZE)) : readBufferSize;
         }
-      } else {
-        handleException(ar.cause());
       }
-    });
-    doRead(buff, 0, bb, readPos, promise);
+      // Empty buffer represents end of file
+      accepted = queue.write(buffer);
+      if (buffer.length() == 0) {
+        return;
+      }
+    }
+    if (failure != null) {
+      handleException(failure);
+    } else if (accepted) {
+      doRead();
+    }
   }
 
+  private void doRead(PendingRead read, ByteBuffer buff, long position, Promise<Buffer> promise) {
+    ch.read(buff, position, null, new CompletionHandler<Integer, Object>() {
+      public void completed(Integer bytesRead, Object attachment) {
+        if (bytesRead == -1 || !buff.hasRemaining()) {
+          promise.complete(read.buffer(buff.position()));
+        } else {
+          // partial read
+          doRead(read, buff, position + bytesRead, promise);
+        }
+      }
+
+      public void failed(Throwable t, Object attachment) {
+        promise.fail(t);
+      }
+    });
+  }
 
   private void handleBuffer(Buffer buff) {
     Handler<Buffer> handler;
@@ -412,7 +601,7 @@ public class AsyncFileImpl implements AsyncFile {
 
   private synchronized void doFlush(Handler<AsyncResult<Void>> handler) {
     checkClosed();
-    context.<Void>executeBlockingInternal(() -> {
+    FileSystemImpl.<Void>executeBlocking(context, () -> {
       try {
         ch.force(false);
         return null;
@@ -525,7 +714,7 @@ public class AsyncFileImpl implements AsyncFile {
   }
 
   private void doClose(Handler<AsyncResult<Void>> handler) {
-    context.<Void>executeBlockingInternal(() -> {
+    FileSystemImpl.<Void>executeBlocking(context, () -> {
       ch.close();
       return null;
     }).onComplete(handler);
@@ -554,7 +743,7 @@ public class AsyncFileImpl implements AsyncFile {
 
   @Override
   public Future<Long> size() {
-    return vertx.getOrCreateContext().executeBlockingInternal(this::sizeBlocking);
+    return FileSystemImpl.executeBlocking(vertx.getOrCreateContext(), this::sizeBlocking);
   }
 
   @Override
@@ -566,6 +755,26 @@ public class AsyncFileImpl implements AsyncFile {
     }
   }
 
+  /**
+   * A read of the stream, the file content is read directly in the memory of the buffer delivered to the stream.
+   */
+  private static class PendingRead {
+
+    final int size;
+    final ByteBuf byteBuf;
+    AsyncResult<Buffer> result;
+
+    PendingRead(int size) {
+      this.size = size;
+      this.byteBuf = VertxByteBufAllocator.DEFAULT.heapBuffer(size);
+    }
+
+    Buffer buffer(int length) {
+      byteBuf.writerIndex(length);
+      return BufferInternal.buffer(byteBuf);
+    }
+  }
+
   private static CompletionHandler<FileLock, PromiseInternal<AsyncFileLock>> LOCK_COMPLETION = new CompletionHandler<FileLock, PromiseInternal<AsyncFileLock>>() {
     @Override
     public void completed(FileLock result, PromiseInternal<AsyncFileLock> p) {
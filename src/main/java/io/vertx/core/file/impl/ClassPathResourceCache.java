@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.file.impl;
+
+import io.vertx.core.impl.logging.Logger;
+import io.vertx.core.impl.logging.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * An index of the class path entries with a bounded cache of the content of the small resources.
+ * <p>
+ * The entries of the jars of the class path are indexed when the cache is created, the jars are kept open so a
+ * resource is read without scanning the jar again. The directories of the class path are not indexed, a resource is
+ * looked up in the directories that precede the indexed jar in the class path, preserving the class loader lookup
+ * order.
+ */
+class ClassPathResourceCache {
+
+  private static final Logger log = LoggerFactory.getLogger(ClassPathResourceCache.class);
+
+  private final long maxSize;
+  private final int maxResourceSize;
+  private final List<File> directories = new ArrayList<>();
+  private final List<ZipFile> jars = new ArrayList<>();
+  private final Map<String, JarResource> index = new HashMap<>();
+  private final LinkedHashMap<String, byte[]> contents = new LinkedHashMap<>(16, 0.75f, true);
+  private long size;
+
+  ClassPathResourceCache(String classPath, long maxSize, int maxResourceSize) {
+    this.maxSize = maxSize;
+    this.maxResourceSize = maxResourceSize;
+    if (classPath != null) {
+      for (String element : classPath.split(File.pathSeparator)) {
+        if (element.isEmpty()) {
+          continue;
+        }
+        File file = new File(element);
+        if (file.isDirectory()) {
+          directories.add(file);
+        } else if (file.isFile()) {
+          indexJar(file);
+        }
+      }
+    }
+  }
+
+  private void indexJar(File file) {
+    ZipFile zip;
+    try {
+      zip = new ZipFile(file);
+    } catch (IOException e) {
+      log.debug("Cannot index class path element " + file, e);
+      return;
+    }
+    jars.add(zip);
+    int position = directories.size();
+    Enumeration<? extends ZipEntry> entries = zip.entries();
+    while (entries.hasMoreElements()) {
+      ZipEntry entry = entries.nextElement();
+      if (!entry.isDirectory()) {
+        // The first jar of the class path wins
+        index.putIfAbsent(entry.getName(), new JarResource(zip, entry, position));
+      }
+    }
+  }
+
+  /**
+   * Get the content of a resource.
+   *
+   * @param name the resource name, using {@code /} as separator
+   * @return the content or {@code null} when the resource is unknown or too large to be held in memory
+   */
+  byte[] get(String name) throws IOException {
+    if (name.contains("..")) {
+      // Let the class loader lookup handle it
+      return null;
+    }
+    synchronized (this) {
+      byte[] content = contents.get(name);
+      if (content != null) {
+        return content;
+      }
+    }
+    JarResource resource = index.get(name);
+    int lookup = resource != null ? resource.position : directories.size();
+    for (int i = 0;i < lookup;i++) {
+      File file = new File(directories.get(i), name);
+      if (file.isFile()) {
+        return file.length() <= maxResourceSize ? cache(name, Files.readAllBytes(file.toPath())) : null;
+      }
+    }
+    if (resource == null) {
+      return null;
+    }
+    long resourceSize = resource.entry.getSize();
+    if (resourceSize < 0 || resourceSize > maxResourceSize) {
+      return null;
+    }
+    byte[] content = new byte[(int) resourceSize];
+    try (InputStream is = resource.zip.getInputStream(resource.entry)) {
+      int read = 0;
+      while (read < content.length) {
+        int n = is.read(content, read, content.length - read);
+        if (n < 0) {
+          throw new IOException("Truncated entry " + name);
+        }
+        read += n;
+      }
+    }
+    return cache(name, content);
+  }
+
+  private synchronized byte[] cache(String name, byte[] content) {
+    if (content.length > maxSize) {
+      return content;
+    }
+    byte[] prev = contents.put(name, content);
+    size += content.length - (prev != null ? prev.length : 0);
+    if (size > maxSize) {
+      // Evict the least recently used resources
+      for (Iterator<byte[]> it = contents.values().iterator(); size > maxSize && it.hasNext();) {
+        size -= it.next().length;
+        it.remove();
+      }
+    }
+    return content;
+  }
+
+  /**
+   * @return the number of bytes held in memory
+   */
+  synchronized long size() {
+    return size;
+  }
+
+  void close() {
+    synchronized (this) {
+      contents.clear();
+      size = 0L;
+    }
+    for (ZipFile zip : jars) {
+      try {
+        zip.close();
+      } catch (IOException e) {
+        // Ignored.
+      }
+    }
+  }
+
+  private static class JarResource {
+
+    private final ZipFile zip;
+    private final ZipEntry entry;
+    // The number of class path directories preceding the jar
+    private final int position;
+
+    JarResource(ZipFile zip, ZipEntry entry, int position) {
+      this.zip = zip;
+      this.entry = entry;
+      this.position = position;
+    }
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.file.impl;
+
+import io.vertx.core.file.FileChangeEvent;
+import io.vertx.core.file.FileChangeType;
+
+public class FileChangeEventImpl implements FileChangeEvent {
+
+  private final FileChangeType type;
+  private final String path;
+
+  public FileChangeEventImpl(FileChangeType type, String path) {
+    this.type = type;
+    this.path = path;
+  }
+
+  @Override
+  public FileChangeType type() {
+    return type;
+  }
+
+  @Override
+  public String path() {
+    return path;
+  }
+
+  @Override
+  public String toString() {
+    return "FileChangeEvent[type=" + type + ", path=" + path + "]";
+  }
+}
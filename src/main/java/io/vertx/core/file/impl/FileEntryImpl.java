@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.file.impl;
+
+import io.vertx.core.file.FileEntry;
+import io.vertx.core.file.FileProps;
+
+public class FileEntryImpl implements FileEntry {
+
+  private final String path;
+  private final FileProps props;
+
+  public FileEntryImpl(String path, FileProps props) {
+    this.path = path;
+    this.props = props;
+  }
+
+  @Override
+  public String path() {
+    return path;
+  }
+
+  @Override
+  public FileProps props() {
+    return props;
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.file.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded cache of open read-only file handles keyed by path, so hot files are not opened, stat-ed and closed for
+ * each read.
+ * <p>
+ * A handle is reference counted, the cache holds a reference as long as the handle is cached and each user holds a
+ * reference until it {@link FileHandle#release() releases} it, the file is closed when the last reference is released.
+ * The reads of a shared handle must be positional.
+ * <p>
+ * A cached handle is checked against the file attributes (size, last modified time and file key, i.e. the inode) at
+ * most once per check interval, a changed or deleted file is evicted and opened again.
+ */
+public class FileHandleCache {
+
+  private final int maxSize;
+  private final long checkIntervalNanos;
+  private final LinkedHashMap<String, FileHandle> handles = new LinkedHashMap<>(16, 0.75f, true);
+  private boolean closed;
+
+  /**
+   * @param maxSize the maximum number of cached handles
+   * @param checkInterval the interval in milliseconds between the checks of a cached handle
+   */
+  public FileHandleCache(int maxSize, long checkInterval) {
+    this.maxSize = maxSize;
+    this.checkIntervalNanos = TimeUnit.MILLISECONDS.toNanos(checkInterval);
+  }
+
+  /**
+   * Acquire a handle of a regular {@code file}, the handle must be released after use.
+   *
+   * @param file the file
+   * @return the handle
+   * @throws IOException when the file does not exist or is not a regular file
+   */
+  public FileHandle acquire(File file) throws IOException {
+    String key = file.getAbsolutePath();
+    long now = System.nanoTime();
+    FileHandle cached;
+    synchronized (this) {
+      cached = handles.get(key);
+      if (cached != null && now - cached.checked < checkIntervalNanos) {
+        cached.refCnt++;
+        return cached;
+      }
+    }
+    if (cached != null) {
+      BasicFileAttributes attrs;
+      try {
+        attrs = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+      } catch (IOException e) {
+        attrs = null;
+      }
+      synchronized (this) {
+        if (handles.get(key) == cached) {
+          if (attrs != null && cached.matches(attrs)) {
+            cached.checked = now;
+            cached.refCnt++;
+            return cached;
+          }
+          handles.remove(key);
+          cached.release0();
+        }
+      }
+    }
+    FileHandle handle = open(file, now);
+    synchronized (this) {
+      if (closed) {
+        // Not cached
+        return handle;
+      }
+      FileHandle prev = handles.put(key, handle);
+      if (prev != null) {
+        prev.release0();
+      }
+      // The cache reference
+      handle.refCnt++;
+      if (handles.size() > maxSize) {
+        // Evict the least recently used handles
+        for (Iterator<FileHandle> it = handles.values().iterator(); handles.size() > maxSize && it.hasNext();) {
+          FileHandle evicted = it.next();
+          it.remove();
+          evicted.release0();
+        }
+      }
+    }
+    return handle;
+  }
+
+  private FileHandle open(File file, long now) throws IOException {
+    // Fails when the file is not a regular file
+    RandomAccessFile raf = new RandomAccessFile(file, "r");
+    try {
+      BasicFileAttributes attrs = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+      return new FileHandle(raf, attrs, now);
+    } catch (IOException e) {
+      raf.close();
+      throw e;
+    }
+  }
+
+  /**
+   * @return the number of cached handles
+   */
+  public synchronized int size() {
+    return handles.size();
+  }
+
+  /**
+   * Close the cache, the handles in use are closed when they are released.
+   */
+  public synchronized void close() {
+    closed = true;
+    for (FileHandle handle : handles.values()) {
+      handle.release0();
+    }
+    handles.clear();
+  }
+
+  /**
+   * A shared read-only handle of a file.
+   */
+  public class FileHandle {
+
+    private final RandomAccessFile raf;
+    private final long length;
+    private final long lastModified;
+    private final Object fileKey;
+    private long checked;
+    private int refCnt = 1;
+
+    private FileHandle(RandomAccessFile raf, BasicFileAttributes attrs, long checked) {
+      this.raf = raf;
+      this.length = attrs.size();
+      this.lastModified = attrs.lastModifiedTime().toMillis();
+      this.fileKey = attrs.fileKey();
+      this.checked = checked;
+    }
+
+    private boolean matches(BasicFileAttributes attrs) {
+      return attrs.isRegularFile()
+        && attrs.size() == length
+        && attrs.lastModifiedTime().toMillis() == lastModified
+        && Objects.equals(attrs.fileKey(), fileKey);
+    }
+
+    /**
+     * @return the file channel, it must not be closed and only positional reads must be used
+     */
+    public FileChannel channel() {
+      return raf.getChannel();
+    }
+
+    /**
+     * @return the length of the file when it was opened
+     */
+    public long length() {
+      return length;
+    }
+
+    /**
+     * @return the last modified time of the file when it was opened
+     */
+    public long lastModified() {
+      return lastModified;
+    }
+
+    /**
+     * Read the whole file.
+     */
+    public byte[] readAll() throws IOException {
+      if (length > Integer.MAX_VALUE - 8) {
+        throw new OutOfMemoryError("Required array size too large");
+      }
+      ByteBuffer buffer = ByteBuffer.allocate((int) length);
+      FileChannel channel = raf.getChannel();
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, buffer.position()) < 0) {
+          // Truncated meanwhile
+          break;
+        }
+      }
+      byte[] bytes = buffer.array();
+      return buffer.position() == bytes.length ? bytes : Arrays.copyOf(bytes, buffer.position());
+    }
+
+    /**
+     * Release the reference of the handle.
+     */
+    public void release() {
+      synchronized (FileHandleCache.this) {
+        release0();
+      }
+    }
+
+    private void release0() {
+      if (--refCnt == 0) {
+        try {
+          raf.close();
+        } catch (IOException ignore) {
+        }
+      }
+    }
+  }
+}
@@ -53,6 +53,7 @@ public class FileResolverImpl implements FileResolver {
   private final boolean enableCaching;
   private final boolean enableCPResolving;
   private final FileCache cache;
+  private final ClassPathResourceCache resourceCache;
 
   public FileResolverImpl() {
     this(new FileSystemOptions());
@@ -67,6 +68,12 @@ public class FileResolverImpl implements FileResolver {
     } else {
       cache = null;
     }
+    if (enableCPResolving && enableCaching && fileSystemOptions.getClassPathResourceCacheSize() > 0) {
+      resourceCache = new ClassPathResourceCache(System.getProperty("java.class.path"),
+        fileSystemOptions.getClassPathResourceCacheSize(), fileSystemOptions.getClassPathResourceMaxSize());
+    } else {
+      resourceCache = null;
+    }
   }
 
   public String cacheDir() {
@@ -89,6 +96,33 @@ public class FileResolverImpl implements FileResolver {
         cache.close();
       }
     }
+    if (resourceCache != null) {
+      resourceCache.close();
+    }
+  }
+
+  /**
+   * Resolve the content of a class path resource held in memory, this is a blocking operation.
+   *
+   * @param fileName the name to resolve
+   * @return the content or {@code null} when the file must be read from the file {@link #resolveFile(String) resolved}
+   */
+  public byte[] resolveContent(String fileName) {
+    if (resourceCache == null) {
+      return null;
+    }
+    File file = new File(fileName);
+    if (file.isAbsolute() || file.exists()) {
+      return null;
+    }
+    if (NON_UNIX_FILE_SEP) {
+      fileName = fileName.replace(File.separatorChar, '/');
+    }
+    try {
+      return resourceCache.get(fileName);
+    } catch (IOException e) {
+      throw new VertxException(FileSystemImpl.getFileAccessErrorMessage("read", fileName), e);
+    }
   }
 
   public File resolveFile(String fileName) {
@@ -17,20 +17,32 @@ import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.MappedBuffer;
+import io.vertx.core.buffer.impl.BufferInternal;
+import io.vertx.core.file.AppendLog;
 import io.vertx.core.file.AsyncFile;
 import io.vertx.core.file.CopyOptions;
+import io.vertx.core.file.FileEntry;
 import io.vertx.core.file.FileProps;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.file.FileSystemException;
 import io.vertx.core.file.FileSystemProps;
+import io.vertx.core.file.FileWalkOptions;
+import io.vertx.core.file.FileWatchOptions;
+import io.vertx.core.file.FileWatcher;
 import io.vertx.core.file.OpenOptions;
+import io.vertx.core.impl.ContextImpl;
 import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.TaskQueue;
 import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.spi.file.FileResolver;
+import io.vertx.core.streams.ReadStream;
 
 import java.io.File;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
 import java.nio.file.CopyOption;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.FileStore;
@@ -38,10 +50,12 @@ import java.nio.file.FileVisitOption;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.FileAttribute;
 import java.nio.file.attribute.GroupPrincipal;
@@ -57,6 +71,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.regex.Pattern;
 
 /**
@@ -69,7 +84,10 @@ public class FileSystemImpl implements FileSystem {
 
   private static final CopyOptions DEFAULT_OPTIONS = new CopyOptions();
 
+  private static final Object TASK_QUEUE_KEY = new Object();
+
   protected final VertxInternal vertx;
+  private FileWatchService watchService;
 
   public FileSystemImpl(VertxInternal vertx) {
     this.vertx = vertx;
@@ -299,6 +317,15 @@ public class FileSystemImpl implements FileSystem {
     return readFileInternal(path).perform();
   }
 
+  @Override
+  public Future<MappedBuffer> mapFile(String path, long offset, int length) {
+    return mapFileInternal(path, offset, length).run();
+  }
+
+  public MappedBuffer mapFileBlocking(String path, long offset, int length) {
+    return mapFileInternal(path, offset, length).perform();
+  }
+
   @Override
   public Future<Void> writeFile(String path, Buffer data) {
     return writeFileInternal(path, data).run();
@@ -318,6 +345,28 @@ public class FileSystemImpl implements FileSystem {
     return openInternal(path, options).perform();
   }
 
+  @Override
+  public Future<AppendLog> openAppendLog(String path) {
+    return openAppendLogInternal(path).run();
+  }
+
+  @Override
+  public AppendLog openAppendLogBlocking(String path) {
+    return openAppendLogInternal(path).perform();
+  }
+
+  @Override
+  public Future<FileWatcher> watch(String path, FileWatchOptions options) {
+    return watchInternal(path, options).run();
+  }
+
+  @Override
+  public ReadStream<FileEntry> walk(String path, FileWalkOptions options) {
+    Objects.requireNonNull(path);
+    Objects.requireNonNull(options);
+    return new FileWalkStream(vertx.getOrCreateContext(), vertx.resolveFile(path).toPath(), options);
+  }
+
   @Override
   public Future<Void> createFile(String path) {
     return createFileInternal(path).run();
@@ -876,9 +925,25 @@ public class FileSystemImpl implements FileSystem {
     Objects.requireNonNull(path);
     return new BlockingAction<Buffer>() {
       public Buffer perform() {
+        FileResolver resolver = vertx.fileResolver();
+        if (resolver instanceof FileResolverImpl) {
+          byte[] content = ((FileResolverImpl) resolver).resolveContent(path);
+          if (content != null) {
+            return Buffer.buffer(content);
+          }
+        }
         try {
-          Path target = vertx.resolveFile(path).toPath();
-          byte[] bytes = Files.readAllBytes(target);
+          File file = vertx.resolveFile(path);
+          FileHandleCache cache = vertx.getFileHandleCache();
+          if (cache != null) {
+            FileHandleCache.FileHandle handle = cache.acquire(file);
+            try {
+              return Buffer.buffer(handle.readAll());
+            } finally {
+              handle.release();
+            }
+          }
+          byte[] bytes = Files.readAllBytes(file.toPath());
           return Buffer.buffer(bytes);
         } catch (IOException e) {
           throw new FileSystemException(getFileAccessErrorMessage("read", path), e);
@@ -887,6 +952,28 @@ public class FileSystemImpl implements FileSystem {
     };
   }
 
+  private BlockingAction<MappedBuffer> mapFileInternal(String path, long offset, int length) {
+    Objects.requireNonNull(path);
+    return new BlockingAction<MappedBuffer>() {
+      public MappedBuffer perform() {
+        if (offset < 0 || length < 0) {
+          throw new FileSystemException("Cannot map region with offset or length < 0");
+        }
+        try {
+          Path target = vertx.resolveFile(path).toPath();
+          try (FileChannel channel = FileChannel.open(target, StandardOpenOption.READ)) {
+            if (offset + length > channel.size()) {
+              throw new FileSystemException("Cannot map region [" + offset + "," + (offset + length) + "] of file " + path + " of size " + channel.size());
+            }
+            return BufferInternal.mapped(channel.map(FileChannel.MapMode.READ_ONLY, offset, length));
+          }
+        } catch (IOException e) {
+          throw new FileSystemException(getFileAccessErrorMessage("map", path), e);
+        }
+      }
+    };
+  }
+
   private BlockingAction<Void> writeFileInternal(String path, Buffer data) {
     Objects.requireNonNull(path);
     Objects.requireNonNull(data);
@@ -914,6 +1001,51 @@ public class FileSystemImpl implements FileSystem {
     };
   }
 
+  private BlockingAction<AppendLog> openAppendLogInternal(String p) {
+    Objects.requireNonNull(p);
+    return new BlockingAction<AppendLog>() {
+      public AppendLog perform() {
+        String path = vertx.resolveFile(p).getAbsolutePath();
+        return new AppendLogImpl(vertx, path, context);
+      }
+    };
+  }
+
+  private BlockingAction<FileWatcher> watchInternal(String p, FileWatchOptions options) {
+    Objects.requireNonNull(p);
+    Objects.requireNonNull(options);
+    return new BlockingAction<FileWatcher>() {
+      public FileWatcher perform() {
+        Path target = vertx.resolveFile(p).toPath().toAbsolutePath();
+        FileWatcherImpl watcher;
+        if (Files.isDirectory(target)) {
+          watcher = new FileWatcherImpl(context, target, null, options);
+        } else if (Files.exists(target)) {
+          watcher = new FileWatcherImpl(context, target.getParent(), target, options);
+        } else {
+          throw new FileSystemException(getFileAccessErrorMessage("watch", p), new NoSuchFileException(p));
+        }
+        try {
+          FileWatchService service;
+          do {
+            service = watchService();
+          } while (!service.register(watcher));
+          watcher.init(service);
+        } catch (IOException e) {
+          throw new FileSystemException(getFileAccessErrorMessage("watch", p), e);
+        }
+        return watcher;
+      }
+    };
+  }
+
+  private synchronized FileWatchService watchService() throws IOException {
+    if (watchService == null || watchService.isClosed()) {
+      watchService = FileWatchService.create();
+    }
+    return watchService;
+  }
+
   protected AsyncFile doOpen(String path, OpenOptions options, ContextInternal context) {
     return new AsyncFileImpl(vertx, path, options, context);
   }
@@ -967,6 +1099,30 @@ public class FileSystemImpl implements FileSystem {
     };
   }
 
+  /**
+   * Execute a blocking file system action on the file system worker pool when configured, otherwise on the
+   * internal worker pool.
+   */
+  static <T> Future<T> executeBlocking(ContextInternal context, Callable<T> action) {
+    FileSystemWorkerPool pool = context.owner().getFileSystemWorkerPool();
+    if (pool == null) {
+      return context.executeBlockingInternal(action);
+    }
+    if (!pool.tryAcquire()) {
+      return context.failedFuture(new FileSystemException("File system worker pool queue is full"));
+    }
+    // Actions of a context are executed in order like with the internal worker pool
+    TaskQueue queue = (TaskQueue) context.contextData().computeIfAbsent(TASK_QUEUE_KEY, k -> new TaskQueue());
+    Future<T> fut;
+    try {
+      fut = ContextImpl.executeBlocking(context, action, pool, queue);
+    } catch (RejectedExecutionException e) {
+      pool.release();
+      return context.failedFuture(e);
+    }
+    return fut.andThen(ar -> pool.release());
+  }
+
   protected abstract class BlockingAction<T> implements Callable<T> {
 
     protected final ContextInternal context;
@@ -979,7 +1135,7 @@ public class FileSystemImpl implements FileSystem {
      * Run the blocking action using a thread from the worker pool.
      */
     public Future<T> run() {
-      return context.executeBlockingInternal(this);
+      return executeBlocking(context, this);
     }
 
     @Override
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.file.impl;
+
+import io.vertx.core.impl.WorkerPool;
+import io.vertx.core.spi.metrics.PoolMetrics;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The worker pool dedicated to the file system, see {@link io.vertx.core.file.FileSystemOptions#setWorkerPoolSize(int)}.
+ * <p>
+ * The number of file system operations waiting for a thread is bounded, {@link AsyncFileImpl} channel I/O is not
+ * accounted since streams bound their outstanding operations.
+ */
+public class FileSystemWorkerPool extends WorkerPool {
+
+  private final long maxPending;
+  private final AtomicInteger pending = new AtomicInteger();
+
+  public FileSystemWorkerPool(ExecutorService pool, PoolMetrics metrics, int poolSize, int maxQueueSize) {
+    super(pool, metrics);
+    this.maxPending = Math.min(Integer.MAX_VALUE, (long) poolSize + maxQueueSize);
+  }
+
+  /**
+   * Acquire a slot for an operation, the slot must be released with {@link #release()} when the operation is done.
+   *
+   * @return whether the operation can be submitted
+   */
+  boolean tryAcquire() {
+    if (pending.incrementAndGet() > maxPending) {
+      pending.decrementAndGet();
+      return false;
+    }
+    return true;
+  }
+
+  void release() {
+    pending.decrementAndGet();
+  }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.file.impl;
+
+import io.vertx.core.Handler;
+import io.vertx.core.file.FileEntry;
+import io.vertx.core.file.FileSystemException;
+import io.vertx.core.file.FileWalkOptions;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.logging.Logger;
+import io.vertx.core.impl.logging.LoggerFactory;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.impl.InboundBuffer;
+
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Walks a file tree depth first, each blocking task reads a batch of entries with their attributes, the walk is
+ * resumed when the batch has been consumed, so the memory used is bounded by the batch size and the depth of the
+ * tree.
+ * <p>
+ * The walk starts when a handler is set.
+ */
+public class FileWalkStream implements ReadStream<FileEntry> {
+
+  private static final Logger log = LoggerFactory.getLogger(FileWalkStream.class);
+
+  private static final LinkOption[] NO_LINK_OPTIONS = new LinkOption[0];
+  private static final LinkOption[] NOFOLLOW_LINKS = { LinkOption.NOFOLLOW_LINKS };
+
+  // Signals the end of the walk
+  private static final FileEntry END = new FileEntryImpl(null, null);
+
+  private final ContextInternal context;
+  private final Path root;
+  private final int maxDepth;
+  private final boolean followLinks;
+  private final Pattern filter;
+  private final int batchSize;
+  private final InboundBuffer<FileEntry> queue;
+  private final ArrayDeque<Directory> directories = new ArrayDeque<>();
+  private boolean started;
+  private boolean reading;
+  private boolean done;
+  private Handler<FileEntry> handler;
+  private Handler<Void> endHandler;
+  private Handler<Throwable> exceptionHandler;
+
+  FileWalkStream(ContextInternal context, Path root, FileWalkOptions options) {
+    this.context = context;
+    this.root = root;
+    this.maxDepth = options.getMaxDepth();
+    this.followLinks = options.isFollowLinks();
+    this.filter = options.getFilter() != null ? Pattern.compile(options.getFilter()) : null;
+    this.batchSize = options.getBatchSize();
+    this.queue = new InboundBuffer<>(context, batchSize);
+    queue.handler(entry -> {
+      if (entry != END) {
+        handleEntry(entry);
+      } else {
+        handleEnd();
+      }
+    });
+    queue.drainHandler(v -> doRead());
+  }
+
+  @Override
+  public synchronized FileWalkStream exceptionHandler(Handler<Throwable> handler) {
+    this.exceptionHandler = handler;
+    return this;
+  }
+
+  @Override
+  public synchronized FileWalkStream handler(Handler<FileEntry> handler) {
+    this.handler = handler;
+    if (handler == null) {
+      if (started && !done) {
+        done = true;
+        queue.clear();
+        // Ordered after the pending read
+        FileSystemImpl.executeBlocking(context, () -> {
+          closeDirectories();
+          return null;
+        });
+      }
+    } else if (!started) {
+      started = true;
+      doRead();
+    }
+    return this;
+  }
+
+  @Override
+  public FileWalkStream pause() {
+    queue.pause();
+    return this;
+  }
+
+  @Override
+  public FileWalkStream resume() {
+    queue.resume();
+    return this;
+  }
+
+  @Override
+  public FileWalkStream fetch(long amount) {
+    queue.fetch(amount);
+    return this;
+  }
+
+  @Override
+  public synchronized FileWalkStream endHandler(Handler<Void> endHandler) {
+    this.endHandler = endHandler;
+    return this;
+  }
+
+  private void doRead() {
+    synchronized (this) {
+      if (reading || done) {
+        return;
+      }
+      reading = true;
+    }
+    FileSystemImpl.executeBlocking(context, this::readBatch).onComplete(ar -> {
+      synchronized (FileWalkStream.this) {
+        reading = false;
+      }
+      if (ar.succeeded()) {
+        if (queue.write(ar.result())) {
+          doRead();
+        }
+      } else {
+        synchronized (FileWalkStream.this) {
+          done = true;
+        }
+        closeDirectories();
+        handleException(ar.cause());
+      }
+    });
+  }
+
+  /**
+   * Read the next batch of entries, executed on a worker thread.
+   */
+  private List<FileEntry> readBatch() {
+    List<FileEntry> batch = new ArrayList<>(batchSize);
+    synchronized (this) {
+      if (done) {
+        return batch;
+      }
+    }
+    try {
+      if (directories.isEmpty()) {
+        // First batch
+        BasicFileAttributes attrs = Files.readAttributes(root, BasicFileAttributes.class, NO_LINK_OPTIONS);
+        if (attrs.isDirectory() && maxDepth > 0) {
+          directories.push(new Directory(root, attrs.fileKey(), 1));
+        }
+      }
+      while (batch.size() < batchSize && !directories.isEmpty()) {
+        Directory directory = directories.peek();
+        if (!directory.iterator.hasNext()) {
+          directories.pop().stream.close();
+          continue;
+        }
+        Path path = directory.iterator.next();
+        BasicFileAttributes attrs;
+        try {
+          attrs = Files.readAttributes(path, BasicFileAttributes.class, followLinks ? NO_LINK_OPTIONS : NOFOLLOW_LINKS);
+        } catch (NoSuchFileException e) {
+          // Deleted meanwhile
+          continue;
+        }
+        if (filter == null || filter.matcher(path.getFileName().toString()).matches()) {
+          batch.add(new FileEntryImpl(path.toString(), new FilePropsImpl(attrs)));
+        }
+        if (attrs.isDirectory() && directory.depth < maxDepth && !isCycle(attrs.fileKey())) {
+          directories.push(new Directory(path, attrs.fileKey(), directory.depth + 1));
+        }
+      }
+    } catch (IOException | DirectoryIteratorException e) {
+      throw new FileSystemException(FileSystemImpl.getFolderAccessErrorMessage("walk", root.toString()), e);
+    }
+    if (directories.isEmpty()) {
+      synchronized (this) {
+        done = true;
+      }
+      batch.add(END);
+    }
+    return batch;
+  }
+
+  private boolean isCycle(Object fileKey) {
+    if (!followLinks || fileKey == null) {
+      return false;
+    }
+    for (Directory directory : directories) {
+      if (fileKey.equals(directory.fileKey)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void closeDirectories() {
+    Directory directory;
+    while ((directory = directories.poll()) != null) {
+      try {
+        directory.stream.close();
+      } catch (IOException e) {
+        log.trace("Failed to close directory stream", e);
+      }
+    }
+  }
+
+  private void handleEntry(FileEntry entry) {
+    Handler<FileEntry> h;
+    synchronized (this) {
+      h = handler;
+    }
+    if (h != null) {
+      context.dispatch(entry, h);
+    }
+  }
+
+  private void handleEnd() {
+    Handler<Void> h;
+    synchronized (this) {
+      h = endHandler;
+    }
+    if (h != null) {
+      context.dispatch(h);
+    }
+  }
+
+  private void handleException(Throwable t) {
+    Handler<Throwable> h;
+    synchronized (this) {
+      h = exceptionHandler;
+    }
+    if (h != null) {
+      context.dispatch(t, h);
+    } else {
+      log.error("Unhandled exception", t);
+    }
+  }
+
+  private static class Directory {
+
+    private final Object fileKey;
+    private final int depth;
+    private final DirectoryStream<Path> stream;
+    private final Iterator<Path> iterator;
+
+    Directory(Path path, Object fileKey, int depth) throws IOException {
+      this.fileKey = fileKey;
+      this.depth = depth;
+      this.stream = Files.newDirectoryStream(path);
+      this.iterator = stream.iterator();
+    }
+  }
+}
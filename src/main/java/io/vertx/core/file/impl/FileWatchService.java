@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.file.impl;
+
+import io.vertx.core.file.FileChangeType;
+import io.vertx.core.impl.logging.Logger;
+import io.vertx.core.impl.logging.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Watches directories with a single {@link WatchService} polled by a single thread, the changes are dispatched to
+ * the {@link FileWatcherImpl} registered for the directory.
+ * <p>
+ * The service closes itself and its thread when the last watcher is unregistered.
+ */
+class FileWatchService implements Runnable {
+
+  private static final Logger log = LoggerFactory.getLogger(FileWatchService.class);
+
+  private final WatchService watchService;
+  private final Map<WatchKey, Directory> keys = new HashMap<>();
+  private boolean closed;
+
+  private FileWatchService(WatchService watchService) {
+    this.watchService = watchService;
+  }
+
+  static FileWatchService create() throws IOException {
+    FileWatchService service = new FileWatchService(FileSystems.getDefault().newWatchService());
+    Thread thread = new Thread(service, "vert.x-file-watcher");
+    thread.setDaemon(true);
+    thread.start();
+    return service;
+  }
+
+  /**
+   * Register the {@code watcher}.
+   *
+   * @return {@code false} when the service is closed and a new service must be used
+   */
+  synchronized boolean register(FileWatcherImpl watcher) throws IOException {
+    if (closed) {
+      return false;
+    }
+    try {
+      if (watcher.isRecursive()) {
+        registerTree(watcher, watcher.directory(), false);
+      } else {
+        registerDirectory(watcher, watcher.directory());
+      }
+    } catch (IOException e) {
+      unregister(watcher);
+      throw e;
+    }
+    return true;
+  }
+
+  synchronized void unregister(FileWatcherImpl watcher) {
+    for (Iterator<Map.Entry<WatchKey, Directory>> it = keys.entrySet().iterator(); it.hasNext();) {
+      Map.Entry<WatchKey, Directory> entry = it.next();
+      Directory directory = entry.getValue();
+      directory.watchers.remove(watcher);
+      if (directory.watchers.isEmpty()) {
+        entry.getKey().cancel();
+        it.remove();
+      }
+    }
+    closeIfUnused();
+  }
+
+  synchronized boolean isClosed() {
+    return closed;
+  }
+
+  private void registerDirectory(FileWatcherImpl watcher, Path dir) throws IOException {
+    WatchKey key = dir.register(watchService,
+      StandardWatchEventKinds.ENTRY_CREATE,
+      StandardWatchEventKinds.ENTRY_MODIFY,
+      StandardWatchEventKinds.ENTRY_DELETE);
+    Directory directory = keys.computeIfAbsent(key, k -> new Directory(dir));
+    if (!directory.watchers.contains(watcher)) {
+      directory.watchers.add(watcher);
+    }
+  }
+
+  /**
+   * Register {@code root} and its sub directories, when {@code created} is {@code true} the content of {@code root}
+   * is reported as created since it might have been created before the directory was registered.
+   */
+  private void registerTree(FileWatcherImpl watcher, Path root, boolean created) throws IOException {
+    Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+      @Override
+      public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+        registerDirectory(watcher, dir);
+        if (created && !dir.equals(root)) {
+          watcher.handleChange(FileChangeType.CREATED, dir);
+        }
+        return FileVisitResult.CONTINUE;
+      }
+      @Override
+      public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+        if (created) {
+          watcher.handleChange(FileChangeType.CREATED, file);
+        }
+        return FileVisitResult.CONTINUE;
+      }
+      @Override
+      public FileVisitResult visitFileFailed(Path file, IOException exc) {
+        // The file has been deleted meanwhile
+        return FileVisitResult.CONTINUE;
+      }
+    });
+  }
+
+  private void closeIfUnused() {
+    if (!closed && keys.isEmpty()) {
+      closed = true;
+      try {
+        watchService.close();
+      } catch (IOException e) {
+        log.trace("Failed to close watch service", e);
+      }
+    }
+  }
+
+  @Override
+  public void run() {
+    while (true) {
+      WatchKey key;
+      try {
+        key = watchService.take();
+      } catch (InterruptedException | ClosedWatchServiceException e) {
+        return;
+      }
+      Directory directory;
+      synchronized (this) {
+        directory = keys.get(key);
+      }
+      if (directory == null) {
+        continue;
+      }
+      for (WatchEvent<?> event : key.pollEvents()) {
+        WatchEvent.Kind<?> kind = event.kind();
+        if (kind == StandardWatchEventKinds.OVERFLOW) {
+          directory.dispatch(FileChangeType.OVERFLOW, directory.path);
+        } else {
+          Path child = directory.path.resolve((Path) event.context());
+          if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
+            directory.dispatch(FileChangeType.CREATED, child);
+            if (Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+              registerCreatedDirectory(directory, child);
+            }
+          } else if (kind == StandardWatchEventKinds.ENTRY_MODIFY) {
+            directory.dispatch(FileChangeType.MODIFIED, child);
+          } else {
+            directory.dispatch(FileChangeType.DELETED, child);
+          }
+        }
+      }
+      if (!key.reset()) {
+        // The directory is not accessible anymore
+        synchronized (this) {
+          keys.remove(key);
+          closeIfUnused();
+        }
+      }
+    }
+  }
+
+  private synchronized void registerCreatedDirectory(Directory parent, Path dir) {
+    if (closed) {
+      return;
+    }
+    for (FileWatcherImpl watcher : parent.watchers) {
+      if (watcher.isRecursive()) {
+        try {
+          registerTree(watcher, dir, true);
+        } catch (IOException e) {
+          // The directory has been deleted meanwhile
+          log.trace("Failed to watch directory " + dir, e);
+        }
+      }
+    }
+  }
+
+  private static class Directory {
+
+    private final Path path;
+    private final List<FileWatcherImpl> watchers = new CopyOnWriteArrayList<>();
+
+    Directory(Path path) {
+      this.path = path;
+    }
+
+    void dispatch(FileChangeType type, Path path) {
+      for (FileWatcherImpl watcher : watchers) {
+        watcher.handleChange(type, path);
+      }
+    }
+  }
+}
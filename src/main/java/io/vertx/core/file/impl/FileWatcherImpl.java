@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.file.impl;
+
+import io.vertx.core.Closeable;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.file.FileChangeEvent;
+import io.vertx.core.file.FileChangeType;
+import io.vertx.core.file.FileWatchOptions;
+import io.vertx.core.file.FileWatcher;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.streams.impl.InboundBuffer;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The changes notified by the {@link FileWatchService} thread are coalesced per path during the coalescing delay,
+ * then written to the stream on the watcher context.
+ * <p>
+ * When the stream is paused, the changes keep being coalesced until the stream is drained, so the memory used by a
+ * paused watcher is bounded by the number of changed paths.
+ */
+public class FileWatcherImpl implements FileWatcher, Closeable {
+
+  private final ContextInternal context;
+  private final Path directory;
+  private final Path file;
+  private final boolean recursive;
+  private final long coalescingDelay;
+  private final InboundBuffer<FileChangeEvent> queue;
+  private FileWatchService service;
+  private Map<Path, FileChangeType> pending = new LinkedHashMap<>();
+  private boolean flushScheduled;
+  private boolean closed;
+  private Handler<FileChangeEvent> handler;
+  private Handler<Void> endHandler;
+
+  /**
+   * @param directory the watched directory
+   * @param file the watched file in {@code directory} or {@code null} to watch the whole directory
+   */
+  FileWatcherImpl(ContextInternal context, Path directory, Path file, FileWatchOptions options) {
+    this.context = context;
+    this.directory = directory;
+    this.file = file;
+    this.recursive = file == null && options.isRecursive();
+    this.coalescingDelay = options.getCoalescingDelay();
+    this.queue = new InboundBuffer<>(context);
+    queue.handler(this::handleEvent);
+    queue.drainHandler(v -> flush());
+  }
+
+  Path directory() {
+    return directory;
+  }
+
+  boolean isRecursive() {
+    return recursive;
+  }
+
+  synchronized void init(FileWatchService service) {
+    this.service = service;
+    context.addCloseHook(this);
+  }
+
+  /**
+   * Called by the watch service thread.
+   */
+  void handleChange(FileChangeType type, Path path) {
+    if (file != null && type != FileChangeType.OVERFLOW && !file.equals(path)) {
+      return;
+    }
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      FileChangeType current = coalesce(pending.get(path), type);
+      if (current == null) {
+        pending.remove(path);
+      } else {
+        pending.put(path, current);
+      }
+      if (flushScheduled) {
+        return;
+      }
+      flushScheduled = true;
+    }
+    if (coalescingDelay == 0L) {
+      context.runOnContext(v -> flush());
+    } else {
+      context.setTimer(coalescingDelay, id -> flush());
+    }
+  }
+
+  /**
+   * @return the change resulting from {@code next} following {@code prev}, {@code null} when the changes cancel out
+   */
+  static FileChangeType coalesce(FileChangeType prev, FileChangeType next) {
+    if (prev == null || next == FileChangeType.OVERFLOW) {
+      return next;
+    }
+    switch (prev) {
+      case CREATED:
+        return next == FileChangeType.DELETED ? null : FileChangeType.CREATED;
+      case DELETED:
+        return next == FileChangeType.DELETED ? FileChangeType.DELETED : FileChangeType.MODIFIED;
+      case MODIFIED:
+        return next == FileChangeType.DELETED ? FileChangeType.DELETED : FileChangeType.MODIFIED;
+      default:
+        return prev;
+    }
+  }
+
+  private void flush() {
+    List<FileChangeEvent> events;
+    synchronized (this) {
+      flushScheduled = false;
+      if (closed || pending.isEmpty() || !queue.isWritable()) {
+        // Flushed again when the queue is drained
+        return;
+      }
+      events = new ArrayList<>(pending.size());
+      for (Map.Entry<Path, FileChangeType> entry : pending.entrySet()) {
+        events.add(new FileChangeEventImpl(entry.getValue(), entry.getKey().toString()));
+      }
+      pending = new LinkedHashMap<>();
+    }
+    queue.write(events);
+  }
+
+  private void handleEvent(FileChangeEvent event) {
+    Handler<FileChangeEvent> h;
+    synchronized (this) {
+      h = handler;
+    }
+    if (h != null) {
+      context.dispatch(event, h);
+    }
+  }
+
+  @Override
+  public FileWatcher exceptionHandler(Handler<Throwable> handler) {
+    queue.exceptionHandler(handler);
+    return this;
+  }
+
+  @Override
+  public synchronized FileWatcher handler(Handler<FileChangeEvent> handler) {
+    this.handler = handler;
+    return this;
+  }
+
+  @Override
+  public FileWatcher pause() {
+    queue.pause();
+    return this;
+  }
+
+  @Override
+  public FileWatcher resume() {
+    queue.resume();
+    return this;
+  }
+
+  @Override
+  public FileWatcher fetch(long amount) {
+    queue.fetch(amount);
+    return this;
+  }
+
+  @Override
+  public synchronized FileWatcher endHandler(Handler<Void> endHandler) {
+    this.endHandler = endHandler;
+    return this;
+  }
+
+  @Override
+  public Future<Void> close() {
+    Promise<Void> promise = context.promise();
+    close(promise);
+    return promise.future();
+  }
+
+  @Override
+  public void close(Promise<Void> completion) {
+    FileWatchService s;
+    synchronized (this) {
+      if (closed) {
+        completion.complete();
+        return;
+      }
+      closed = true;
+      pending.clear();
+      s = service;
+    }
+    context.removeCloseHook(this);
+    if (s != null) {
+      s.unregister(this);
+    }
+    context.runOnContext(v -> {
+      Handler<Void> h;
+      synchronized (FileWatcherImpl.this) {
+        h = endHandler;
+      }
+      if (h != null) {
+        context.dispatch(h);
+      }
+      completion.complete();
+    });
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.file.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferInternal;
+import io.vertx.core.buffer.impl.VertxByteBufAllocator;
+import io.vertx.core.file.FileRange;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A vectored read of a file.
+ * <p>
+ * The ranges are sorted by position and coalesced into regions when they overlap or are separated by less than
+ * {@link #MAX_GAP} bytes, the regions are read in a single buffer, at most {@link #MAX_PARALLELISM} reads are
+ * pending at the same time. The buffers of the ranges are slices of this buffer.
+ */
+class VectoredRead {
+
+  /**
+   * The maximum number of bytes between two ranges read as part of the same region.
+   */
+  static final int MAX_GAP = 4 * 1024;
+
+  /**
+   * The maximum size of a region, larger ranges are read by a single region.
+   */
+  static final int MAX_REGION_SIZE = 1024 * 1024;
+
+  /**
+   * The maximum number of reads pending at the same time.
+   */
+  static final int MAX_PARALLELISM = 8;
+
+  private final AsynchronousFileChannel ch;
+  private final List<FileRange> ranges;
+  private final Promise<List<Buffer>> promise;
+  private final List<Region> regions = new ArrayList<>();
+  private final Region[] rangeRegions;
+  private ByteBuf byteBuf;
+  private int next;
+  private int pending;
+  private boolean failed;
+
+  VectoredRead(AsynchronousFileChannel ch, List<FileRange> ranges, Promise<List<Buffer>> promise) {
+    this.ch = ch;
+    this.ranges = ranges;
+    this.promise = promise;
+    this.rangeRegions = new Region[ranges.size()];
+  }
+
+  void start() {
+    if (ranges.isEmpty()) {
+      promise.complete(new ArrayList<>());
+      return;
+    }
+    Integer[] order = new Integer[ranges.size()];
+    for (int i = 0;i < order.length;i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, Comparator.comparingLong(idx -> ranges.get(idx).getPosition()));
+    Region region = null;
+    for (int idx : order) {
+      FileRange range = ranges.get(idx);
+      long end = range.getPosition() + range.getLength();
+      if (region == null || range.getPosition() > region.end + MAX_GAP || Math.max(end, region.end) - region.position > MAX_REGION_SIZE) {
+        region = new Region(range.getPosition(), end);
+        regions.add(region);
+      } else {
+        region.end = Math.max(region.end, end);
+      }
+      rangeRegions[idx] = region;
+    }
+    long size = 0L;
+    for (Region r : regions) {
+      r.offset = size;
+      size += r.end - r.position;
+    }
+    if (size > Integer.MAX_VALUE) {
+      promise.fail(new IllegalArgumentException("Ranges too large: " + size));
+      return;
+    }
+    byteBuf = VertxByteBufAllocator.DEFAULT.heapBuffer((int) size, (int) size);
+    byteBuf.writerIndex((int) size);
+    readNext();
+  }
+
+  private void readNext() {
+    List<Region> toRead = new ArrayList<>();
+    synchronized (this) {
+      while (!failed && pending < MAX_PARALLELISM && next < regions.size()) {
+        toRead.add(regions.get(next++));
+        pending++;
+      }
+    }
+    for (Region region : toRead) {
+      ByteBuffer buff = byteBuf.nioBuffer((int) region.offset, (int) (region.end - region.position));
+      read(region, buff, region.position);
+    }
+  }
+
+  private void read(Region region, ByteBuffer buff, long position) {
+    try {
+      ch.read(buff, position, null, new CompletionHandler<Integer, Object>() {
+        public void completed(Integer bytesRead, Object attachment) {
+          if (bytesRead == -1 || !buff.hasRemaining()) {
+            handleRead(region, buff.position());
+          } else {
+            // partial read
+            read(region, buff, position + bytesRead);
+          }
+        }
+
+        public void failed(Throwable t, Object attachment) {
+          handleFailure(t);
+        }
+      });
+    } catch (Exception e) {
+      handleFailure(e);
+    }
+  }
+
+  private void handleFailure(Throwable t) {
+    synchronized (this) {
+      if (failed) {
+        return;
+      }
+      failed = true;
+    }
+    promise.fail(t);
+  }
+
+  private void handleRead(Region region, int read) {
+    boolean done;
+    synchronized (this) {
+      if (failed) {
+        return;
+      }
+      region.read = read;
+      pending--;
+      done = pending == 0 && next == regions.size();
+    }
+    if (done) {
+      promise.complete(buffers());
+    } else {
+      readNext();
+    }
+  }
+
+  private synchronized List<Buffer> buffers() {
+    Buffer buffer = BufferInternal.buffer(byteBuf);
+    List<Buffer> result = new ArrayList<>(ranges.size());
+    for (int i = 0;i < rangeRegions.length;i++) {
+      FileRange range = ranges.get(i);
+      Region region = rangeRegions[i];
+      int start = (int) (region.offset + range.getPosition() - region.position);
+      // Truncate the ranges read past the end of the file
+      int length = (int) Math.max(0L, Math.min(range.getLength(), region.offset + region.read - start));
+      result.add(buffer.slice(start, start + length));
+    }
+    return result;
+  }
+
+  private static class Region {
+
+    final long position;
+    long end;
+    long offset;
+    int read;
+
+    Region(long position, long end) {
+      this.position = position;
+      this.end = end;
+    }
+  }
+}
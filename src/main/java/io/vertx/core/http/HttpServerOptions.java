@@ -169,6 +169,16 @@ public class HttpServerOptions extends NetServerOptions {
    */
   public static final boolean DEFAULT_REGISTER_WEBSOCKET_WRITE_HANDLERS = false;
 
+  /**
+   * Default size in bytes of the send file cache = 0, the cache is disabled
+   */
+  public static final long DEFAULT_SEND_FILE_CACHE_SIZE = 0L;
+
+  /**
+   * Default maximum size in bytes of a file held in the send file cache = 16384
+   */
+  public static final int DEFAULT_SEND_FILE_CACHE_MAX_FILE_SIZE = 16 * 1024;
+
   private boolean compressionSupported;
   private int compressionLevel;
   private List<CompressionOptions> compressors;
@@ -194,6 +204,8 @@ public class HttpServerOptions extends NetServerOptions {
   private int webSocketClosingTimeout;
   private TracingPolicy tracingPolicy;
   private boolean registerWebSocketWriteHandlers;
+  private long sendFileCacheSize;
+  private int sendFileCacheMaxFileSize;
 
   /**
    * Default constructor
@@ -236,6 +248,8 @@ public class HttpServerOptions extends NetServerOptions {
     this.webSocketClosingTimeout = other.webSocketClosingTimeout;
     this.tracingPolicy = other.tracingPolicy;
     this.registerWebSocketWriteHandlers = other.registerWebSocketWriteHandlers;
+    this.sendFileCacheSize = other.sendFileCacheSize;
+    this.sendFileCacheMaxFileSize = other.sendFileCacheMaxFileSize;
   }
 
   /**
@@ -285,6 +299,8 @@ public class HttpServerOptions extends NetServerOptions {
     webSocketClosingTimeout = DEFAULT_WEBSOCKET_CLOSING_TIMEOUT;
     tracingPolicy = DEFAULT_TRACING_POLICY;
     registerWebSocketWriteHandlers = DEFAULT_REGISTER_WEBSOCKET_WRITE_HANDLERS;
+    sendFileCacheSize = DEFAULT_SEND_FILE_CACHE_SIZE;
+    sendFileCacheMaxFileSize = DEFAULT_SEND_FILE_CACHE_MAX_FILE_SIZE;
   }
 
   /**
@@ -1050,6 +1066,26 @@ public class HttpServerOptions extends NetServerOptions {
     return (HttpServerOptions) super.setTrafficShapingOptions(trafficShapingOptions);
   }
 
+  @Override
+  public HttpServerOptions setMaxBufferedBytes(long maxBufferedBytes) {
+    return (HttpServerOptions) super.setMaxBufferedBytes(maxBufferedBytes);
+  }
+
+  @Override
+  public HttpServerOptions setAdaptiveWriteQueue(boolean adaptiveWriteQueue) {
+    return (HttpServerOptions) super.setAdaptiveWriteQueue(adaptiveWriteQueue);
+  }
+
+  @Override
+  public HttpServerOptions setAdaptiveWriteQueueMinSize(int adaptiveWriteQueueMinSize) {
+    return (HttpServerOptions) super.setAdaptiveWriteQueueMinSize(adaptiveWriteQueueMinSize);
+  }
+
+  @Override
+  public HttpServerOptions setAdaptiveWriteQueueMaxSize(int adaptiveWriteQueueMaxSize) {
+    return (HttpServerOptions) super.setAdaptiveWriteQueueMaxSize(adaptiveWriteQueueMaxSize);
+  }
+
   /**
    * @return the tracing policy
    */
@@ -1105,4 +1141,55 @@ public class HttpServerOptions extends NetServerOptions {
     this.registerWebSocketWriteHandlers = registerWebSocketWriteHandlers;
     return this;
   }
+
+  /**
+   * @return the size in bytes of the send file cache
+   */
+  public long getSendFileCacheSize() {
+    return sendFileCacheSize;
+  }
+
+  /**
+   * Set the size in bytes of the send file cache.
+   * <p>
+   * When greater than {@code 0}, the small files sent entirely with {@link HttpServerResponse#sendFile(String)} are
+   * held in memory by the server together with their {@code content-type}, {@code etag} and {@code last-modified}
+   * headers, and HTTP/1.x responses write them with the response head in a single write. A cached file is checked
+   * against the file system at most once per second, the least recently used files are evicted when the cache is full.
+   * <p>
+   * Defaults to {@code 0}.
+   *
+   * @param sendFileCacheSize the cache size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setSendFileCacheSize(long sendFileCacheSize) {
+    if (sendFileCacheSize < 0) {
+      throw new IllegalArgumentException("sendFileCacheSize must be >= 0");
+    }
+    this.sendFileCacheSize = sendFileCacheSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum size in bytes of a file held in the send file cache
+   */
+  public int getSendFileCacheMaxFileSize() {
+    return sendFileCacheMaxFileSize;
+  }
+
+  /**
+   * Set the maximum size in bytes of a file held in the send file cache, larger files are sent from the file system.
+   * <p>
+   * Defaults to {@code 16384}.
+   *
+   * @param sendFileCacheMaxFileSize the maximum file size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setSendFileCacheMaxFileSize(int sendFileCacheMaxFileSize) {
+    if (sendFileCacheMaxFileSize < 0) {
+      throw new IllegalArgumentException("sendFileCacheMaxFileSize must be >= 0");
+    }
+    this.sendFileCacheMaxFileSize = sendFileCacheMaxFileSize;
+    return this;
+  }
 }
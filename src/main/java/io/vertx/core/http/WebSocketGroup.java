@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.impl.WebSocketGroupImpl;
+import io.vertx.core.impl.VertxInternal;
+
+/**
+ * A group of {@link ServerWebSocket} sending the same messages to all its members.
+ * <p>
+ * A message is encoded once into a WebSocket frame shared by all members. Members are grouped by event-loop
+ * so a broadcast costs a single task per event-loop instead of one per member.
+ * <p>
+ * Members that negotiated a compression extension or that use the hybi-00 protocol cannot share the encoded frame,
+ * the message is written to each of them individually.
+ * <p>
+ * A member is removed from the group when its connection is closed.
+ */
+@VertxGen
+public interface WebSocketGroup {
+
+  /**
+   * Create a new empty group.
+   *
+   * @param vertx the vertx instance
+   * @return the group
+   */
+  static WebSocketGroup create(Vertx vertx) {
+    return new WebSocketGroupImpl((VertxInternal) vertx);
+  }
+
+  /**
+   * Add a WebSocket to the group.
+   *
+   * @param webSocket the WebSocket to add
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  WebSocketGroup add(ServerWebSocket webSocket);
+
+  /**
+   * Remove a WebSocket from the group.
+   *
+   * @param webSocket the WebSocket to remove
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  WebSocketGroup remove(ServerWebSocket webSocket);
+
+  /**
+   * @return the number of members of the group
+   */
+  int size();
+
+  /**
+   * Broadcast a text message to all the members of the group.
+   * <p>
+   * The write queue of the members is not checked, slow members should be removed from the group by the application.
+   *
+   * @param text the message
+   * @return a future completed when the message has been written to every member, the failure of an individual
+   *         member write is not reported
+   */
+  Future<Void> writeTextMessage(String text);
+
+  /**
+   * Like {@link #writeTextMessage(String)} but with a binary message.
+   *
+   * @param data the message
+   * @return a future completed when the message has been written to every member
+   */
+  Future<Void> writeBinaryMessage(Buffer data);
+
+}
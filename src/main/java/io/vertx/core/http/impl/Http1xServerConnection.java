@@ -98,6 +98,7 @@ public class Http1xServerConnection extends Http1xConnectionBase<ServerWebSocket
   final boolean handle100ContinueAutomatically;
   final HttpServerOptions options;
   final SSLHelper sslHelper;
+  final SendFileCache sendFileCache;
 
   public Http1xServerConnection(Supplier<ContextInternal> streamContextSupplier,
                                 SslChannelProvider sslChannelProvider,
@@ -106,8 +107,10 @@ public class Http1xServerConnection extends Http1xConnectionBase<ServerWebSocket
                                 ChannelHandlerContext chctx,
                                 ContextInternal context,
                                 String serverOrigin,
-                                HttpServerMetrics metrics) {
+                                HttpServerMetrics metrics,
+                                SendFileCache sendFileCache) {
     super(context, chctx);
+    this.sendFileCache = sendFileCache;
     this.serverOrigin = serverOrigin;
     this.streamContextSupplier = streamContextSupplier;
     this.options = options;
@@ -233,7 +236,11 @@ public class Http1xServerConnection extends Http1xConnectionBase<ServerWebSocket
       }
       @Override
       public void cancel(Throwable cause) {
-        promise.fail(cause);
+        // The message might hold a transferred pooled buffer
+        ReferenceCountUtil.release(msg);
+        if (promise != null) {
+          promise.fail(cause);
+        }
       }
     });
   }
@@ -132,7 +132,9 @@ public class Http1xServerRequest extends HttpServerRequestInternal implements io
         if (buffer == InboundBuffer.END_SENTINEL) {
           onEnd();
         } else {
-          onData((Buffer) buffer);
+          Buffer data = (Buffer) buffer;
+          conn.reportBytesBuffered(-data.length());
+          onData(data);
         }
       });
     }
@@ -146,6 +148,7 @@ public class Http1xServerRequest extends HttpServerRequestInternal implements io
     }
     if (queue != null) {
       // We queue requests if paused or a request is in progress to prevent responses being written in the wrong order
+      conn.reportBytesBuffered(buffer.length());
       if (!queue.write(buffer)) {
         // We only pause when we are actively called by the connection
         conn.doPause();
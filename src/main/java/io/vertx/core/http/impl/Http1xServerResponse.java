@@ -29,6 +29,7 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.buffer.impl.BufferInternal;
+import io.vertx.core.file.impl.FileHandleCache;
 import io.vertx.core.http.Cookie;
 import io.vertx.core.http.HttpClosedException;
 import io.vertx.core.http.HttpHeaders;
@@ -42,12 +43,15 @@ import io.vertx.core.impl.logging.Logger;
 import io.vertx.core.impl.logging.LoggerFactory;
 import io.vertx.core.net.HostAndPort;
 import io.vertx.core.net.NetSocket;
+import io.vertx.core.net.impl.FileTransferStream;
 import io.vertx.core.spi.metrics.Metrics;
 import io.vertx.core.spi.observability.HttpResponse;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static io.vertx.core.http.HttpHeaders.*;
 
@@ -63,7 +67,7 @@ import static io.vertx.core.http.HttpHeaders.*;
  *
  * @author <a href="http://tfox.org">Tim Fox</a>
  */
-public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
+public class Http1xServerResponse implements HttpServerResponse, HttpResponse, FileTransferStream {
 
   private static final Buffer EMPTY_BUFFER = BufferInternal.buffer(Unpooled.EMPTY_BUFFER);
   private static final Logger log = LoggerFactory.getLogger(Http1xServerResponse.class);
@@ -318,7 +322,13 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
   @Override
   public Future<Void> write(Buffer chunk) {
     PromiseInternal<Void> promise = context.promise();
-    write(((BufferInternal)chunk).getByteBuf(), promise);
+    ByteBuf buf = ((BufferInternal)chunk).transferByteBuf();
+    try {
+      write(buf, promise);
+    } catch (IllegalStateException e) {
+      buf.release();
+      throw e;
+    }
     return promise.future();
   }
 
@@ -383,7 +393,7 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
         throw new IllegalStateException(RESPONSE_WRITTEN);
       }
       written = true;
-      ByteBuf data = ((BufferInternal)chunk).getByteBuf();
+      ByteBuf data = ((BufferInternal)chunk).transferByteBuf();
       bytesWritten += data.readableBytes();
       HttpObject msg;
       if (!headWritten) {
@@ -433,27 +443,145 @@ public class Http1xServerResponse implements HttpServerResponse, HttpResponse {
       }
       File file = vertx.resolveFile(filename);
       ContextInternal ctx = vertx.getOrCreateContext();
-      RandomAccessFile raf;
+      SendFileCache sendFileCache = conn.sendFileCache;
+      if (sendFileCache != null && offset == 0 && length == Long.MAX_VALUE && !head) {
+        SendFileCache.Entry entry = sendFileCache.getIfChecked(file);
+        if (entry != null) {
+          return sendFile(ctx, entry);
+        }
+        // Check or load the file off the event loop
+        return ctx.<SendFileCache.Entry>executeBlockingInternal(() -> sendFileCache.get(file)).compose(loaded -> {
+          synchronized (conn) {
+            if (written || headWritten) {
+              if (loaded != null) {
+                loaded.content.release();
+              }
+              return ctx.failedFuture(new IllegalStateException(RESPONSE_WRITTEN));
+            }
+            if (loaded != null) {
+              return sendFile(ctx, loaded);
+            }
+            return sendFile(ctx, file, filename, offset, length);
+          }
+        });
+      }
+      return sendFile(ctx, file, filename, offset, length);
+    }
+  }
+
+  private Future<Void> sendFile(ContextInternal ctx, File file, String filename, long offset, long length) {
+    FileHandleCache cache = vertx.getFileHandleCache();
+    if (cache != null) {
+      FileHandleCache.FileHandle handle;
       try {
-        raf = new RandomAccessFile(file, "r");
+        handle = cache.acquire(file);
       } catch (Exception e) {
         return ctx.failedFuture(e);
       }
-      long actualLength = Math.min(length, file.length() - offset);
-      long actualOffset = Math.min(offset, file.length());
-      if (!headers.contains(HttpHeaders.CONTENT_TYPE)) {
-        String contentType = MimeMapping.getMimeTypeForFilename(filename);
-        if (contentType != null) {
-          headers.set(HttpHeaders.CONTENT_TYPE, contentType);
-        }
+      long actualLength = Math.min(length, handle.length() - offset);
+      long actualOffset = Math.min(offset, handle.length());
+      setContentType(filename);
+      return sendFile(ctx, actualLength, () -> conn.sendFile(handle, actualOffset, actualLength), handle::release);
+    }
+    RandomAccessFile raf;
+    try {
+      raf = new RandomAccessFile(file, "r");
+    } catch (Exception e) {
+      return ctx.failedFuture(e);
+    }
+    long actualLength = Math.min(length, file.length() - offset);
+    long actualOffset = Math.min(offset, file.length());
+    setContentType(filename);
+    return sendFile(ctx, raf, actualOffset, actualLength);
+  }
+
+  private Future<Void> sendFile(ContextInternal ctx, SendFileCache.Entry entry) {
+    if (entry.contentType != null && !headers.contains(HttpHeaders.CONTENT_TYPE)) {
+      headers.set(HttpHeaders.CONTENT_TYPE, entry.contentType);
+    }
+    if (!headers.contains(HttpHeaders.ETAG)) {
+      headers.set(HttpHeaders.ETAG, entry.etag);
+    }
+    if (!headers.contains(HttpHeaders.LAST_MODIFIED)) {
+      headers.set(HttpHeaders.LAST_MODIFIED, entry.lastModified);
+    }
+    // The content is a retained duplicate of the cached buffer, released by the encoder
+    written = true;
+    bytesWritten = entry.length;
+    try {
+      prepareHeaders(bytesWritten);
+    } catch (RuntimeException e) {
+      entry.content.release();
+      throw e;
+    }
+    PromiseInternal<Void> promise = ctx.promise();
+    conn.write(new AssembledFullHttpResponse(head, version, status, headers, entry.content, trailingHeaders), promise);
+    if (bodyEndHandler != null) {
+      bodyEndHandler.handle(null);
+    }
+    if (!closed && endHandler != null) {
+      endHandler.handle(null);
+    }
+    if (!keepAlive) {
+      closed = true;
+    }
+    return promise.future();
+  }
+
+  private void setContentType(String filename) {
+    if (!headers.contains(HttpHeaders.CONTENT_TYPE)) {
+      String contentType = MimeMapping.getMimeTypeForFilename(filename);
+      if (contentType != null) {
+        headers.set(HttpHeaders.CONTENT_TYPE, contentType);
+      }
+    }
+  }
+
+  @Override
+  public boolean canTransferFile() {
+    synchronized (conn) {
+      return !head && !headWritten && !written && !closed && !headers.contains(HttpHeaders.TRANSFER_ENCODING);
+    }
+  }
+
+  @Override
+  public Future<Void> transferFile(RandomAccessFile file, long offset, long length) {
+    synchronized (conn) {
+      checkValid();
+      if (headWritten) {
+        throw new IllegalStateException("Head already written");
+      }
+      return sendFile(vertx.getOrCreateContext(), file, offset, length);
+    }
+  }
+
+  private Future<Void> sendFile(ContextInternal ctx, RandomAccessFile raf, long actualOffset, long actualLength) {
+    return sendFile(ctx, actualLength, () -> conn.sendFile(raf, actualOffset, actualLength), () -> {
+      try {
+        raf.close();
+      } catch (IOException ignore) {
+      }
+    });
+  }
+
+  /**
+   * @param send hands the file to the connection, which closes it once sent
+   * @param close closes the file when it could not be handed to the connection
+   */
+  private Future<Void> sendFile(ContextInternal ctx, long actualLength, Supplier<ChannelFuture> send, Runnable close) {
+    synchronized (conn) {
+      try {
+        prepareHeaders(actualLength);
+      } catch (RuntimeException e) {
+        close.run();
+        throw e;
       }
-      prepareHeaders(actualLength);
       bytesWritten = actualLength;
       written = true;
 
       conn.write(new AssembledHttpResponse(head, version, status, headers), null);
 
-      ChannelFuture channelFut = conn.sendFile(raf, actualOffset, actualLength);
+      ChannelFuture channelFut = send.get();
       channelFut.addListener(future -> {
 
         // write an empty last content to let the http encoder know the response is complete
@@ -48,6 +48,7 @@ public class HttpServerImpl extends TCPServerBase implements HttpServer, Closeab
 
   final HttpServerOptions options;
   private final boolean disableH2c;
+  final SendFileCache sendFileCache;
   private Handler<HttpServerRequest> requestHandler;
   private Handler<ServerWebSocket> wsHandler;
   private Handler<HttpServerRequest> invalidRequestHandler;
@@ -59,6 +60,7 @@ public class HttpServerImpl extends TCPServerBase implements HttpServer, Closeab
     super(vertx, options);
     this.options = (HttpServerOptions) super.options;
     this.disableH2c = Boolean.getBoolean(DISABLE_H2C_PROP_NAME) || options.isSsl();
+    this.sendFileCache = options.getSendFileCacheSize() > 0 ? new SendFileCache(options.getSendFileCacheSize(), options.getSendFileCacheMaxFileSize()) : null;
   }
 
   @Override
@@ -183,6 +185,14 @@ public class HttpServerImpl extends TCPServerBase implements HttpServer, Closeab
     return promise.future();
   }
 
+  @Override
+  public void close(Promise<Void> completion) {
+    if (sendFileCache != null) {
+      completion.future().onComplete(ar -> sendFileCache.close());
+    }
+    super.close(completion);
+  }
+
   public boolean isClosed() {
     return !isListening();
   }
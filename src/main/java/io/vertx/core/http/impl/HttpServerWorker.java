@@ -306,7 +306,8 @@ public class HttpServerWorker implements TCPServerBase.Worker {
         chctx,
         context,
         serverOrigin,
-        metrics);
+        metrics,
+        server.sendFileCache);
       return conn;
     });
     pipeline.addLast("handler", handler);
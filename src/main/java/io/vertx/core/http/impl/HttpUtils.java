@@ -25,6 +25,7 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.AsyncFile;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.file.OpenOptions;
+import io.vertx.core.file.impl.FileHandleCache;
 import io.vertx.core.http.HttpClosedException;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
@@ -934,6 +935,26 @@ public final class HttpUtils {
   static Future<AsyncFile> resolveFile(ContextInternal context, String filename, long offset, long length) {
     VertxInternal vertx = context.owner();
     File file_ = vertx.resolveFile(filename);
+    FileHandleCache cache = vertx.getFileHandleCache();
+    if (cache != null) {
+      // The cached handle validates the file without opening it again
+      long fileLength;
+      try {
+        FileHandleCache.FileHandle handle = cache.acquire(file_);
+        fileLength = handle.length();
+        handle.release();
+      } catch (IOException e) {
+        return context.failedFuture(e);
+      }
+      return vertx.fileSystem().open(filename, new OpenOptions().setCreate(false).setWrite(false))
+        .andThen(ar -> {
+          if (ar.succeeded()) {
+            AsyncFile file = ar.result();
+            file.setReadPos(offset);
+            file.setReadLength(Math.min(length, fileLength - offset));
+          }
+        });
+    }
     if (!file_.exists()) {
       return context.failedFuture(new FileNotFoundException());
     }
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.DateFormatter;
+import io.netty.util.AsciiString;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A server cache of the content of small files sent with {@code sendFile}, held in direct buffers with their
+ * precomputed headers.
+ * <p>
+ * A cached file is checked against its size and last modified time at most once per {@link #CHECK_INTERVAL}, so a
+ * hot file is served without any file system call. The least recently used files are evicted when the cache exceeds
+ * its size.
+ */
+class SendFileCache {
+
+  /**
+   * The interval between the checks of a cached file.
+   */
+  static final long CHECK_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+  private final long maxSize;
+  private final int maxFileSize;
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long size;
+
+  SendFileCache(long maxSize, int maxFileSize) {
+    this.maxSize = maxSize;
+    this.maxFileSize = maxFileSize;
+  }
+
+  /**
+   * Lookup a cached file checked less than {@link #CHECK_INTERVAL} ago, without any file system call, the content of
+   * the returned entry is a retained duplicate owned by the caller.
+   *
+   * @param file the file
+   * @return the entry or {@code null} when the file needs to be checked or loaded with {@link #get(File)}
+   */
+  synchronized Entry getIfChecked(File file) {
+    Entry entry = entries.get(file.getAbsolutePath());
+    if (entry != null && System.nanoTime() - entry.checked < CHECK_INTERVAL) {
+      return entry.retainedDuplicate();
+    }
+    return null;
+  }
+
+  /**
+   * Lookup a file, checking or loading it, the content of the returned entry is a retained duplicate owned by
+   * the caller.
+   * <p>
+   * This method performs blocking file system calls and must not be called from an event loop.
+   *
+   * @param file the file
+   * @return the entry or {@code null} when the file is not a regular file small enough to be cached
+   */
+  Entry get(File file) {
+    String key = file.getAbsolutePath();
+    long now = System.nanoTime();
+    Entry entry;
+    synchronized (this) {
+      entry = entries.get(key);
+      if (entry != null && now - entry.checked < CHECK_INTERVAL) {
+        return entry.retainedDuplicate();
+      }
+    }
+    BasicFileAttributes attrs;
+    try {
+      attrs = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+    } catch (IOException e) {
+      attrs = null;
+    }
+    if (entry != null) {
+      synchronized (this) {
+        if (entries.get(key) == entry) {
+          if (attrs != null && entry.matches(attrs)) {
+            entry.checked = now;
+            return entry.retainedDuplicate();
+          }
+          evict(key);
+        }
+      }
+    }
+    if (attrs == null || !attrs.isRegularFile() || attrs.size() > maxFileSize || attrs.size() > maxSize) {
+      return null;
+    }
+    byte[] bytes;
+    try {
+      bytes = Files.readAllBytes(file.toPath());
+    } catch (IOException e) {
+      return null;
+    }
+    if (bytes.length != attrs.size()) {
+      // Modified meanwhile
+      return null;
+    }
+    ByteBuf content = Unpooled.directBuffer(bytes.length).writeBytes(bytes);
+    Entry created = new Entry(content, file.getName(), attrs, now);
+    synchronized (this) {
+      if (entries.containsKey(key)) {
+        evict(key);
+      }
+      entries.put(key, created);
+      size += created.length;
+      // Evict the least recently used files
+      for (Iterator<Entry> it = entries.values().iterator(); size > maxSize && it.hasNext();) {
+        Entry evicted = it.next();
+        it.remove();
+        size -= evicted.length;
+        evicted.content.release();
+      }
+      return created.retainedDuplicate();
+    }
+  }
+
+  private void evict(String key) {
+    Entry evicted = entries.remove(key);
+    size -= evicted.length;
+    evicted.content.release();
+  }
+
+  /**
+   * @return the number of bytes held in the cache
+   */
+  synchronized long size() {
+    return size;
+  }
+
+  synchronized void close() {
+    for (Entry entry : entries.values()) {
+      entry.content.release();
+    }
+    entries.clear();
+    size = 0L;
+  }
+
+  static class Entry {
+
+    final ByteBuf content;
+    final CharSequence contentType;
+    final CharSequence etag;
+    final CharSequence lastModified;
+    final long length;
+    private final long lastModifiedTime;
+    private long checked;
+
+    private Entry(ByteBuf content, String fileName, BasicFileAttributes attrs, long checked) {
+      String mimeType = MimeMapping.getMimeTypeForFilename(fileName);
+      this.content = content;
+      this.contentType = mimeType != null ? AsciiString.of(mimeType) : null;
+      this.length = attrs.size();
+      this.lastModifiedTime = attrs.lastModifiedTime().toMillis();
+      this.etag = AsciiString.of("\"" + Long.toHexString(lastModifiedTime) + "-" + Long.toHexString(length) + "\"");
+      this.lastModified = AsciiString.of(DateFormatter.format(new Date(lastModifiedTime)));
+      this.checked = checked;
+    }
+
+    private Entry(Entry that, ByteBuf content) {
+      this.content = content;
+      this.contentType = that.contentType;
+      this.etag = that.etag;
+      this.lastModified = that.lastModified;
+      this.length = that.length;
+      this.lastModifiedTime = that.lastModifiedTime;
+      this.checked = that.checked;
+    }
+
+    private boolean matches(BasicFileAttributes attrs) {
+      return attrs.isRegularFile() && attrs.size() == length && attrs.lastModifiedTime().toMillis() == lastModifiedTime;
+    }
+
+    private Entry retainedDuplicate() {
+      return new Entry(this, content.retainedDuplicate());
+    }
+  }
+}
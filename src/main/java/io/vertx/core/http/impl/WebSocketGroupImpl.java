@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionEncoder;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferInternal;
+import io.vertx.core.buffer.impl.VertxByteBufAllocator;
+import io.vertx.core.http.ServerWebSocket;
+import io.vertx.core.http.WebSocketGroup;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.impl.future.PromiseInternal;
+import io.vertx.core.net.impl.MessageWrite;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Group implementation, members are kept per event-loop.
+ */
+public class WebSocketGroupImpl implements WebSocketGroup {
+
+  private static final int OPCODE_TEXT = 0x1;
+  private static final int OPCODE_BINARY = 0x2;
+
+  private final VertxInternal vertx;
+  private final ConcurrentMap<EventExecutor, Set<ServerWebSocketImpl>> members = new ConcurrentHashMap<>();
+  private final AtomicInteger size = new AtomicInteger();
+
+  public WebSocketGroupImpl(VertxInternal vertx) {
+    this.vertx = vertx;
+  }
+
+  @Override
+  public WebSocketGroup add(ServerWebSocket webSocket) {
+    ServerWebSocketImpl ws = (ServerWebSocketImpl) webSocket;
+    Set<ServerWebSocketImpl> group = members.computeIfAbsent(executor(ws), k -> ConcurrentHashMap.newKeySet());
+    if (group.add(ws)) {
+      size.incrementAndGet();
+      connection(ws).closeFuture().onComplete(v -> remove(ws));
+    }
+    return this;
+  }
+
+  @Override
+  public WebSocketGroup remove(ServerWebSocket webSocket) {
+    ServerWebSocketImpl ws = (ServerWebSocketImpl) webSocket;
+    Set<ServerWebSocketImpl> group = members.get(executor(ws));
+    if (group != null && group.remove(ws)) {
+      size.decrementAndGet();
+    }
+    return this;
+  }
+
+  @Override
+  public int size() {
+    return size.get();
+  }
+
+  @Override
+  public Future<Void> writeTextMessage(String text) {
+    Buffer payload = Buffer.buffer(text);
+    return broadcast(OPCODE_TEXT, payload, text);
+  }
+
+  @Override
+  public Future<Void> writeBinaryMessage(Buffer data) {
+    return broadcast(OPCODE_BINARY, data, null);
+  }
+
+  private static Http1xConnectionBase connection(ServerWebSocketImpl ws) {
+    return ((WebSocketImplBase<?>) ws).conn;
+  }
+
+  private static EventExecutor executor(ServerWebSocketImpl ws) {
+    return ws.channelHandlerContext().executor();
+  }
+
+  private Future<Void> broadcast(int opcode, Buffer payload, String text) {
+    PromiseInternal<Void> promise = vertx.promise();
+    ByteBuf frame = encodeFrame(opcode, ((BufferInternal) payload).getByteBuf());
+    Broadcast broadcast = new Broadcast(promise, frame, payload, text);
+    try {
+      for (Map.Entry<EventExecutor, Set<ServerWebSocketImpl>> entry : members.entrySet()) {
+        EventExecutor executor = entry.getKey();
+        Set<ServerWebSocketImpl> group = entry.getValue();
+        if (group.isEmpty()) {
+          continue;
+        }
+        broadcast.begin();
+        frame.retain();
+        if (executor.inEventLoop()) {
+          broadcast.write(group);
+        } else {
+          executor.execute(() -> broadcast.write(group));
+        }
+      }
+    } finally {
+      frame.release();
+      broadcast.end();
+    }
+    return promise.future();
+  }
+
+  /**
+   * Encode a final unmasked frame (RFC 6455 section 5.2).
+   */
+  static ByteBuf encodeFrame(int opcode, ByteBuf payload) {
+    int len = payload.readableBytes();
+    int headerLen = len < 126 ? 2 : len <= 0xFFFF ? 4 : 10;
+    ByteBuf frame = VertxByteBufAllocator.POOLED_ALLOCATOR.directBuffer(headerLen + len);
+    frame.writeByte(0x80 | opcode);
+    if (len < 126) {
+      frame.writeByte(len);
+    } else if (len <= 0xFFFF) {
+      frame.writeByte(126);
+      frame.writeShort(len);
+    } else {
+      frame.writeByte(127);
+      frame.writeLong(len);
+    }
+    frame.writeBytes(payload, payload.readerIndex(), len);
+    return frame;
+  }
+
+  /**
+   * The state of a single broadcast operation, the promise is completed when all the pending writes are done.
+   */
+  private static class Broadcast {
+
+    private final PromiseInternal<Void> promise;
+    private final ByteBuf frame;
+    private final Buffer payload;
+    private final String text;
+    private final AtomicInteger pending = new AtomicInteger(1);
+
+    Broadcast(PromiseInternal<Void> promise, ByteBuf frame, Buffer payload, String text) {
+      this.promise = promise;
+      this.frame = frame;
+      this.payload = payload;
+      this.text = text;
+    }
+
+    void begin() {
+      pending.incrementAndGet();
+    }
+
+    void end() {
+      if (pending.decrementAndGet() == 0) {
+        promise.tryComplete();
+      }
+    }
+
+    /**
+     * Write the frame to a group of members, this is called on the event-loop of the group.
+     */
+    void write(Set<ServerWebSocketImpl> group) {
+      try {
+        for (ServerWebSocketImpl ws : group) {
+          if (ws.isClosed() || ws.tryHandshake(101) != Boolean.TRUE) {
+            continue;
+          }
+          begin();
+          if (canShareFrame(ws)) {
+            ByteBuf msg = frame.retainedDuplicate();
+            Http1xConnectionBase conn = connection(ws);
+            conn.writeToChannel(new MessageWrite() {
+              @Override
+              public void write() {
+                conn.write(msg, false, conn.channelHandlerContext().newPromise().addListener(f -> end()));
+              }
+              @Override
+              public void cancel(Throwable cause) {
+                msg.release();
+                end();
+              }
+            });
+          } else {
+            Future<Void> fut;
+            try {
+              fut = text != null ? ws.writeTextMessage(text) : ws.writeBinaryMessage(payload);
+            } catch (Exception e) {
+              end();
+              continue;
+            }
+            fut.onComplete(ar -> end());
+          }
+        }
+      } finally {
+        frame.release();
+        end();
+      }
+    }
+
+    /**
+     * The encoded frame bypasses the pipeline WebSocket encoders, it cannot be used when a compression extension
+     * needs to process the frame, for hybi-00 or when the frame is larger than the member frame size.
+     */
+    private boolean canShareFrame(ServerWebSocketImpl ws) {
+      return ws.supportsContinuation() &&
+        payload.length() <= ws.maxWebSocketFrameSize() &&
+        ws.channelHandlerContext().pipeline().get(WebSocketExtensionEncoder.class) == null;
+    }
+  }
+}
@@ -12,6 +12,7 @@
 package io.vertx.core.http.impl;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
@@ -25,6 +26,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.buffer.impl.BufferInternal;
+import io.vertx.core.buffer.impl.VertxByteBufAllocator;
 import io.vertx.core.eventbus.EventBus;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.MessageConsumer;
@@ -39,6 +41,7 @@ import io.vertx.core.streams.impl.InboundBuffer;
 import javax.net.ssl.SSLPeerUnverifiedException;
 import javax.net.ssl.SSLSession;
 import javax.security.cert.X509Certificate;
+import java.nio.charset.StandardCharsets;
 import java.security.cert.Certificate;
 import java.util.List;
 import java.util.UUID;
@@ -136,6 +139,14 @@ public abstract class WebSocketImplBase<S extends WebSocket> implements WebSocke
     return textHandlerID;
   }
 
+  boolean supportsContinuation() {
+    return supportsContinuation;
+  }
+
+  int maxWebSocketFrameSize() {
+    return maxWebSocketFrameSize;
+  }
+
   public boolean writeQueueFull() {
     synchronized (conn) {
       checkClosed();
@@ -497,12 +508,16 @@ public abstract class WebSocketImplBase<S extends WebSocket> implements WebSocke
     }
   }
 
+  /**
+   * Aggregates message fragments by reference in a {@link CompositeByteBuf}, the message bytes are copied at most
+   * once when the final fragment is received.
+   */
   private class FrameAggregator implements Handler<WebSocketFrameInternal> {
     private Handler<String> textMessageHandler;
     private Handler<Buffer> binaryMessageHandler;
 
-    private Buffer textMessageBuffer;
-    private Buffer binaryMessageBuffer;
+    private CompositeByteBuf textMessageBuffer;
+    private CompositeByteBuf binaryMessageBuffer;
 
     @Override
     public void handle(WebSocketFrameInternal frame) {
@@ -514,9 +529,9 @@ public abstract class WebSocketImplBase<S extends WebSocket> implements WebSocke
           handleBinaryFrame(frame);
           break;
         case CONTINUATION:
-          if (textMessageBuffer != null && textMessageBuffer.length() > 0) {
+          if (textMessageBuffer != null && textMessageBuffer.isReadable()) {
             handleTextFrame(frame);
-          } else if (binaryMessageBuffer != null && binaryMessageBuffer.length() > 0) {
+          } else if (binaryMessageBuffer != null && binaryMessageBuffer.isReadable()) {
             handleBinaryFrame(frame);
           }
           break;
@@ -524,23 +539,10 @@ public abstract class WebSocketImplBase<S extends WebSocket> implements WebSocke
     }
 
     private void handleTextFrame(WebSocketFrameInternal frame) {
-      Buffer frameBuffer = BufferInternal.buffer(frame.getBinaryData());
-      if (textMessageBuffer == null) {
-        textMessageBuffer = frameBuffer;
-      } else {
-        textMessageBuffer.appendBuffer(frameBuffer);
-      }
-      if (textMessageBuffer.length() > maxWebSocketMessageSize) {
-        int len = textMessageBuffer.length() - frameBuffer.length();
-        textMessageBuffer = null;
-        String msg = "Cannot process text frame of size " + frameBuffer.length() + ", it would cause message buffer (size " +
-            len + ") to overflow max message size of " + maxWebSocketMessageSize;
-        handleException(new IllegalStateException(msg));
-        return;
-      }
-      if (frame.isFinal()) {
-        String fullMessage = textMessageBuffer.toString();
-        textMessageBuffer = null;
+      textMessageBuffer = aggregate(textMessageBuffer, frame.getBinaryData(), "text");
+      if (textMessageBuffer != null && frame.isFinal()) {
+        String fullMessage = textMessageBuffer.toString(StandardCharsets.UTF_8);
+        resetTextMessage();
         if (textMessageHandler != null) {
           textMessageHandler.handle(fullMessage);
         }
@@ -548,26 +550,49 @@ public abstract class WebSocketImplBase<S extends WebSocket> implements WebSocke
     }
 
     private void handleBinaryFrame(WebSocketFrameInternal frame) {
-      Buffer frameBuffer = BufferInternal.buffer(frame.getBinaryData());
-      if (binaryMessageBuffer == null) {
-        binaryMessageBuffer = frameBuffer;
-      } else {
-        binaryMessageBuffer.appendBuffer(frameBuffer);
+      binaryMessageBuffer = aggregate(binaryMessageBuffer, frame.getBinaryData(), "binary");
+      if (binaryMessageBuffer != null && frame.isFinal()) {
+        Buffer fullMessage = BufferInternal.buffer(binaryMessageBuffer.copy());
+        resetBinaryMessage();
+        if (binaryMessageHandler != null) {
+          binaryMessageHandler.handle(fullMessage);
+        }
       }
-      if (binaryMessageBuffer.length() > maxWebSocketMessageSize) {
-        int len = binaryMessageBuffer.length() - frameBuffer.length();
-        binaryMessageBuffer = null;
-        String msg = "Cannot process binary frame of size " + frameBuffer.length() + ", it would cause message buffer (size " +
+    }
+
+    /**
+     * Append a fragment to the message, the fragment is not copied.
+     *
+     * @return the message or {@code null} when the fragment would overflow the max message size
+     */
+    private CompositeByteBuf aggregate(CompositeByteBuf message, ByteBuf fragment, String type) {
+      int len = message != null ? message.readableBytes() : 0;
+      if (len + fragment.readableBytes() > maxWebSocketMessageSize) {
+        if (message != null) {
+          message.release();
+        }
+        String msg = "Cannot process " + type + " frame of size " + fragment.readableBytes() + ", it would cause message buffer (size " +
             len + ") to overflow max message size of " + maxWebSocketMessageSize;
         handleException(new IllegalStateException(msg));
-        return;
+        return null;
+      }
+      if (message == null) {
+        message = new CompositeByteBuf(VertxByteBufAllocator.DEFAULT, false, Integer.MAX_VALUE);
+      }
+      return message.addComponent(true, fragment.retainedDuplicate());
+    }
+
+    private void resetTextMessage() {
+      if (textMessageBuffer != null) {
+        textMessageBuffer.release();
+        textMessageBuffer = null;
       }
-      if (frame.isFinal()) {
-        Buffer fullMessage = binaryMessageBuffer.copy();
+    }
+
+    private void resetBinaryMessage() {
+      if (binaryMessageBuffer != null) {
+        binaryMessageBuffer.release();
         binaryMessageBuffer = null;
-        if (binaryMessageHandler != null) {
-          binaryMessageHandler.handle(fullMessage);
-        }
       }
     }
   }
@@ -596,7 +621,7 @@ public abstract class WebSocketImplBase<S extends WebSocket> implements WebSocke
             frameAggregator = null;
           } else {
             frameAggregator.textMessageHandler = null;
-            frameAggregator.textMessageBuffer = null;
+            frameAggregator.resetTextMessage();
           }
         }
       }
@@ -619,7 +644,7 @@ public abstract class WebSocketImplBase<S extends WebSocket> implements WebSocke
             frameAggregator = null;
           } else {
             frameAggregator.binaryMessageHandler = null;
-            frameAggregator.binaryMessageBuffer = null;
+            frameAggregator.resetBinaryMessage();
           }
         }
       }
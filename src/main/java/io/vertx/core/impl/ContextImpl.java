@@ -137,7 +137,7 @@ public final class ContextImpl implements ContextInternal {
     return executeBlocking(this, blockingCodeHandler, workerPool, queue);
   }
 
-  static <T> Future<T> executeBlocking(ContextInternal context, Callable<T> blockingCodeHandler,
+  public static <T> Future<T> executeBlocking(ContextInternal context, Callable<T> blockingCodeHandler,
                                        WorkerPool workerPool, TaskQueue queue) {
     return internalExecuteBlocking(context, promise -> {
       T result;
@@ -38,6 +38,8 @@ import io.vertx.core.net.impl.*;
 import io.vertx.core.impl.transports.JDKTransport;
 import io.vertx.core.spi.file.FileResolver;
 import io.vertx.core.file.impl.FileSystemImpl;
+import io.vertx.core.file.impl.FileHandleCache;
+import io.vertx.core.file.impl.FileSystemWorkerPool;
 import io.vertx.core.file.impl.WindowsFileSystem;
 import io.vertx.core.impl.future.PromiseInternal;
 import io.vertx.core.impl.logging.Logger;
@@ -120,6 +122,8 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   private final Map<ServerID, NetServerImpl> sharedNetServers = new HashMap<>();
   final WorkerPool workerPool;
   final WorkerPool internalWorkerPool;
+  final FileSystemWorkerPool fileSystemWorkerPool;
+  private final FileHandleCache fileHandleCache;
   private final VertxThreadFactory threadFactory;
   private final ExecutorServiceFactory executorServiceFactory;
   private final ThreadFactory eventLoopThreadFactory;
@@ -168,6 +172,21 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     ThreadFactory internalWorkerThreadFactory = createThreadFactory(threadFactory, checker, useDaemonThread, maxWorkerExecuteTime, maxWorkerExecuteTimeUnit, "vert.x-internal-blocking-", true);
     ExecutorService internalWorkerExec = executorServiceFactory.createExecutor(internalWorkerThreadFactory, internalBlockingPoolSize, internalBlockingPoolSize);
     PoolMetrics internalBlockingPoolMetrics = metrics != null ? metrics.createPoolMetrics("worker", "vert.x-internal-blocking", internalBlockingPoolSize) : null;
+    int fileSystemPoolSize = options.getFileSystemOptions().getWorkerPoolSize();
+    if (fileSystemPoolSize > 0) {
+      ThreadFactory fileSystemThreadFactory = createThreadFactory(threadFactory, checker, useDaemonThread, maxWorkerExecuteTime, maxWorkerExecuteTimeUnit, "vert.x-file-system-thread-", true);
+      ExecutorService fileSystemExec = executorServiceFactory.createExecutor(fileSystemThreadFactory, fileSystemPoolSize, fileSystemPoolSize);
+      PoolMetrics fileSystemPoolMetrics = metrics != null ? metrics.createPoolMetrics("worker", "vert.x-file-system-thread", fileSystemPoolSize) : null;
+      fileSystemWorkerPool = new FileSystemWorkerPool(fileSystemExec, fileSystemPoolMetrics, fileSystemPoolSize, options.getFileSystemOptions().getWorkerPoolMaxQueueSize());
+    } else {
+      fileSystemWorkerPool = null;
+    }
+    int fileHandleCacheSize = options.getFileSystemOptions().getFileHandleCacheSize();
+    if (fileHandleCacheSize > 0) {
+      fileHandleCache = new FileHandleCache(fileHandleCacheSize, options.getFileSystemOptions().getFileHandleCacheCheckInterval());
+    } else {
+      fileHandleCache = null;
+    }
 
     closeFuture = new CloseFuture(log);
     maxEventLoopExecTime = maxEventLoopExecuteTime;
@@ -445,6 +464,16 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
     return internalWorkerPool;
   }
 
+  @Override
+  public FileSystemWorkerPool getFileSystemWorkerPool() {
+    return fileSystemWorkerPool;
+  }
+
+  @Override
+  public FileHandleCache getFileHandleCache() {
+    return fileHandleCache;
+  }
+
   public EventLoopGroup getEventLoopGroup() {
     return eventLoopGroup;
   }
@@ -822,10 +851,16 @@ public class VertxImpl implements VertxInternal, MetricsProvider {
   private void deleteCacheDirAndShutdown(Promise<Void> promise) {
     executeBlockingInternal(() -> {
       fileResolver.close();
+      if (fileHandleCache != null) {
+        fileHandleCache.close();
+      }
       return null;
     }).onComplete(ar -> {
       workerPool.close();
       internalWorkerPool.close();
+      if (fileSystemWorkerPool != null) {
+        fileSystemWorkerPool.close();
+      }
       List<WorkerPool> objects = SharedResourceHolder.clearSharedResource(this, "__vertx.shared.workerPools");
       for (WorkerPool workerPool : objects) {
         workerPool.close();
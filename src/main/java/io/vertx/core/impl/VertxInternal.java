@@ -16,6 +16,8 @@ import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.resolver.AddressResolverGroup;
 import io.vertx.core.*;
+import io.vertx.core.file.impl.FileHandleCache;
+import io.vertx.core.file.impl.FileSystemWorkerPool;
 import io.vertx.core.http.impl.HttpServerImpl;
 import io.vertx.core.impl.btc.BlockedThreadChecker;
 import io.vertx.core.impl.future.PromiseInternal;
@@ -81,6 +83,16 @@ public interface VertxInternal extends Vertx {
 
   WorkerPool getInternalWorkerPool();
 
+  /**
+   * @return the worker pool dedicated to the file system or {@code null} when the file system uses the shared pools
+   */
+  FileSystemWorkerPool getFileSystemWorkerPool();
+
+  /**
+   * @return the cache of open file handles or {@code null} when the cache is disabled
+   */
+  FileHandleCache getFileHandleCache();
+
   Map<ServerID, HttpServerImpl> sharedHttpServers();
 
   Map<ServerID, NetServerImpl> sharedNetServers();
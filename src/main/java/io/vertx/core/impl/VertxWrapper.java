@@ -25,6 +25,8 @@ import io.vertx.core.dns.DnsClient;
 import io.vertx.core.dns.DnsClientOptions;
 import io.vertx.core.eventbus.EventBus;
 import io.vertx.core.file.FileSystem;
+import io.vertx.core.file.impl.FileHandleCache;
+import io.vertx.core.file.impl.FileSystemWorkerPool;
 import io.vertx.core.http.*;
 import io.vertx.core.http.impl.HttpServerImpl;
 import io.vertx.core.impl.btc.BlockedThreadChecker;
@@ -321,6 +323,16 @@ public abstract class VertxWrapper implements VertxInternal {
     return delegate.getInternalWorkerPool();
   }
 
+  @Override
+  public FileSystemWorkerPool getFileSystemWorkerPool() {
+    return delegate.getFileSystemWorkerPool();
+  }
+
+  @Override
+  public FileHandleCache getFileHandleCache() {
+    return delegate.getFileHandleCache();
+  }
+
   @Override
   public Map<ServerID, HttpServerImpl> sharedHttpServers() {
     return delegate.sharedHttpServers();
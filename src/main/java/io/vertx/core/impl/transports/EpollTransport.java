@@ -13,6 +13,7 @@ package io.vertx.core.impl.transports;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.*;
 import io.netty.channel.epoll.Epoll;
 import io.netty.channel.epoll.EpollChannelOption;
@@ -23,14 +24,17 @@ import io.netty.channel.epoll.EpollServerDomainSocketChannel;
 import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.DatagramPacket;
 import io.netty.channel.socket.InternetProtocolFamily;
 import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.channel.unix.SegmentedDatagramPacket;
 import io.vertx.core.datagram.DatagramSocketOptions;
 import io.vertx.core.net.ClientOptionsBase;
 import io.vertx.core.net.NetServerOptions;
 import io.vertx.core.net.impl.SocketAddressImpl;
 import io.vertx.core.spi.transport.Transport;
 
+import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.util.concurrent.ThreadFactory;
 
@@ -92,6 +96,14 @@ public class EpollTransport implements Transport {
     return Epoll.isAvailable();
   }
 
+  @Override
+  public long roundTripTime(Channel channel) {
+    if (channel instanceof EpollSocketChannel) {
+      return ((EpollSocketChannel) channel).tcpInfo().rtt();
+    }
+    return -1L;
+  }
+
   @Override
   public Throwable unavailabilityCause() {
     return Epoll.unavailabilityCause();
@@ -134,6 +146,27 @@ public class EpollTransport implements Transport {
   public void configure(DatagramChannel channel, DatagramSocketOptions options) {
     channel.config().setOption(EpollChannelOption.SO_REUSEPORT, options.isReusePort());
     Transport.super.configure(channel, options);
+    int maxDatagramPayloadSize = options.getMaxDatagramPayloadSize();
+    if (maxDatagramPayloadSize > 0) {
+      // recvmmsg reads as many datagrams as the receive buffer can hold
+      long receiveBufferSize = (long) maxDatagramPayloadSize * options.getReceiveBatchSize();
+      if (receiveBufferSize > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Invalid receive buffer size " + receiveBufferSize + ", reduce the max datagram payload size or the receive batch size");
+      }
+      channel.config().setOption(EpollChannelOption.MAX_DATAGRAM_PAYLOAD_SIZE, maxDatagramPayloadSize);
+      channel.config().setRecvByteBufAllocator(new FixedRecvByteBufAllocator((int) receiveBufferSize));
+      if (options.isUdpGro()) {
+        channel.config().setOption(EpollChannelOption.UDP_GRO, true);
+      }
+    }
+  }
+
+  @Override
+  public DatagramPacket segmentedDatagramPacket(ByteBuf content, int segmentSize, InetSocketAddress recipient) {
+    if (EpollDatagramChannel.isSegmentedDatagramPacketSupported()) {
+      return new SegmentedDatagramPacket(content, segmentSize, recipient);
+    }
+    return null;
   }
 
   @Override
@@ -694,9 +694,10 @@ public class JsonArray implements Iterable<Object>, ClusterSerializable, Shareab
 
   @Override
   public void writeToBuffer(Buffer buffer) {
-    Buffer buf = toBuffer();
-    buffer.appendInt(buf.length());
-    buffer.appendBuffer(buf);
+    int pos = buffer.length();
+    buffer.appendInt(0);
+    Json.CODEC.appendToBuffer(this, false, buffer);
+    buffer.setInt(pos, buffer.length() - pos - 4);
   }
 
   @Override
@@ -11,6 +11,8 @@
 package io.vertx.core.json;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.impl.CompactJsonMap;
+import io.vertx.core.json.impl.LazyJsonMap;
 import io.vertx.core.shareddata.ClusterSerializable;
 import io.vertx.core.shareddata.Shareable;
 
@@ -58,7 +60,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * Create a new, empty instance
    */
   public JsonObject() {
-    map = new LinkedHashMap<>();
+    map = newMap();
   }
 
   /**
@@ -88,6 +90,25 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
     }
   }
 
+  /**
+   * Create an instance from a buffer, the fields are decoded when they are accessed.
+   * <p>
+   * This is cheaper than {@link #JsonObject(Buffer)} when only a few fields of a large object are read. The instance
+   * keeps a reference to the buffer, which must not be modified. A malformed field value is reported with a
+   * {@link DecodeException} when the field is accessed.
+   * <p>
+   * As long as the instance is not modified, encoding it copies the buffer content.
+   *
+   * @param buf the buffer to create the instance from
+   * @return the lazily decoded instance
+   */
+  public static JsonObject lazy(Buffer buf) {
+    if (buf == null) {
+      throw new NullPointerException();
+    }
+    return new JsonObject(LazyJsonMap.decode(buf));
+  }
+
   /**
    * Create a JsonObject containing zero mappings.
    *
@@ -105,7 +126,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * @return a JsonObject containing the specified mapping.
    */
   public static JsonObject of(String k1, Object v1) {
-    JsonObject obj = new JsonObject(new LinkedHashMap<>(1));
+    JsonObject obj = new JsonObject(newMap(1));
 
     obj.put(k1, v1);
 
@@ -122,7 +143,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * @return a JsonObject containing the specified mappings.
    */
   public static JsonObject of(String k1, Object v1, String k2, Object v2) {
-    JsonObject obj = new JsonObject(new LinkedHashMap<>(2));
+    JsonObject obj = new JsonObject(newMap(2));
 
     obj.put(k1, v1);
     obj.put(k2, v2);
@@ -142,7 +163,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * @return a JsonObject containing the specified mappings.
    */
   public static JsonObject of(String k1, Object v1, String k2, Object v2, String k3, Object v3) {
-    JsonObject obj = new JsonObject(new LinkedHashMap<>(3));
+    JsonObject obj = new JsonObject(newMap(3));
 
     obj.put(k1, v1);
     obj.put(k2, v2);
@@ -166,7 +187,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public static JsonObject of(String k1, Object v1, String k2, Object v2, String k3, Object v3,
                               String k4, Object v4) {
-    JsonObject obj = new JsonObject(new LinkedHashMap<>(4));
+    JsonObject obj = new JsonObject(newMap(4));
 
     obj.put(k1, v1);
     obj.put(k2, v2);
@@ -193,7 +214,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public static JsonObject of(String k1, Object v1, String k2, Object v2, String k3, Object v3,
                               String k4, Object v4, String k5, Object v5) {
-    JsonObject obj = new JsonObject(new LinkedHashMap<>(5));
+    JsonObject obj = new JsonObject(newMap(5));
 
     obj.put(k1, v1);
     obj.put(k2, v2);
@@ -223,7 +244,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    */
   public static JsonObject of(String k1, Object v1, String k2, Object v2, String k3, Object v3,
                               String k4, Object v4, String k5, Object v5, String k6, Object v6) {
-    JsonObject obj = new JsonObject(new LinkedHashMap<>(6));
+    JsonObject obj = new JsonObject(newMap(6));
 
     obj.put(k1, v1);
     obj.put(k2, v2);
@@ -257,7 +278,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
   public static JsonObject of(String k1, Object v1, String k2, Object v2, String k3, Object v3,
                               String k4, Object v4, String k5, Object v5, String k6, Object v6,
                               String k7, Object v7) {
-    JsonObject obj = new JsonObject(new LinkedHashMap<>(7));
+    JsonObject obj = new JsonObject(newMap(7));
 
     obj.put(k1, v1);
     obj.put(k2, v2);
@@ -294,7 +315,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
   public static JsonObject of(String k1, Object v1, String k2, Object v2, String k3, Object v3,
                               String k4, Object v4, String k5, Object v5, String k6, Object v6,
                               String k7, Object v7, String k8, Object v8) {
-    JsonObject obj = new JsonObject(new LinkedHashMap<>(8));
+    JsonObject obj = new JsonObject(newMap(8));
 
     obj.put(k1, v1);
     obj.put(k2, v2);
@@ -334,7 +355,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
   public static JsonObject of(String k1, Object v1, String k2, Object v2, String k3, Object v3,
                               String k4, Object v4, String k5, Object v5, String k6, Object v6,
                               String k7, Object v7, String k8, Object v8, String k9, Object v9) {
-    JsonObject obj = new JsonObject(new LinkedHashMap<>(9));
+    JsonObject obj = new JsonObject(newMap(9));
 
     obj.put(k1, v1);
     obj.put(k2, v2);
@@ -378,7 +399,7 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
                               String k4, Object v4, String k5, Object v5, String k6, Object v6,
                               String k7, Object v7, String k8, Object v8, String k9, Object v9,
                               String k10, Object v10) {
-    JsonObject obj = new JsonObject(new LinkedHashMap<>(10));
+    JsonObject obj = new JsonObject(newMap(10));
 
     obj.put(k1, v1);
     obj.put(k2, v2);
@@ -1074,8 +1095,16 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
    * @return a copy where all elements have been copied recursively
    */
   public JsonObject copy(Function<Object, ?> cloner) {
+    if (map instanceof LazyJsonMap) {
+      LazyJsonMap copy = ((LazyJsonMap) map).copy();
+      if (copy != null) {
+        return new JsonObject(copy);
+      }
+    }
     Map<String, Object> copiedMap;
-    if (map instanceof LinkedHashMap) {
+    if (map instanceof CompactJsonMap) {
+      copiedMap = new CompactJsonMap(map.size());
+    } else if (map instanceof LinkedHashMap) {
       copiedMap = new LinkedHashMap<>(map.size());
     } else {
       copiedMap = new HashMap<>(map.size());
@@ -1232,9 +1261,10 @@ public class JsonObject implements Iterable<Map.Entry<String, Object>>, ClusterS
 
   @Override
   public void writeToBuffer(Buffer buffer) {
-    Buffer buf = toBuffer();
-    buffer.appendInt(buf.length());
-    buffer.appendBuffer(buf);
+    int pos = buffer.length();
+    buffer.appendInt(0);
+    Json.CODEC.appendToBuffer(this, false, buffer);
+    buffer.setInt(pos, buffer.length() - pos - 4);
   }
 
   @Override
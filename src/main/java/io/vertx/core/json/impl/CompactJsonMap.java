@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.json.impl;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An insertion ordered map storing its entries in a flat array of keys and values, lookups scan the array.
+ * <p>
+ * Small JSON objects stored this way avoid the per entry overhead of a {@link LinkedHashMap}, the map switches to
+ * a {@link LinkedHashMap} when it grows past {@link #MAX_COMPACT_SIZE} entries.
+ */
+public final class CompactJsonMap extends AbstractMap<String, Object> {
+
+  /**
+   * The maximum number of entries stored in the flat array.
+   */
+  public static final int MAX_COMPACT_SIZE = 8;
+
+  private static final Object[] EMPTY = new Object[0];
+
+  private Object[] entries;
+  private int size;
+  private int modCount;
+  private LinkedHashMap<String, Object> map;
+
+  public CompactJsonMap() {
+    this(0);
+  }
+
+  public CompactJsonMap(int capacity) {
+    if (capacity > MAX_COMPACT_SIZE) {
+      map = new LinkedHashMap<>(capacity);
+    } else {
+      entries = capacity == 0 ? EMPTY : new Object[capacity * 2];
+    }
+  }
+
+  private int indexOf(Object key) {
+    Object[] a = entries;
+    for (int i = 0;i < size;i++) {
+      Object k = a[i * 2];
+      if (k == key || (key != null && key.equals(k))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int size() {
+    return map != null ? map.size() : size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return map != null ? map.containsKey(key) : indexOf(key) >= 0;
+  }
+
+  @Override
+  public Object get(Object key) {
+    if (map != null) {
+      return map.get(key);
+    }
+    int idx = indexOf(key);
+    return idx >= 0 ? entries[idx * 2 + 1] : null;
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    if (map != null) {
+      return map.put(key, value);
+    }
+    int idx = indexOf(key);
+    if (idx >= 0) {
+      Object prev = entries[idx * 2 + 1];
+      entries[idx * 2 + 1] = value;
+      return prev;
+    }
+    if (size == MAX_COMPACT_SIZE) {
+      map = new LinkedHashMap<>(MAX_COMPACT_SIZE * 4);
+      for (int i = 0;i < size;i++) {
+        map.put((String) entries[i * 2], entries[i * 2 + 1]);
+      }
+      entries = null;
+      size = 0;
+      return map.put(key, value);
+    }
+    if (size * 2 == entries.length) {
+      entries = Arrays.copyOf(entries, Math.max(4, Math.min(MAX_COMPACT_SIZE, size * 2)) * 2);
+    }
+    entries[size * 2] = key;
+    entries[size * 2 + 1] = value;
+    size++;
+    modCount++;
+    return null;
+  }
+
+  @Override
+  public Object remove(Object key) {
+    if (map != null) {
+      return map.remove(key);
+    }
+    int idx = indexOf(key);
+    if (idx < 0) {
+      return null;
+    }
+    Object prev = entries[idx * 2 + 1];
+    removeAt(idx);
+    return prev;
+  }
+
+  private void removeAt(int idx) {
+    int next = (idx + 1) * 2;
+    System.arraycopy(entries, next, entries, idx * 2, size * 2 - next);
+    size--;
+    entries[size * 2] = null;
+    entries[size * 2 + 1] = null;
+    modCount++;
+  }
+
+  @Override
+  public void clear() {
+    if (map != null) {
+      map.clear();
+    } else {
+      Arrays.fill(entries, 0, size * 2, null);
+      size = 0;
+      modCount++;
+    }
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    if (map != null) {
+      return map.entrySet();
+    }
+    return new EntrySet();
+  }
+
+  private class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+    @Override
+    public Iterator<Entry<String, Object>> iterator() {
+      Map<String, Object> upgraded = map;
+      if (upgraded != null) {
+        return upgraded.entrySet().iterator();
+      }
+      return new EntryIterator();
+    }
+
+    @Override
+    public int size() {
+      return CompactJsonMap.this.size();
+    }
+  }
+
+  private class EntryIterator implements Iterator<Entry<String, Object>> {
+
+    private int next;
+    private int current = -1;
+    private int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext() {
+      return next < size;
+    }
+
+    @Override
+    public Entry<String, Object> next() {
+      checkModCount();
+      if (next >= size) {
+        throw new NoSuchElementException();
+      }
+      current = next++;
+      return new CompactEntry(current);
+    }
+
+    @Override
+    public void remove() {
+      if (current < 0) {
+        throw new IllegalStateException();
+      }
+      checkModCount();
+      removeAt(current);
+      next = current;
+      current = -1;
+      expectedModCount = modCount;
+    }
+
+    private void checkModCount() {
+      if (map != null || modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  private class CompactEntry implements Entry<String, Object> {
+
+    private final int idx;
+    private final int expectedModCount = modCount;
+
+    CompactEntry(int idx) {
+      this.idx = idx;
+    }
+
+    @Override
+    public String getKey() {
+      checkModCount();
+      return (String) entries[idx * 2];
+    }
+
+    @Override
+    public Object getValue() {
+      checkModCount();
+      return entries[idx * 2 + 1];
+    }
+
+    @Override
+    public Object setValue(Object value) {
+      checkModCount();
+      Object prev = entries[idx * 2 + 1];
+      entries[idx * 2 + 1] = value;
+      return prev;
+    }
+
+    private void checkModCount() {
+      if (map != null || modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      Entry<?, ?> that = (Entry<?, ?>) o;
+      return Objects.equals(getKey(), that.getKey()) && Objects.equals(getValue(), that.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + "=" + getValue();
+    }
+  }
+}
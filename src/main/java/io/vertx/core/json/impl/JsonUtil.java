@@ -18,6 +18,7 @@ import io.vertx.core.shareddata.Shareable;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -49,6 +50,31 @@ public final class JsonUtil {
     }
   }
 
+  /**
+   * Whether JSON objects store small maps in a {@link CompactJsonMap}, set the system property
+   * {@code vertx.json.compactObjects} to {@code true} to enable it.
+   */
+  public static final boolean COMPACT_OBJECTS = Boolean.getBoolean("vertx.json.compactObjects");
+
+  /**
+   * Create the map backing a new JSON object.
+   *
+   * @return a {@link CompactJsonMap} when compact objects are enabled, otherwise a {@link LinkedHashMap}
+   */
+  public static Map<String, Object> newMap() {
+    return COMPACT_OBJECTS ? new CompactJsonMap() : new LinkedHashMap<>();
+  }
+
+  /**
+   * Create the map backing a new JSON object.
+   *
+   * @param capacity the expected number of entries
+   * @return a {@link CompactJsonMap} when compact objects are enabled, otherwise a {@link LinkedHashMap}
+   */
+  public static Map<String, Object> newMap(int capacity) {
+    return COMPACT_OBJECTS ? new CompactJsonMap(capacity) : new LinkedHashMap<>(capacity);
+  }
+
   /**
    * Wraps well known java types to adhere to the Json expected types.
    * <ul>
@@ -0,0 +1,565 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.json.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.Json;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A map over an encoded JSON object that decodes its values on access.
+ * <p>
+ * The top level fields of the object are indexed when the map is created: the field names are decoded and the
+ * offsets of their values recorded, values are decoded the first time they are read. A nested object is decoded
+ * as another lazy map, arrays are fully decoded.
+ * <p>
+ * Replacing the value of an existing field is done in place, adding or removing a field converts the map to
+ * a {@link LinkedHashMap}.
+ * <p>
+ * As long as the object is not modified, {@link #raw()} returns the original bytes so the object can be encoded
+ * again without walking its values. Decoding an array is considered as a modification since the returned list
+ * is mutable.
+ * <p>
+ * Malformed values are reported with a {@link DecodeException} when they are accessed.
+ */
+public final class LazyJsonMap extends AbstractMap<String, Object> {
+
+  private static final Object UNDECODED = new Object();
+  private static final int INDEX_THRESHOLD = 8;
+
+  /**
+   * Decode the JSON object contained in the {@code buffer} lazily, the buffer is kept by the map and must not
+   * be modified.
+   *
+   * @param buffer the encoded JSON object
+   * @return the decoded map, a fully decoded map is returned when the buffer contains comments
+   * @throws DecodeException when the buffer does not contain a JSON object
+   */
+  @SuppressWarnings("unchecked")
+  public static Map<String, Object> decode(Buffer buffer) throws DecodeException {
+    LazyJsonMap map = scan(buffer);
+    if (map == null) {
+      Map<String, Object> decoded = Json.CODEC.fromBuffer(buffer, Map.class);
+      if (decoded == null) {
+        throw new DecodeException("Invalid JSON object: " + buffer);
+      }
+      return decoded;
+    }
+    return map;
+  }
+
+  private final Buffer raw;
+  private final int size;
+  private final String[] keys;
+  private final int[] offsets;
+  private final Map<String, Integer> index;
+  private Object[] values;
+  private boolean modified;
+  private int modCount;
+  private LinkedHashMap<String, Object> map;
+
+  private LazyJsonMap(Buffer raw, int size, String[] keys, int[] offsets, Map<String, Integer> index) {
+    Object[] values = new Object[size];
+    Arrays.fill(values, UNDECODED);
+    this.raw = raw;
+    this.size = size;
+    this.keys = keys;
+    this.offsets = offsets;
+    this.index = index;
+    this.values = values;
+  }
+
+  /**
+   * @return the encoded object when it has not been modified, otherwise {@code null}
+   */
+  public Buffer raw() {
+    return isPristine() ? raw : null;
+  }
+
+  /**
+   * @return whether the object and the nested objects decoded from it are unmodified
+   */
+  public boolean isPristine() {
+    if (map != null || modified) {
+      return false;
+    }
+    for (Object value : values) {
+      if (value instanceof LazyJsonMap && !((LazyJsonMap) value).isPristine()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Copy this map, an unmodified map is copied by sharing the encoded object and its index, the values are decoded
+   * again by the copy.
+   *
+   * @return the copy or {@code null} when the map has been modified
+   */
+  public LazyJsonMap copy() {
+    if (!isPristine()) {
+      return null;
+    }
+    return new LazyJsonMap(raw, size, keys, offsets, index);
+  }
+
+  private int indexOf(Object key) {
+    if (index != null) {
+      Integer idx = index.get(key);
+      return idx != null ? idx : -1;
+    }
+    for (int i = 0;i < size;i++) {
+      if (keys[i].equals(key)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private Object value(int idx) {
+    Object value = values[idx];
+    if (value == UNDECODED) {
+      value = decodeValue(raw, offsets[idx * 2], offsets[idx * 2 + 1]);
+      if (value instanceof List) {
+        modified = true;
+      }
+      values[idx] = value;
+    }
+    return value;
+  }
+
+  private void upgrade() {
+    if (map == null) {
+      LinkedHashMap<String, Object> upgraded = new LinkedHashMap<>(Math.max(16, size * 2));
+      for (int i = 0;i < size;i++) {
+        upgraded.put(keys[i], value(i));
+      }
+      map = upgraded;
+      values = null;
+      modCount++;
+    }
+  }
+
+  @Override
+  public int size() {
+    return map != null ? map.size() : size;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return map != null ? map.containsKey(key) : indexOf(key) >= 0;
+  }
+
+  @Override
+  public Object get(Object key) {
+    if (map != null) {
+      return map.get(key);
+    }
+    int idx = indexOf(key);
+    return idx >= 0 ? value(idx) : null;
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    if (map == null) {
+      int idx = indexOf(key);
+      if (idx >= 0) {
+        Object prev = value(idx);
+        values[idx] = value;
+        modified = true;
+        return prev;
+      }
+      upgrade();
+    }
+    return map.put(key, value);
+  }
+
+  @Override
+  public Object remove(Object key) {
+    if (map == null) {
+      if (indexOf(key) < 0) {
+        return null;
+      }
+      upgrade();
+    }
+    return map.remove(key);
+  }
+
+  @Override
+  public void clear() {
+    upgrade();
+    map.clear();
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    if (map != null) {
+      return map.entrySet();
+    }
+    return new EntrySet();
+  }
+
+  private class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+    @Override
+    public Iterator<Entry<String, Object>> iterator() {
+      Map<String, Object> upgraded = map;
+      if (upgraded != null) {
+        return upgraded.entrySet().iterator();
+      }
+      return new EntryIterator();
+    }
+
+    @Override
+    public int size() {
+      return LazyJsonMap.this.size();
+    }
+  }
+
+  /**
+   * Iterates the indexed fields, the iterator continues on the upgraded map after a removal.
+   */
+  private class EntryIterator implements Iterator<Entry<String, Object>> {
+
+    private final int expectedModCount = modCount;
+    private int next;
+    private Iterator<Entry<String, Object>> delegate;
+
+    @Override
+    public boolean hasNext() {
+      return delegate != null ? delegate.hasNext() : next < size;
+    }
+
+    @Override
+    public Entry<String, Object> next() {
+      if (delegate != null) {
+        return delegate.next();
+      }
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (next >= size) {
+        throw new NoSuchElementException();
+      }
+      return new LazyEntry(next++);
+    }
+
+    @Override
+    public void remove() {
+      if (delegate == null) {
+        if (next == 0) {
+          throw new IllegalStateException();
+        }
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+        upgrade();
+        delegate = map.entrySet().iterator();
+        for (int i = 0;i < next;i++) {
+          delegate.next();
+        }
+      }
+      delegate.remove();
+    }
+  }
+
+  private class LazyEntry implements Entry<String, Object> {
+
+    private final int idx;
+
+    LazyEntry(int idx) {
+      this.idx = idx;
+    }
+
+    @Override
+    public String getKey() {
+      return keys[idx];
+    }
+
+    @Override
+    public Object getValue() {
+      return map != null ? map.get(keys[idx]) : value(idx);
+    }
+
+    @Override
+    public Object setValue(Object value) {
+      return put(keys[idx], value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      Entry<?, ?> that = (Entry<?, ?>) o;
+      return getKey().equals(that.getKey()) && Objects.equals(getValue(), that.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return getKey().hashCode() ^ Objects.hashCode(getValue());
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + "=" + getValue();
+    }
+  }
+
+  /**
+   * Index the fields of the JSON object contained in the buffer.
+   *
+   * @return the map or {@code null} when the buffer cannot be indexed
+   */
+  private static LazyJsonMap scan(Buffer buffer) {
+    int len = buffer.length();
+    int pos = skipWhitespace(buffer, 0, len);
+    if (pos >= len || buffer.getByte(pos) != '{') {
+      return null;
+    }
+    int start = pos;
+    int size = 0;
+    String[] keys = new String[4];
+    int[] offsets = new int[8];
+    Map<String, Integer> index = null;
+    pos = skipWhitespace(buffer, pos + 1, len);
+    if (pos < len && buffer.getByte(pos) == '}') {
+      pos++;
+    } else {
+      while (true) {
+        if (pos >= len || buffer.getByte(pos) != '"') {
+          return null;
+        }
+        int keyEnd = skipString(buffer, pos, len);
+        if (keyEnd < 0) {
+          return null;
+        }
+        String key = decodeString(buffer, pos, keyEnd);
+        pos = skipWhitespace(buffer, keyEnd, len);
+        if (pos >= len || buffer.getByte(pos) != ':') {
+          return null;
+        }
+        int valueStart = skipWhitespace(buffer, pos + 1, len);
+        int valueEnd = skipValue(buffer, valueStart, len);
+        if (valueEnd < 0) {
+          return null;
+        }
+        int idx;
+        if (index != null) {
+          Integer prev = index.get(key);
+          idx = prev != null ? prev : -1;
+        } else {
+          idx = -1;
+          for (int i = 0;i < size;i++) {
+            if (keys[i].equals(key)) {
+              idx = i;
+              break;
+            }
+          }
+        }
+        if (idx < 0) {
+          if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            offsets = Arrays.copyOf(offsets, size * 4);
+          }
+          idx = size++;
+          keys[idx] = key;
+          if (index != null) {
+            index.put(key, idx);
+          } else if (size > INDEX_THRESHOLD) {
+            index = new HashMap<>(size * 4);
+            for (int i = 0;i < size;i++) {
+              index.put(keys[i], i);
+            }
+          }
+        }
+        // Duplicate fields keep the last value, like the eager decoder
+        offsets[idx * 2] = valueStart - start;
+        offsets[idx * 2 + 1] = valueEnd - start;
+        pos = skipWhitespace(buffer, valueEnd, len);
+        if (pos >= len) {
+          return null;
+        }
+        byte c = buffer.getByte(pos);
+        if (c == '}') {
+          pos++;
+          break;
+        } else if (c != ',') {
+          return null;
+        }
+        pos = skipWhitespace(buffer, pos + 1, len);
+      }
+    }
+    int end = pos;
+    if (skipWhitespace(buffer, end, len) != len) {
+      return null;
+    }
+    Buffer raw = start == 0 && end == len ? buffer : buffer.slice(start, end);
+    return new LazyJsonMap(raw, size, keys, offsets, index);
+  }
+
+  private static int skipWhitespace(Buffer buffer, int pos, int len) {
+    while (pos < len) {
+      byte c = buffer.getByte(pos);
+      if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+        break;
+      }
+      pos++;
+    }
+    return pos;
+  }
+
+  /**
+   * @return the position after the closing quote of the string starting at {@code pos} or {@code -1}
+   */
+  private static int skipString(Buffer buffer, int pos, int len) {
+    pos++;
+    while (pos < len) {
+      byte c = buffer.getByte(pos);
+      if (c == '"') {
+        return pos + 1;
+      }
+      pos += c == '\\' ? 2 : 1;
+    }
+    return -1;
+  }
+
+  /**
+   * Skip a value, the content of nested objects and arrays is not validated.
+   *
+   * @return the position after the value starting at {@code pos} or {@code -1}
+   */
+  private static int skipValue(Buffer buffer, int pos, int len) {
+    if (pos >= len) {
+      return -1;
+    }
+    byte c = buffer.getByte(pos);
+    switch (c) {
+      case '"':
+        return skipString(buffer, pos, len);
+      case '{':
+      case '[':
+        int depth = 0;
+        while (pos < len) {
+          c = buffer.getByte(pos);
+          if (c == '"') {
+            pos = skipString(buffer, pos, len);
+            if (pos < 0) {
+              return -1;
+            }
+            continue;
+          } else if (c == '{' || c == '[') {
+            depth++;
+          } else if (c == '}' || c == ']') {
+            if (--depth == 0) {
+              return pos + 1;
+            }
+          } else if (c == '/') {
+            // Comments are handled by the regular decoder
+            return -1;
+          }
+          pos++;
+        }
+        return -1;
+      default:
+        int start = pos;
+        while (pos < len) {
+          c = buffer.getByte(pos);
+          if (c == ',' || c == '}' || c == ']' || c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '/') {
+            break;
+          }
+          pos++;
+        }
+        return pos > start ? pos : -1;
+    }
+  }
+
+  private static String decodeString(Buffer buffer, int start, int end) {
+    for (int i = start + 1;i < end - 1;i++) {
+      if (buffer.getByte(i) == '\\') {
+        return Json.CODEC.fromBuffer(buffer.slice(start, end), String.class);
+      }
+    }
+    return buffer.getString(start + 1, end - 1);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Object decodeValue(Buffer raw, int start, int end) {
+    switch (raw.getByte(start)) {
+      case '"':
+        return decodeString(raw, start, end);
+      case '{':
+        Buffer slice = raw.slice(start, end);
+        LazyJsonMap nested = scan(slice);
+        return nested != null ? nested : Json.CODEC.fromBuffer(slice, Map.class);
+      case '[':
+        return Json.CODEC.fromBuffer(raw.slice(start, end), List.class);
+      case 't':
+        if (end - start == 4 && raw.getString(start, end).equals("true")) {
+          return Boolean.TRUE;
+        }
+        break;
+      case 'f':
+        if (end - start == 5 && raw.getString(start, end).equals("false")) {
+          return Boolean.FALSE;
+        }
+        break;
+      case 'n':
+        if (end - start == 4 && raw.getString(start, end).equals("null")) {
+          return null;
+        }
+        break;
+      default:
+        Integer i = decodeInt(raw, start, end);
+        if (i != null) {
+          return i;
+        }
+        break;
+    }
+    return Json.CODEC.fromBuffer(raw.slice(start, end), Object.class);
+  }
+
+  /**
+   * Decode small integers without a parser.
+   */
+  private static Integer decodeInt(Buffer raw, int start, int end) {
+    boolean negative = raw.getByte(start) == '-';
+    int pos = negative ? start + 1 : start;
+    int digits = end - pos;
+    if (digits < 1 || digits > 9 || (digits > 1 && raw.getByte(pos) == '0')) {
+      return null;
+    }
+    int value = 0;
+    while (pos < end) {
+      int d = raw.getByte(pos++) - '0';
+      if (d < 0 || d > 9) {
+        return null;
+      }
+      value = value * 10 + d;
+    }
+    return negative ? -value : value;
+  }
+}
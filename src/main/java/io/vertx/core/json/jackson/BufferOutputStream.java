@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.json.jackson;
+
+import io.vertx.core.buffer.Buffer;
+
+import java.io.OutputStream;
+
+/**
+ * An output stream appending to a {@link Buffer}.
+ * <p>
+ * Jackson generators encode in a recycled chunk and write it to the stream when it is full, the encoded JSON is
+ * copied once in the destination buffer.
+ */
+final class BufferOutputStream extends OutputStream {
+
+  private final Buffer buffer;
+
+  BufferOutputStream(Buffer buffer) {
+    this.buffer = buffer;
+  }
+
+  @Override
+  public void write(int b) {
+    buffer.appendByte((byte) b);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) {
+    buffer.appendBytes(b, off, len);
+  }
+}
@@ -17,7 +17,6 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
-import io.netty.buffer.ByteBufInputStream;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.buffer.impl.BufferInternal;
 import io.vertx.core.json.DecodeException;
@@ -26,7 +25,6 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -105,11 +103,7 @@ public class DatabindCodec extends JacksonCodec {
   }
 
   public static JsonParser createParser(BufferInternal buf) {
-    try {
-      return DatabindCodec.mapper.getFactory().createParser((InputStream) new ByteBufInputStream(buf.getByteBuf()));
-    } catch (IOException e) {
-      throw new DecodeException("Failed to decode:" + e.getMessage(), e);
-    }
+    return createParser(DatabindCodec.mapper.getFactory(), buf);
   }
 
   public static JsonParser createParser(String str) {
@@ -157,6 +151,10 @@ public class DatabindCodec extends JacksonCodec {
 
   @Override
   public String toString(Object object, boolean pretty) throws EncodeException {
+    Buffer raw = pretty ? null : rawJson(object);
+    if (raw != null) {
+      return raw.toString();
+    }
     try {
       ObjectMapper mapper = pretty ? DatabindCodec.prettyMapper : DatabindCodec.mapper;
       return mapper.writeValueAsString(object);
@@ -167,9 +165,21 @@ public class DatabindCodec extends JacksonCodec {
 
   @Override
   public Buffer toBuffer(Object object, boolean pretty) throws EncodeException {
+    Buffer buffer = Buffer.buffer(INITIAL_BUFFER_SIZE);
+    appendToBuffer(object, pretty, buffer);
+    return buffer;
+  }
+
+  @Override
+  public void appendToBuffer(Object object, boolean pretty, Buffer buffer) throws EncodeException {
+    Buffer raw = pretty ? null : rawJson(object);
+    if (raw != null) {
+      buffer.appendBuffer(raw);
+      return;
+    }
     try {
       ObjectMapper mapper = pretty ? DatabindCodec.prettyMapper : DatabindCodec.mapper;
-      return Buffer.buffer(mapper.writeValueAsBytes(object));
+      mapper.writeValue(new BufferOutputStream(buffer), object);
     } catch (Exception e) {
       throw new EncodeException("Failed to encode as JSON: " + e.getMessage());
     }
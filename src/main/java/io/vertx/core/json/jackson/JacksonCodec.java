@@ -19,14 +19,14 @@ import com.fasterxml.jackson.core.JsonTokenId;
 import com.fasterxml.jackson.core.type.TypeReference;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
-import io.netty.buffer.ByteBufOutputStream;
-import io.netty.buffer.Unpooled;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.buffer.impl.BufferInternal;
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.EncodeException;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.impl.JsonUtil;
+import io.vertx.core.json.impl.LazyJsonMap;
 import io.vertx.core.spi.json.JsonCodec;
 
 import java.io.Closeable;
@@ -41,7 +41,6 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -56,6 +55,11 @@ public class JacksonCodec implements JsonCodec {
 
   private static final JsonFactory factory = new JsonFactory();
 
+  /**
+   * Initial size of the buffers returned by {@link #toBuffer(Object, boolean)}.
+   */
+  static final int INITIAL_BUFFER_SIZE = 256;
+
   static {
     // Non-standard JSON but we allow C style comments in our JSON
     factory.configure(JsonParser.Feature.ALLOW_COMMENTS, true);
@@ -90,6 +94,10 @@ public class JacksonCodec implements JsonCodec {
 
   @Override
   public String toString(Object object, boolean pretty) throws EncodeException {
+    Buffer raw = pretty ? null : rawJson(object);
+    if (raw != null) {
+      return raw.toString();
+    }
     StringWriter sw = new StringWriter();
     JsonGenerator generator = createGenerator(sw, pretty);
     try {
@@ -105,16 +113,25 @@ public class JacksonCodec implements JsonCodec {
 
   @Override
   public Buffer toBuffer(Object object, boolean pretty) throws EncodeException {
-    ByteBuf buf = Unpooled.buffer();
+    Buffer buffer = Buffer.buffer(INITIAL_BUFFER_SIZE);
+    appendToBuffer(object, pretty, buffer);
+    return buffer;
+  }
+
+  @Override
+  public void appendToBuffer(Object object, boolean pretty, Buffer buffer) throws EncodeException {
+    Buffer raw = pretty ? null : rawJson(object);
+    if (raw != null) {
+      buffer.appendBuffer(raw);
+      return;
+    }
     // There is no need to use a try with resources here as jackson
     // is a well-behaved and always calls the closes all streams in the
     // "finally" block bellow.
-    ByteBufOutputStream out = new ByteBufOutputStream(buf);
-    JsonGenerator generator = createGenerator(out, pretty);
+    JsonGenerator generator = createGenerator(new BufferOutputStream(buffer), pretty);
     try {
       encodeJson(object, generator);
       generator.flush();
-      return BufferInternal.buffer(buf);
     } catch (IOException e) {
       throw new EncodeException(e.getMessage(), e);
     } finally {
@@ -122,6 +139,16 @@ public class JacksonCodec implements JsonCodec {
     }
   }
 
+  /**
+   * @return the encoded content of an unmodified lazily decoded object, otherwise {@code null}
+   */
+  static Buffer rawJson(Object object) {
+    if (object instanceof JsonObject) {
+      object = ((JsonObject) object).getMap();
+    }
+    return object instanceof LazyJsonMap ? ((LazyJsonMap) object).raw() : null;
+  }
+
   public static JsonParser createParser(String str) {
     try {
       return factory.createParser(str);
@@ -131,8 +158,20 @@ public class JacksonCodec implements JsonCodec {
   }
 
   public static JsonParser createParser(Buffer buf) {
+    return createParser(factory, buf);
+  }
+
+  /**
+   * Create a parser reading the buffer in place when it is backed by an array, so the parser does not copy the
+   * content into its own input buffer.
+   */
+  static JsonParser createParser(JsonFactory factory, Buffer buf) {
+    ByteBuf byteBuf = ((BufferInternal)buf).getByteBuf();
     try {
-      return factory.createParser((InputStream) new ByteBufInputStream(((BufferInternal)buf).getByteBuf()));
+      if (byteBuf.hasArray()) {
+        return factory.createParser(byteBuf.array(), byteBuf.arrayOffset() + byteBuf.readerIndex(), byteBuf.readableBytes());
+      }
+      return factory.createParser((InputStream) new ByteBufInputStream(byteBuf));
     } catch (IOException e) {
       throw new DecodeException("Failed to decode:" + e.getMessage(), e);
     }
@@ -213,13 +252,13 @@ public class JacksonCodec implements JsonCodec {
   private static Map<String, Object> parseObject(JsonParser parser) throws IOException {
     String key1 = parser.nextFieldName();
     if (key1 == null) {
-      return new LinkedHashMap<>(2);
+      return JsonUtil.newMap(2);
     }
     parser.nextToken();
     Object value1 = parseAny(parser);
     String key2 = parser.nextFieldName();
     if (key2 == null) {
-      LinkedHashMap<String, Object> obj = new LinkedHashMap<>(2);
+      Map<String, Object> obj = JsonUtil.newMap(2);
       obj.put(key1, value1);
       return obj;
     }
@@ -227,13 +266,13 @@ public class JacksonCodec implements JsonCodec {
     Object value2 = parseAny(parser);
     String key = parser.nextFieldName();
     if (key == null) {
-      LinkedHashMap<String, Object> obj = new LinkedHashMap<>(2);
+      Map<String, Object> obj = JsonUtil.newMap(2);
       obj.put(key1, value1);
       obj.put(key2, value2);
       return obj;
     }
     // General case
-    LinkedHashMap<String, Object> obj = new LinkedHashMap<>();
+    Map<String, Object> obj = JsonUtil.newMap();
     obj.put(key1, value1);
     obj.put(key2, value2);
     do {
@@ -275,6 +314,13 @@ public class JacksonCodec implements JsonCodec {
       } else if (json instanceof JsonArray) {
         json = ((JsonArray)json).getList();
       }
+      if (json instanceof LazyJsonMap && generator.getPrettyPrinter() == null) {
+        Buffer raw = ((LazyJsonMap) json).raw();
+        if (raw != null) {
+          generator.writeRawValue(raw.toString());
+          return;
+        }
+      }
       if (json instanceof Map) {
         generator.writeStartObject();
         for (Map.Entry<String, ?> e : ((Map<String, ?>)json).entrySet()) {
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.json.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.impl.LazyJsonMap;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Writes the encoded content of an unmodified lazily decoded object as is.
+ */
+class LazyJsonMapSerializer extends JsonSerializer<LazyJsonMap> {
+  @Override
+  public void serialize(LazyJsonMap value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+    Buffer raw = jgen.getPrettyPrinter() == null ? value.raw() : null;
+    if (raw != null) {
+      jgen.writeRawValue(raw.toString());
+    } else {
+      jgen.writeStartObject();
+      for (Map.Entry<String, Object> entry : value.entrySet()) {
+        jgen.writeFieldName(entry.getKey());
+        provider.defaultSerializeValue(entry.getValue(), jgen);
+      }
+      jgen.writeEndObject();
+    }
+  }
+}
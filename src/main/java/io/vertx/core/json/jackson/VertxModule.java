@@ -14,6 +14,8 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.impl.LazyJsonMap;
+
 import java.time.Instant;
 
 /**
@@ -24,6 +26,7 @@ import java.time.Instant;
  *   <li>{@code JsonArraySerializer} of {@code JsonArray}</li>
  *   <li>{@code JsonArrayDeserializer} of {@code JsonArray} </li>
  *   <li>{@code JsonObjectDeserializer} of {@code JsonObject}</li>
+ *   <li>{@code LazyJsonMapSerializer} of lazily decoded {@code JsonObject} content</li>
  *   <li>{@code InstantSerializer} and {@code InstantDeserializer} of {@code Instant}</li>
  *   <li>{@code ByteArraySerializer} and {@code ByteArraySerializer} of {@code byte[]}</li>
  *   <li>{@code BufferSerializer} and {@code BufferSerializer} of {@code Buffer}</li>
@@ -37,6 +40,7 @@ public class VertxModule extends SimpleModule {
     addSerializer(JsonArray.class, new JsonArraySerializer());
     addDeserializer(JsonArray.class, new JsonArrayDeserializer());
     addDeserializer(JsonObject.class, new JsonObjectDeserializer());
+    addSerializer(LazyJsonMap.class, new LazyJsonMapSerializer());
     // he have 2 extensions: RFC-7493
     addSerializer(Instant.class, new InstantSerializer());
     addDeserializer(Instant.class, new InstantDeserializer());
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.json.pointer;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.json.pointer.impl.JsonPointerBatchImpl;
+
+import java.util.List;
+
+/**
+ * A list of {@link JsonPointer} queried together on Vert.x json structures.
+ * <p>
+ * The json element is walked once, the reference tokens shared by several pointers are resolved a single time.
+ * The batch is created from a snapshot of the pointers, modifying a pointer afterward does not affect the batch.
+ */
+@VertxGen
+public interface JsonPointerBatch {
+
+  /**
+   * Create a batch of pointers.
+   *
+   * @param pointers the pointers to query
+   * @return the batch
+   */
+  static JsonPointerBatch create(List<JsonPointer> pointers) {
+    return new JsonPointerBatchImpl(pointers);
+  }
+
+  /**
+   * Query {@code jsonElement} with each pointer of the batch, the result of a pointer is the same than
+   * {@link JsonPointer#queryJson(Object)}.
+   *
+   * @param jsonElement the json element to query
+   * @return the query results in the order of the pointers, {@code null} when a pointer points to a not existing value
+   */
+  List<Object> queryJson(Object jsonElement);
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.json.pointer.impl;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.impl.JsonUtil;
+import io.vertx.core.json.pointer.JsonPointer;
+import io.vertx.core.json.pointer.JsonPointerBatch;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The pointers are merged in a tree of reference tokens, the tree is walked once per query.
+ */
+public class JsonPointerBatchImpl implements JsonPointerBatch {
+
+  private final int size;
+  private final Node root = new Node(null, -1);
+
+  public JsonPointerBatchImpl(List<JsonPointer> pointers) {
+    this.size = pointers.size();
+    for (int i = 0;i < size;i++) {
+      JsonPointerImpl pointer = (JsonPointerImpl) pointers.get(i);
+      JsonPointerImpl.Compiled compiled = pointer.compile();
+      Node node = root;
+      for (int j = 0;j < compiled.keys.length;j++) {
+        node = node.child(compiled.keys[j], compiled.indexes[j]);
+      }
+      node.addTarget(i);
+    }
+  }
+
+  @Override
+  public List<Object> queryJson(Object jsonElement) {
+    Object[] results = new Object[size];
+    if (jsonElement != null) {
+      // The root element is returned as is by root pointers
+      for (int target : root.targets) {
+        results[target] = jsonElement;
+      }
+      if (jsonElement instanceof JsonObject || jsonElement instanceof JsonArray) {
+        for (Node child : root.children) {
+          walk(child, jsonElement, results);
+        }
+      }
+    }
+    return Arrays.asList(results);
+  }
+
+  private static void walk(Node node, Object parent, Object[] results) {
+    Object value = JsonPointerImpl.resolve(parent, node.key, node.index);
+    if (value == null) {
+      return;
+    }
+    if (node.targets.length > 0) {
+      Object wrapped = JsonUtil.wrapJsonValue(value);
+      for (int target : node.targets) {
+        results[target] = wrapped;
+      }
+    }
+    for (Node child : node.children) {
+      walk(child, value, results);
+    }
+  }
+
+  private static final class Node {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final int[] NO_TARGETS = new int[0];
+
+    private final String key;
+    private final int index;
+    private Node[] children = NO_CHILDREN;
+    private int[] targets = NO_TARGETS;
+
+    Node(String key, int index) {
+      this.key = key;
+      this.index = index;
+    }
+
+    Node child(String key, int index) {
+      for (Node child : children) {
+        if (child.key.equals(key)) {
+          return child;
+        }
+      }
+      Node child = new Node(key, index);
+      children = Arrays.copyOf(children, children.length + 1);
+      children[children.length - 1] = child;
+      return child;
+    }
+
+    void addTarget(int target) {
+      targets = Arrays.copyOf(targets, targets.length + 1);
+      targets[targets.length - 1] = target;
+    }
+  }
+}
@@ -11,6 +11,9 @@
 
 package io.vertx.core.json.pointer.impl;
 
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.impl.JsonUtil;
 import io.vertx.core.json.pointer.JsonPointer;
 import io.vertx.core.json.pointer.JsonPointerIterator;
 
@@ -19,6 +22,7 @@ import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
@@ -38,6 +42,9 @@ public class JsonPointerImpl implements JsonPointer {
   // Empty means a pointer to root
   List<String> decodedTokens;
 
+  // Compiled form of the decoded tokens used to query Vert.x json, reset when the tokens are modified
+  private volatile Compiled compiled;
+
   public JsonPointerImpl(URI uri) {
     this.startingUri = removeFragment(uri);
     this.decodedTokens = parse(uri.getFragment());
@@ -130,6 +137,7 @@ public class JsonPointerImpl implements JsonPointer {
   @Override
   public JsonPointer append(String path) {
     decodedTokens.add(path);
+    compiled = null;
     return this;
   }
 
@@ -141,18 +149,21 @@ public class JsonPointerImpl implements JsonPointer {
   @Override
   public JsonPointer append(List<String> paths) {
     decodedTokens.addAll(paths);
+    compiled = null;
     return this;
   }
 
   @Override
   public JsonPointer append(JsonPointer pointer) {
     decodedTokens.addAll(((JsonPointerImpl)pointer).decodedTokens);
+    compiled = null;
     return this;
   }
 
   @Override
   public JsonPointer parent() {
     if (!this.isRootPointer()) decodedTokens.remove(decodedTokens.size() - 1);
+    compiled = null;
     return this;
   }
 
@@ -198,6 +209,99 @@ public class JsonPointerImpl implements JsonPointer {
     }
   }
 
+  @Override
+  public Object queryJson(Object jsonElement) {
+    return queryJsonOrDefault(jsonElement, null);
+  }
+
+  @Override
+  public Object queryJsonOrDefault(Object jsonElement, Object defaultValue) {
+    Compiled c = compile();
+    String[] keys = c.keys;
+    int[] indexes = c.indexes;
+    if (keys.length == 0) {
+      return jsonElement != null ? jsonElement : defaultValue;
+    }
+    if (!(jsonElement instanceof JsonObject) && !(jsonElement instanceof JsonArray)) {
+      return defaultValue;
+    }
+    Object value = jsonElement;
+    for (int i = 0;i < keys.length && value != null;i++) {
+      value = resolve(value, keys[i], indexes[i]);
+    }
+    return value != null ? JsonUtil.wrapJsonValue(value) : defaultValue;
+  }
+
+  /**
+   * Compile the decoded tokens to query Vert.x json: array indexes are parsed once and the leading empty token
+   * skipped by {@link #walkTillLastElement} is removed.
+   * <p>
+   * Pointers are usually shared constants, the compiled form is immutable and published through a single volatile
+   * field.
+   */
+  Compiled compile() {
+    Compiled c = compiled;
+    if (c == null) {
+      int from = decodedTokens.size() > 1 && decodedTokens.get(0).isEmpty() ? 1 : 0;
+      int len = decodedTokens.size() - from;
+      String[] keys = new String[len];
+      int[] indexes = new int[len];
+      for (int i = 0;i < len;i++) {
+        String token = decodedTokens.get(from + i);
+        keys[i] = token;
+        indexes[i] = parseIndex(token);
+      }
+      c = new Compiled(keys, indexes);
+      compiled = c;
+    }
+    return c;
+  }
+
+  static final class Compiled {
+
+    final String[] keys;
+    final int[] indexes;
+
+    private Compiled(String[] keys, int[] indexes) {
+      this.keys = keys;
+      this.indexes = indexes;
+    }
+  }
+
+  private static int parseIndex(String token) {
+    try {
+      return Math.max(-1, Integer.parseInt(token));
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  /**
+   * Resolve a compiled reference token against a Vert.x json element.
+   *
+   * @param value the json element
+   * @param key the token
+   * @param index the token as an array index or {@code -1}
+   * @return the resolved element, {@code null} when it does not exist
+   */
+  @SuppressWarnings("rawtypes")
+  static Object resolve(Object value, String key, int index) {
+    if (value instanceof JsonObject) {
+      return ((JsonObject) value).getMap().get(key);
+    } else if (value instanceof Map) {
+      return ((Map) value).get(key);
+    }
+    List list;
+    if (value instanceof JsonArray) {
+      list = ((JsonArray) value).getList();
+    } else if (value instanceof List) {
+      list = (List) value;
+    } else {
+      return null;
+    }
+    return index >= 0 && index < list.size() ? list.get(index) : null;
+  }
+
   @Override
   public List<Object> tracedQuery(Object objectToQuery, JsonPointerIterator iterator) {
     List<Object> list = new ArrayList<>();
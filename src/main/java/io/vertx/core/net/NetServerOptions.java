@@ -66,6 +66,26 @@ public class NetServerOptions extends TCPSSLOptions {
    */
   public static final boolean DEFAULT_REGISTER_WRITE_HANDLER = false;
 
+  /**
+   * The default maximum number of bytes buffered by the server connections = -1 (unbounded)
+   */
+  public static final long DEFAULT_MAX_BUFFERED_BYTES = -1L;
+
+  /**
+   * Whether the write queue size of the server connections adapts to their drain rate by default = false
+   */
+  public static final boolean DEFAULT_ADAPTIVE_WRITE_QUEUE = false;
+
+  /**
+   * The default minimum write queue size of an adaptive write queue = 32 KiB
+   */
+  public static final int DEFAULT_ADAPTIVE_WRITE_QUEUE_MIN_SIZE = 32 * 1024;
+
+  /**
+   * The default maximum write queue size of an adaptive write queue = 4 MiB
+   */
+  public static final int DEFAULT_ADAPTIVE_WRITE_QUEUE_MAX_SIZE = 4 * 1024 * 1024;
+
   private int port;
   private String host;
   private int acceptBacklog;
@@ -74,6 +94,10 @@ public class NetServerOptions extends TCPSSLOptions {
   private TimeUnit proxyProtocolTimeoutUnit;
   private boolean registerWriteHandler;
   private TrafficShapingOptions trafficShapingOptions;
+  private long maxBufferedBytes;
+  private boolean adaptiveWriteQueue;
+  private int adaptiveWriteQueueMinSize;
+  private int adaptiveWriteQueueMaxSize;
 
   /**
    * Default constructor
@@ -100,6 +124,10 @@ public class NetServerOptions extends TCPSSLOptions {
       DEFAULT_PROXY_PROTOCOL_TIMEOUT_TIME_UNIT;
     this.registerWriteHandler = other.registerWriteHandler;
     this.trafficShapingOptions = other.getTrafficShapingOptions();
+    this.maxBufferedBytes = other.maxBufferedBytes;
+    this.adaptiveWriteQueue = other.adaptiveWriteQueue;
+    this.adaptiveWriteQueueMinSize = other.adaptiveWriteQueueMinSize;
+    this.adaptiveWriteQueueMaxSize = other.adaptiveWriteQueueMaxSize;
   }
 
   /**
@@ -527,6 +555,102 @@ public class NetServerOptions extends TCPSSLOptions {
     return this;
   }
 
+  /**
+   * @return the maximum number of bytes buffered by the server connections
+   */
+  public long getMaxBufferedBytes() {
+    return maxBufferedBytes;
+  }
+
+  /**
+   * Set the maximum number of bytes buffered by all the server connections, this accounts the bytes written
+   * and not yet flushed to the socket as well as the bytes read and not yet delivered to the application.
+   * <p>
+   * When the server buffers more than this amount, the connections holding more than their share of the budget
+   * stop reading until the buffered amount falls below three quarters of this value and new connections are rejected.
+   * <p>
+   * The default value {@code -1} disables the accounting.
+   *
+   * @param maxBufferedBytes the maximum number of bytes buffered or {@code -1}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public NetServerOptions setMaxBufferedBytes(long maxBufferedBytes) {
+    if (maxBufferedBytes == 0 || maxBufferedBytes < -1) {
+      throw new IllegalArgumentException("maxBufferedBytes must be > 0 or -1 (disabled)");
+    }
+    this.maxBufferedBytes = maxBufferedBytes;
+    return this;
+  }
+
+  /**
+   * @return whether the write queue size of the server connections adapts to their drain rate
+   */
+  public boolean isAdaptiveWriteQueue() {
+    return adaptiveWriteQueue;
+  }
+
+  /**
+   * Set whether the write queue size of the server connections adapts to their drain rate.
+   * <p>
+   * When enabled, the write queue max size of a connection is sized to the amount of bytes the connection
+   * drains in two round trips, bounded by {@link #getAdaptiveWriteQueueMinSize()} and {@link #getAdaptiveWriteQueueMaxSize()}.
+   * Fast connections get a larger queue and slow connections apply back-pressure sooner. Setting the write queue
+   * max size of a connection explicitly disables the adaptation for this connection.
+   *
+   * @param adaptiveWriteQueue {@code true} to enable the adaptive write queue
+   * @return a reference to this, so the API can be used fluently
+   */
+  public NetServerOptions setAdaptiveWriteQueue(boolean adaptiveWriteQueue) {
+    this.adaptiveWriteQueue = adaptiveWriteQueue;
+    return this;
+  }
+
+  /**
+   * @return the minimum write queue size of an adaptive write queue
+   */
+  public int getAdaptiveWriteQueueMinSize() {
+    return adaptiveWriteQueueMinSize;
+  }
+
+  /**
+   * Set the minimum write queue size of an adaptive write queue.
+   * <p>
+   * The size must not be greater than {@link #getAdaptiveWriteQueueMaxSize()}, this is checked when the server is created.
+   *
+   * @param adaptiveWriteQueueMinSize the minimum size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public NetServerOptions setAdaptiveWriteQueueMinSize(int adaptiveWriteQueueMinSize) {
+    if (adaptiveWriteQueueMinSize <= 0) {
+      throw new IllegalArgumentException("adaptiveWriteQueueMinSize must be > 0");
+    }
+    this.adaptiveWriteQueueMinSize = adaptiveWriteQueueMinSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum write queue size of an adaptive write queue
+   */
+  public int getAdaptiveWriteQueueMaxSize() {
+    return adaptiveWriteQueueMaxSize;
+  }
+
+  /**
+   * Set the maximum write queue size of an adaptive write queue.
+   * <p>
+   * The size must not be less than {@link #getAdaptiveWriteQueueMinSize()}, this is checked when the server is created.
+   *
+   * @param adaptiveWriteQueueMaxSize the maximum size in bytes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public NetServerOptions setAdaptiveWriteQueueMaxSize(int adaptiveWriteQueueMaxSize) {
+    if (adaptiveWriteQueueMaxSize <= 0) {
+      throw new IllegalArgumentException("adaptiveWriteQueueMaxSize must be > 0");
+    }
+    this.adaptiveWriteQueueMaxSize = adaptiveWriteQueueMaxSize;
+    return this;
+  }
+
   private void init() {
     this.port = DEFAULT_PORT;
     this.host = DEFAULT_HOST;
@@ -535,6 +659,10 @@ public class NetServerOptions extends TCPSSLOptions {
     this.proxyProtocolTimeout = DEFAULT_PROXY_PROTOCOL_TIMEOUT;
     this.proxyProtocolTimeoutUnit = DEFAULT_PROXY_PROTOCOL_TIMEOUT_TIME_UNIT;
     this.registerWriteHandler = DEFAULT_REGISTER_WRITE_HANDLER;
+    this.maxBufferedBytes = DEFAULT_MAX_BUFFERED_BYTES;
+    this.adaptiveWriteQueue = DEFAULT_ADAPTIVE_WRITE_QUEUE;
+    this.adaptiveWriteQueueMinSize = DEFAULT_ADAPTIVE_WRITE_QUEUE_MIN_SIZE;
+    this.adaptiveWriteQueueMaxSize = DEFAULT_ADAPTIVE_WRITE_QUEUE_MAX_SIZE;
   }
 
   /**
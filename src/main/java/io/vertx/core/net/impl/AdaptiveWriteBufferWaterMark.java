@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.net.impl;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelConfig;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOutboundBuffer;
+import io.netty.channel.WriteBufferWaterMark;
+import io.vertx.core.spi.transport.Transport;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sizes the channel write buffer water marks from the drain rate of the connection.
+ * <p>
+ * The drain rate is measured each time the channel goes from unwritable to writable: the outbound buffer drained
+ * from the high water mark to the low water mark during that period. The high water mark is set to the amount of
+ * bytes the connection drains in two round trips, bounded by the configured sizes.
+ * <p>
+ * The handler is removed from the pipeline when the application sets the write queue max size explicitly.
+ */
+public class AdaptiveWriteBufferWaterMark extends ChannelInboundHandlerAdapter {
+
+  /**
+   * Round trip time used when the transport cannot measure it.
+   */
+  private static final long DEFAULT_ROUND_TRIP_TIME_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+  private final Transport transport;
+  private final int minSize;
+  private final int maxSize;
+  private long unwritableTimestamp;
+  private long pendingWhenUnwritable;
+  private double drainRate;
+
+  public AdaptiveWriteBufferWaterMark(Transport transport, int minSize, int maxSize) {
+    this.transport = transport;
+    this.minSize = minSize;
+    this.maxSize = maxSize;
+  }
+
+  @Override
+  public void handlerAdded(ChannelHandlerContext ctx) {
+    ChannelConfig config = ctx.channel().config();
+    int high = clamp(config.getWriteBufferHighWaterMark());
+    config.setWriteBufferWaterMark(new WriteBufferWaterMark(high / 2, high));
+  }
+
+  @Override
+  public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+    Channel ch = ctx.channel();
+    ChannelOutboundBuffer outboundBuffer = ch.unsafe().outboundBuffer();
+    if (outboundBuffer != null) {
+      long pending = outboundBuffer.totalPendingWriteBytes();
+      long now = System.nanoTime();
+      if (!ch.isWritable()) {
+        unwritableTimestamp = now;
+        pendingWhenUnwritable = pending;
+      } else if (unwritableTimestamp != 0L) {
+        long elapsed = now - unwritableTimestamp;
+        long drained = pendingWhenUnwritable - pending;
+        unwritableTimestamp = 0L;
+        if (elapsed > 0L && drained > 0L) {
+          sample(ch, drained, elapsed);
+        }
+      }
+    }
+    super.channelWritabilityChanged(ctx);
+  }
+
+  void sample(Channel ch, long drained, long elapsed) {
+    double rate = (double) drained / elapsed;
+    drainRate = drainRate == 0D ? rate : drainRate * 0.75D + rate * 0.25D;
+    long rtt = transport.roundTripTime(ch);
+    long rttNanos = rtt > 0L ? TimeUnit.MICROSECONDS.toNanos(rtt) : DEFAULT_ROUND_TRIP_TIME_NANOS;
+    int high = clamp((long) (drainRate * 2 * rttNanos));
+    ChannelConfig config = ch.config();
+    int current = config.getWriteBufferHighWaterMark();
+    // Avoid resizing for small variations
+    if (Math.abs(high - current) > current >> 3) {
+      config.setWriteBufferWaterMark(new WriteBufferWaterMark(high / 2, high));
+    }
+  }
+
+  private int clamp(long size) {
+    return (int) Math.min(maxSize, Math.max(minSize, size));
+  }
+}
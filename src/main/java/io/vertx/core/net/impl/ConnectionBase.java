@@ -23,6 +23,7 @@ import io.netty.util.ReferenceCountUtil;
 import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.FutureListener;
 import io.vertx.core.*;
+import io.vertx.core.file.impl.FileHandleCache;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.future.PromiseInternal;
 import io.vertx.core.impl.VertxInternal;
@@ -39,6 +40,7 @@ import javax.security.cert.X509Certificate;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.net.InetSocketAddress;
+import java.nio.channels.FileChannel;
 import java.security.cert.Certificate;
 import java.util.Arrays;
 import java.util.List;
@@ -90,6 +92,11 @@ public abstract class ConnectionBase {
   private long remainingBytesRead;
   private long remainingBytesWritten;
   private final AtomicInteger writeQueueFull = new AtomicInteger();
+  private final MemoryBudget.Account budgetAccount;
+
+  // State guarded by this, only used when the connection is accounted in a memory budget
+  private boolean paused;
+  private boolean shed;
 
   // State accessed exclusively from the event loop thread
   private boolean read;
@@ -106,6 +113,10 @@ public abstract class ConnectionBase {
     this.voidPromise = new VoidChannelPromise(chctx.channel(), false);
     this.closePromise = chctx.newPromise();
     this.writable = chctx.channel().isWritable();
+    this.budgetAccount = chctx.pipeline().get(MemoryBudget.Account.class);
+    if (budgetAccount != null) {
+      budgetAccount.connection(this);
+    }
 
     writeQueue = new OutboundWriteQueue<>(msg -> {
       if (writable) {
@@ -169,6 +180,7 @@ public abstract class ConnectionBase {
   final void endReadAndFlush() {
     if (read) {
       read = false;
+      handleReadComplete();
       if (needsFlush) {
         needsFlush = false;
         chctx.flush();
@@ -270,6 +282,8 @@ public abstract class ConnectionBase {
 
       @Override
       public void cancel(Throwable cause) {
+        // Like the channel, release the message that will never be written
+        ReferenceCountUtil.release(msg);
         promise.setFailure(cause);
       }
     });
@@ -375,14 +389,58 @@ public abstract class ConnectionBase {
   }
 
   public void doPause() {
-    chctx.channel().config().setAutoRead(false);
+    if (budgetAccount != null) {
+      synchronized (this) {
+        paused = true;
+        chctx.channel().config().setAutoRead(false);
+      }
+    } else {
+      chctx.channel().config().setAutoRead(false);
+    }
   }
 
   public void doResume() {
-    chctx.channel().config().setAutoRead(true);
+    if (budgetAccount != null) {
+      synchronized (this) {
+        paused = false;
+        chctx.channel().config().setAutoRead(!shed);
+      }
+    } else {
+      chctx.channel().config().setAutoRead(true);
+    }
+  }
+
+  /**
+   * Stop or restart reading from the channel to relieve the server memory budget, the pause state set
+   * by {@link #doPause()}/{@link #doResume()} is preserved.
+   *
+   * @param shed whether the connection should stop reading
+   */
+  final void shed(boolean shed) {
+    synchronized (this) {
+      this.shed = shed;
+      chctx.channel().config().setAutoRead(!shed && !paused);
+    }
+  }
+
+  /**
+   * Report inbound bytes buffered by the connection and not yet delivered to the application, this is
+   * a no-op unless the connection is accounted in a memory budget.
+   *
+   * @param delta the number of bytes buffered (positive) or delivered (negative)
+   */
+  public final void reportBytesBuffered(long delta) {
+    if (budgetAccount != null) {
+      budgetAccount.update(delta);
+    }
   }
 
   public void doSetWriteQueueMaxSize(int size) {
+    ChannelPipeline pipeline = chctx.pipeline();
+    if (pipeline.get(AdaptiveWriteBufferWaterMark.class) != null) {
+      // The application size wins over the adaptive size
+      pipeline.remove(AdaptiveWriteBufferWaterMark.class);
+    }
     ChannelConfig config = chctx.channel().config();
     config.setWriteBufferWaterMark(new WriteBufferWaterMark(size / 2, size));
   }
@@ -614,23 +672,29 @@ public abstract class ConnectionBase {
    * and producing idle timeouts for very large files.
    *
    * @param file the file to send
+   * @param shared whether the file channel is shared and must not be closed once sent
    * @param offset the file offset
    * @param length the file length
    * @param writeFuture the write future to be completed when the transfer is done or failed
    */
-  private void sendFileRegion(RandomAccessFile file, long offset, long length, ChannelPromise writeFuture) {
+  private void sendFileRegion(FileChannel file, boolean shared, long offset, long length, ChannelPromise writeFuture) {
     if (length < MAX_REGION_SIZE) {
-      writeToChannel(new DefaultFileRegion(file.getChannel(), offset, length), writeFuture);
+      FileRegion region = new DefaultFileRegion(file, offset, length);
+      if (shared) {
+        // Keep the region retained so the shared channel is not closed when it has been sent
+        region.retain();
+      }
+      writeToChannel(region, writeFuture);
     } else {
       ChannelPromise promise = chctx.newPromise();
-      FileRegion region = new DefaultFileRegion(file.getChannel(), offset, MAX_REGION_SIZE);
+      FileRegion region = new DefaultFileRegion(file, offset, MAX_REGION_SIZE);
       // Retain explicitly this file region so the underlying channel is not closed by the NIO channel when it
       // as been sent as we need it again
       region.retain();
       writeToChannel(region, promise);
       promise.addListener(future -> {
         if (future.isSuccess()) {
-          sendFileRegion(file, offset + MAX_REGION_SIZE, length - MAX_REGION_SIZE, writeFuture);
+          sendFileRegion(file, shared, offset + MAX_REGION_SIZE, length - MAX_REGION_SIZE, writeFuture);
         } else {
           log.error(future.cause().getMessage(), future.cause());
           writeFuture.setFailure(future.cause());
@@ -639,22 +703,46 @@ public abstract class ConnectionBase {
     }
   }
 
-
   public ChannelFuture sendFile(RandomAccessFile raf, long offset, long length) {
+    ChannelFuture writeFuture = sendFile(raf.getChannel(), false, offset, length);
+    writeFuture.addListener(fut -> raf.close());
+    return writeFuture;
+  }
+
+  /**
+   * Send a region of a file handle shared with other operations, the handle is released when the region is sent.
+   */
+  public ChannelFuture sendFile(FileHandleCache.FileHandle handle, long offset, long length) {
+    ChannelFuture writeFuture = sendFile(handle.channel(), true, offset, length);
+    writeFuture.addListener(fut -> handle.release());
+    return writeFuture;
+  }
+
+  private ChannelFuture sendFile(FileChannel file, boolean shared, long offset, long length) {
     // Write the content.
     ChannelPromise writeFuture = chctx.newPromise();
     if (!supportsFileRegion()) {
       // Cannot use zero-copy
       try {
-        writeToChannel(new ChunkedNioFile(raf.getChannel(), offset, length, 8192), writeFuture);
+        ChunkedNioFile chunked;
+        if (shared) {
+          chunked = new ChunkedNioFile(file, offset, length, 8192) {
+            @Override
+            public void close() {
+              // The shared channel is closed by its handle
+            }
+          };
+        } else {
+          chunked = new ChunkedNioFile(file, offset, length, 8192);
+        }
+        writeToChannel(chunked, writeFuture);
       } catch (IOException e) {
         return chctx.newFailedFuture(e);
       }
     } else {
       // No encryption - use zero-copy.
-      sendFileRegion(raf, offset, length, writeFuture);
+      sendFileRegion(file, shared, offset, length, writeFuture);
     }
-    writeFuture.addListener(fut -> raf.close());
     return writeFuture;
   }
 
@@ -796,4 +884,10 @@ public abstract class ConnectionBase {
 
   protected void handleMessage(Object msg) {
   }
+
+  /**
+   * Called on the event-loop thread after the messages of a read operation have been handled.
+   */
+  protected void handleReadComplete() {
+  }
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.net.impl;
+
+import io.vertx.core.Future;
+
+import java.io.RandomAccessFile;
+
+/**
+ * A write stream able to send a file region to its connection with {@link ConnectionBase#sendFile}, i.e. without
+ * reading the file content in buffers. An {@link io.vertx.core.file.AsyncFile} piped to such a stream uses it.
+ */
+public interface FileTransferStream {
+
+  /**
+   * @return whether the stream can transfer a file now, e.g. an HTTP response which head has not yet been sent
+   */
+  boolean canTransferFile();
+
+  /**
+   * Send the file region and then end the stream, like piping the file to the stream would.
+   *
+   * @param file the file, closed when the transfer is done
+   * @param offset the region offset
+   * @param length the region length
+   * @return a future completed when the stream has been ended
+   */
+  Future<Void> transferFile(RandomAccessFile file, long offset, long length);
+
+}
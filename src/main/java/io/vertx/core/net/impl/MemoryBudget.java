@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.net.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.concurrent.EventExecutor;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Accounts the memory buffered by the connections of a server.
+ * <p>
+ * Each connection owns an {@link Account} installed at the head of its pipeline that tracks the outbound bytes
+ * not yet flushed to the socket, the connection reports the inbound bytes not yet delivered to the application
+ * with {@link ConnectionBase#reportBytesBuffered(long)}.
+ * <p>
+ * When the budget is exceeded, the connections buffering more than their fair share of the budget stop reading
+ * until the buffered memory falls below the low water mark and the server rejects new connections.
+ */
+public final class MemoryBudget {
+
+  private final long limit;
+  private final long lowWaterMark;
+  private final AtomicLong buffered = new AtomicLong();
+  private final AtomicInteger connections = new AtomicInteger();
+  private final Set<Account> shed = ConcurrentHashMap.newKeySet();
+
+  public MemoryBudget(long limit) {
+    if (limit <= 0) {
+      throw new IllegalArgumentException("Memory budget must be > 0");
+    }
+    this.limit = limit;
+    this.lowWaterMark = limit - (limit >> 2);
+  }
+
+  /**
+   * @return the number of bytes currently buffered by the server connections
+   */
+  public long bufferedBytes() {
+    return buffered.get();
+  }
+
+  /**
+   * @return whether the buffered memory exceeds the budget
+   */
+  public boolean isExhausted() {
+    return buffered.get() > limit;
+  }
+
+  /**
+   * @return a new account to be added at the head of a connection pipeline
+   */
+  public Account newAccount() {
+    return new Account();
+  }
+
+  private void releaseShedConnections() {
+    for (Account account : shed) {
+      if (shed.remove(account)) {
+        account.unshed();
+      }
+    }
+  }
+
+  private static long sizeof(Object msg) {
+    if (msg instanceof ByteBuf) {
+      return ((ByteBuf) msg).readableBytes();
+    } else if (msg instanceof ByteBufHolder) {
+      return ((ByteBufHolder) msg).content().readableBytes();
+    }
+    return 0L;
+  }
+
+  /**
+   * The memory account of a single connection.
+   */
+  public final class Account extends ChannelDuplexHandler {
+
+    private final AtomicLong bytes = new AtomicLong();
+    private volatile boolean closed;
+    private EventExecutor executor;
+    private ConnectionBase connection;
+
+    void connection(ConnectionBase connection) {
+      this.connection = connection;
+    }
+
+    /**
+     * Account {@code delta} bytes, this method can be called from any thread.
+     *
+     * @param delta the number of bytes buffered (positive) or released (negative)
+     */
+    void update(long delta) {
+      if (closed || delta == 0L) {
+        return;
+      }
+      long val = bytes.addAndGet(delta);
+      long total = buffered.addAndGet(delta);
+      if (delta > 0L) {
+        if (total > limit && val > limit / Math.max(1, connections.get()) && shed.add(this)) {
+          executor.execute(this::shed);
+        }
+      } else if (total <= lowWaterMark && !shed.isEmpty()) {
+        releaseShedConnections();
+      }
+    }
+
+    private void shed() {
+      ConnectionBase conn = connection;
+      if (conn != null) {
+        conn.shed(true);
+      }
+    }
+
+    private void unshed() {
+      executor.execute(() -> {
+        ConnectionBase conn = connection;
+        if (conn != null) {
+          conn.shed(false);
+        }
+      });
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+      executor = ctx.executor();
+      connections.incrementAndGet();
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+      if (!closed) {
+        closed = true;
+        connections.decrementAndGet();
+        shed.remove(this);
+        long val = bytes.getAndSet(0L);
+        if (buffered.addAndGet(-val) <= lowWaterMark && !shed.isEmpty()) {
+          releaseShedConnections();
+        }
+      }
+      super.channelInactive(ctx);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+      long size = sizeof(msg);
+      if (size > 0L) {
+        update(size);
+        promise = promise.unvoid();
+        promise.addListener(f -> update(-size));
+      }
+      ctx.write(msg, promise);
+    }
+  }
+}
@@ -25,6 +25,7 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.buffer.impl.BufferInternal;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.file.impl.FileHandleCache;
 import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.future.PromiseInternal;
 import io.vertx.core.net.*;
@@ -46,7 +47,7 @@ import java.util.UUID;
  *
  * @author <a href="http://tfox.org">Tim Fox</a>
  */
-public class NetSocketImpl extends ConnectionBase implements NetSocketInternal {
+public class NetSocketImpl extends ConnectionBase implements NetSocketInternal, FileTransferStream {
 
   private final String writeHandlerID;
   private final SSLHelper sslHelper;
@@ -97,9 +98,11 @@ public class NetSocketImpl extends ConnectionBase implements NetSocketInternal {
           handler.handle(null);
         }
       } else {
+        Buffer buffer = (Buffer) msg;
+        reportBytesBuffered(-buffer.length());
         Handler<Buffer> handler = handler();
         if (handler != null) {
-          handler.handle((Buffer) msg);
+          handler.handle(buffer);
         }
       }
     });
@@ -144,7 +147,7 @@ public class NetSocketImpl extends ConnectionBase implements NetSocketInternal {
 
   @Override
   public Future<Void> write(Buffer data) {
-    return writeMessage(((BufferInternal)data).getByteBuf());
+    return writeMessage(((BufferInternal)data).transferByteBuf());
   }
 
   @Override
@@ -239,6 +242,19 @@ public class NetSocketImpl extends ConnectionBase implements NetSocketInternal {
   public Future<Void> sendFile(String filename, long offset, long length) {
     PromiseInternal<Void> promise = context.promise();
     File file = vertx.resolveFile(filename);
+    FileHandleCache cache = vertx.getFileHandleCache();
+    if (cache != null) {
+      FileHandleCache.FileHandle handle;
+      try {
+        handle = cache.acquire(file);
+      } catch (Exception e) {
+        return context.failedFuture(e);
+      }
+      long actualLength = Math.min(length, handle.length() - offset);
+      long actualOffset = Math.min(offset, handle.length());
+      sendFile(handle, actualOffset, actualLength).addListener(promise);
+      return promise.future();
+    }
     RandomAccessFile raf;
     try {
       raf = new RandomAccessFile(file, "r");
@@ -252,6 +268,18 @@ public class NetSocketImpl extends ConnectionBase implements NetSocketInternal {
     return promise.future();
   }
 
+  @Override
+  public boolean canTransferFile() {
+    return true;
+  }
+
+  @Override
+  public Future<Void> transferFile(RandomAccessFile file, long offset, long length) {
+    PromiseInternal<Void> promise = context.promise();
+    sendFile(file, offset, length).addListener(promise);
+    return promise.future().eventually(this::end);
+  }
+
   public NetSocketImpl exceptionHandler(Handler<Throwable> handler) {
     return (NetSocketImpl) super.exceptionHandler(handler);
   }
@@ -372,6 +400,7 @@ public class NetSocketImpl extends ConnectionBase implements NetSocketInternal {
         msg = VertxHandler.safeBuffer((ByteBuf) msg);
         ByteBuf byteBuf = (ByteBuf) msg;
         Buffer buffer = BufferInternal.buffer(byteBuf);
+        reportBytesBuffered(byteBuf.readableBytes());
         if (!pending.write(buffer)) {
           doPause();
         }
@@ -73,9 +73,13 @@ public abstract class TCPServerBase implements Closeable, MetricsProvider {
   private Future<Channel> bindFuture;
   private Set<TCPServerBase> servers;
   private TCPMetrics<?> metrics;
+  private MemoryBudget memoryBudget;
   private volatile int actualPort;
 
   public TCPServerBase(VertxInternal vertx, NetServerOptions options) {
+    if (options.isAdaptiveWriteQueue() && options.getAdaptiveWriteQueueMinSize() > options.getAdaptiveWriteQueueMaxSize()) {
+      throw new IllegalArgumentException("adaptiveWriteQueueMinSize must be <= adaptiveWriteQueueMaxSize");
+    }
     this.vertx = vertx;
     this.options = options.copy();
     this.creatingContext = vertx.getContext();
@@ -208,8 +212,12 @@ public abstract class TCPServerBase implements Closeable, MetricsProvider {
         bindFuture = promise;
         sslHelper = helper;
         trafficShapingHandler = createTrafficShapingHandler();
+        memoryBudget = options.getMaxBufferedBytes() > 0 ? new MemoryBudget(options.getMaxBufferedBytes()) : null;
         childHandler =  childHandler(listenContext, localAddress, trafficShapingHandler);
         worker = ch -> {
+          if (!admit(ch)) {
+            return;
+          }
           Future<SslChannelProvider> scp = sslChannelProvider;
           childHandler.accept(ch, scp != null ? scp.result() : null, sslHelper, options.getSslOptions());
         };
@@ -259,6 +267,9 @@ public abstract class TCPServerBase implements Closeable, MetricsProvider {
         metrics = main.metrics;
         childHandler =  childHandler(listenContext, localAddress, main.trafficShapingHandler);
         worker = ch -> {
+          if (!admit(ch)) {
+            return;
+          }
           Future<SslChannelProvider> scp = actualServer.sslChannelProvider;
           childHandler.accept(ch, scp != null ? scp.result() : null, sslHelper, options.getSslOptions());
         };
@@ -311,6 +322,9 @@ public abstract class TCPServerBase implements Closeable, MetricsProvider {
           actualPort = ((InetSocketAddress)ch.localAddress()).getPort();
         }
         metrics = createMetrics(localAddress);
+        if (metrics != null && memoryBudget != null) {
+          metrics.bufferedBytes(options.getMaxBufferedBytes(), memoryBudget::bufferedBytes);
+        }
         promise.complete(ch);
       } else {
         promise.fail(res.cause());
@@ -318,6 +332,31 @@ public abstract class TCPServerBase implements Closeable, MetricsProvider {
     });
   }
 
+  /**
+   * Install the per connection handlers on the accepted channel and account it in the server memory budget.
+   *
+   * @return {@code false} when the channel is rejected because the budget is exhausted
+   */
+  private boolean admit(Channel ch) {
+    MemoryBudget budget = actualServer.memoryBudget;
+    if (budget != null) {
+      if (budget.isExhausted()) {
+        TCPMetrics<?> metrics = getMetrics();
+        if (metrics != null) {
+          metrics.connectionRejected(vertx.transport().convert(ch.remoteAddress()));
+        }
+        ch.close();
+        return false;
+      }
+      ch.pipeline().addFirst("memoryBudget", budget.newAccount());
+    }
+    if (options.isAdaptiveWriteQueue()) {
+      ch.pipeline().addLast("adaptiveWriteQueue", new AdaptiveWriteBufferWaterMark(vertx.transport(),
+        options.getAdaptiveWriteQueueMinSize(), options.getAdaptiveWriteQueueMaxSize()));
+    }
+    return true;
+  }
+
   public boolean isListening() {
     return listening;
   }
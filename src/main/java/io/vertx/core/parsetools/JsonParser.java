@@ -82,6 +82,21 @@ public interface JsonParser extends Handler<Buffer>, ReadStream<JsonEvent> {
   @Fluent
   JsonParser objectValueMode();
 
+  /**
+   * Flip the parser to emit a single value event for each new json object, the json object is bound to an instance
+   * of {@code type} with Jackson Databind, without an intermediate {@link io.vertx.core.json.JsonObject}.
+   * <p>
+   * The event {@link JsonEvent#value()} is the bound instance, it can also be retrieved with {@link JsonEvent#mapTo(Class)}.
+   * This is useful for streaming the elements of a large json array.
+   * </p>
+   * Json object currently streamed won't be affected.
+   *
+   * @param type the type to bind json objects to
+   * @return  a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  <T> JsonParser objectValueMode(Class<T> type);
+
   /**
    * Flip the parser to emit a stream of events for each new json array.
    *
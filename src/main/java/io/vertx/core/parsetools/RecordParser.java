@@ -44,6 +44,9 @@ import io.vertx.core.streams.ReadStream;
  * all be fixed size (of potentially different sizes), followed by some delimited records, followed by more fixed
  * size records.
  * <p>
+ * Records are slices of the input buffers when they are contained in a single input buffer, the input buffers should
+ * not be modified after they have been handed to the parser. Appending to a record copies it first.
+ * <p>
  * Instances of this class can't currently be used for protocols where the text is encoded with something other than
  * a 1-1 byte-char mapping.
  * <p>
@@ -164,6 +167,42 @@ public interface RecordParser extends Handler<Buffer>, ReadStream<Buffer> {
     return RecordParserImpl.newFixed(size, stream, null);
   }
 
+  /**
+   * Create a new {@code RecordParser} instance, initially in length field mode, where each record is prefixed by
+   * its length encoded as a big-endian unsigned integer of {@code lengthFieldLength} bytes.
+   * <p>
+   * {@code output} Will receive whole records which have been parsed, without the length field.
+   *
+   * @param lengthFieldLength  the length of the length field: 1, 2, 3, 4 or 8 bytes
+   */
+  static RecordParser newLengthField(int lengthFieldLength) {
+    return RecordParserImpl.newLengthField(lengthFieldLength, null, null);
+  }
+
+  /**
+   * Like {@link #newLengthField(int)} but set the {@code output} that will receive whole records
+   * which have been parsed.
+   *
+   * @param lengthFieldLength  the length of the length field: 1, 2, 3, 4 or 8 bytes
+   * @param output  handler that will receive the output
+   */
+  static RecordParser newLengthField(int lengthFieldLength, Handler<Buffer> output) {
+    return RecordParserImpl.newLengthField(lengthFieldLength, null, output);
+  }
+
+  /**
+   * Like {@link #newLengthField(int)} but wraps the {@code stream}. The {@code stream} handlers will be set/unset
+   * when the {@link #handler(Handler)} is set.
+   * <p/>
+   * The {@code pause()}/{@code resume()} operations are propagated to the {@code stream}.
+   *
+   * @param lengthFieldLength  the length of the length field: 1, 2, 3, 4 or 8 bytes
+   * @param stream  the wrapped stream
+   */
+  static RecordParser newLengthField(int lengthFieldLength, ReadStream<Buffer> stream) {
+    return RecordParserImpl.newLengthField(lengthFieldLength, stream, null);
+  }
+
   /**
    * Flip the parser into delimited mode, and where the delimiter can be represented
    * by the String {@code delim} encoded in latin-1 . Don't use this if your String contains other than latin-1 characters.
@@ -194,10 +233,45 @@ public interface RecordParser extends Handler<Buffer>, ReadStream<Buffer> {
   void fixedSizeMode(int size);
 
   /**
-   * Set the maximum allowed size for a record when using the delimited mode.
-   * The delimiter itself does not count for the record size.
+   * Flip the parser into length field mode, where each record is prefixed by its length encoded as a big-endian
+   * unsigned integer of {@code lengthFieldLength} bytes. The length field is not part of the emitted records.
+   * <p>
+   * This method can be called multiple times while data is being parsed.
+   *
+   * @param lengthFieldLength  the length of the length field: 1, 2, 3, 4 or 8 bytes
+   */
+  void lengthFieldMode(int lengthFieldLength);
+
+  /**
+   * Flip the parser into length field mode.
+   * <p>
+   * The record length is the value of the length field plus {@code lengthAdjustment}, it counts the bytes following
+   * the length field. For instance a protocol whose length field includes the header size uses a negative adjustment.
+   * <p>
+   * This method can be called multiple times while data is being parsed.
+   *
+   * @param lengthFieldOffset  the offset of the length field in the record header
+   * @param lengthFieldLength  the length of the length field: 1, 2, 3, 4 or 8 bytes
+   * @param lengthAdjustment  the value added to the length field
+   * @param bigEndian  whether the length field is big-endian or little-endian
+   * @param stripHeader  whether to strip the header, i.e. the bytes up to the end of the length field, from the emitted records
+   */
+  void lengthFieldMode(int lengthFieldOffset, int lengthFieldLength, int lengthAdjustment, boolean bigEndian, boolean stripHeader);
+
+  /**
+   * Flip the parser into varint mode, where each record is prefixed by its length encoded as a base 128 varint,
+   * like protobuf length delimited messages. The length prefix is not part of the emitted records.
+   * <p>
+   * This method can be called multiple times while data is being parsed.
+   */
+  void varintMode();
+
+  /**
+   * Set the maximum allowed size for a record when using the delimited, length field or varint modes.
+   * The delimiter or the length prefix itself does not count for the record size.
    * <p>
-   * If a record is longer than specified, an {@link IllegalStateException} will be thrown.
+   * If a record is longer than specified, an {@link IllegalStateException} will be thrown. In the length field and
+   * varint modes the record length is checked as soon as the prefix is received and the pending bytes are discarded.
    *
    * @param size the maximum record size
    * @return  a reference to this, so the API can be used fluently
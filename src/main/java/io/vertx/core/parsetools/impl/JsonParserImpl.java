@@ -25,7 +25,9 @@ import io.vertx.core.impl.Arguments;
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.jackson.DatabindCodec;
 import io.vertx.core.json.jackson.JacksonCodec;
+import io.vertx.core.json.jackson.JacksonFactory;
 import io.vertx.core.parsetools.JsonEvent;
 import io.vertx.core.parsetools.JsonEventType;
 import io.vertx.core.parsetools.JsonParser;
@@ -39,10 +41,14 @@ import java.util.*;
  */
 public class JsonParserImpl implements JsonParser {
 
+  // Only used for the buffer recycler of the buffered values
+  private static final JsonFactory TOKEN_FACTORY = new JsonFactory();
+
   private final NonBlockingJsonParser parser;
   private Handler<JsonEventImpl> tokenHandler = this::handleEvent;
   private Handler<JsonEvent> eventHandler;
   private boolean objectValueMode;
+  private Class<?> objectValueType;
   private boolean arrayValueMode;
   private Handler<Throwable> exceptionHandler;
   private String currentField;
@@ -118,9 +124,11 @@ public class JsonParserImpl implements JsonParser {
   private void handleEvent(JsonEventImpl event) {
     if (event.type() == JsonEventType.START_OBJECT && objectValueMode) {
       BufferingHandler handler = new BufferingHandler();
+      Class<?> type = objectValueType;
       handler.handler = buffer -> {
         tokenHandler = this::handleEvent;
-        handleEvent(new JsonEventImpl(null, JsonEventType.VALUE, event.fieldName(), new JsonObject(handler.convert(Map.class))));
+        Object value = type != null ? handler.bind(type) : new JsonObject(handler.convert(Map.class));
+        handleEvent(new JsonEventImpl(null, JsonEventType.VALUE, event.fieldName(), value));
       };
       tokenHandler = handler;
       handler.handle(new JsonEventImpl(JsonToken.START_OBJECT, JsonEventType.START_OBJECT, null, null));
@@ -336,12 +344,25 @@ public class JsonParserImpl implements JsonParser {
   @Override
   public JsonParser objectEventMode() {
     objectValueMode = false;
+    objectValueType = null;
     return this;
   }
 
   @Override
   public JsonParser objectValueMode() {
     objectValueMode = true;
+    objectValueType = null;
+    return this;
+  }
+
+  @Override
+  public <T> JsonParser objectValueMode(Class<T> type) {
+    Objects.requireNonNull(type, "type");
+    if (!(JacksonFactory.CODEC instanceof DatabindCodec)) {
+      throw new DecodeException("Mapping " + type.getName() + " is not available without Jackson Databind on the classpath");
+    }
+    objectValueMode = true;
+    objectValueType = type;
     return this;
   }
 
@@ -364,6 +385,7 @@ public class JsonParserImpl implements JsonParser {
 
     private ArrayDeque<Object> tokens = new ArrayDeque<>();
     private String text;
+    private ObjectCodec codec;
 
     private TokenParser(IOContext ctxt, int features) {
       super(ctxt, features);
@@ -404,27 +426,27 @@ public class JsonParserImpl implements JsonParser {
 
     @Override
     public char[] getTextCharacters() {
-      throw new UnsupportedOperationException();
+      return text != null ? text.toCharArray() : null;
     }
 
     @Override
     public int getTextLength() {
-      throw new UnsupportedOperationException();
+      return text != null ? text.length() : 0;
     }
 
     @Override
     public int getTextOffset() {
-      throw new UnsupportedOperationException();
+      return 0;
     }
 
     @Override
     public ObjectCodec getCodec() {
-      throw new UnsupportedOperationException();
+      return codec;
     }
 
     @Override
     public void setCodec(ObjectCodec c) {
-      throw new UnsupportedOperationException();
+      codec = c;
     }
 
     @Override
@@ -450,8 +472,7 @@ public class JsonParserImpl implements JsonParser {
           case START_OBJECT:
           case START_ARRAY:
             if (depth++ == 0) {
-              JsonFactory factory = new JsonFactory();
-              buffer = new TokenParser(new IOContext(factory._getBufferRecycler(), this, true), com.fasterxml.jackson.core.JsonParser.Feature.collectDefaults());
+              buffer = new TokenParser(new IOContext(TOKEN_FACTORY._getBufferRecycler(), this, true), com.fasterxml.jackson.core.JsonParser.Feature.collectDefaults());
             }
             buffer.tokens.add(event.token());
             break;
@@ -483,6 +504,15 @@ public class JsonParserImpl implements JsonParser {
     <T> T convert(Class<T> type) {
       return JacksonCodec.fromParser(buffer, type);
     }
+
+    /**
+     * Bind the buffered tokens to {@code type} without an intermediate map.
+     */
+    <T> T bind(Class<T> type) {
+      // Deserializers of tree values (JsonNode, TreeNode) read them with the parser codec
+      buffer.setCodec(DatabindCodec.mapper());
+      return DatabindCodec.fromParser(buffer, type);
+    }
   }
 
   @Override
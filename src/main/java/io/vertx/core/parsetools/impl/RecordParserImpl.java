@@ -11,10 +11,13 @@
 
 package io.vertx.core.parsetools.impl;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.buffer.impl.BufferInternal;
+import io.vertx.core.buffer.impl.VertxByteBufAllocator;
 import io.vertx.core.impl.Arguments;
 import io.vertx.core.parsetools.RecordParser;
 import io.vertx.core.streams.ReadStream;
@@ -22,23 +25,36 @@ import io.vertx.core.streams.ReadStream;
 import java.util.Objects;
 
 /**
+ * The parser never copies the received chunks: the pending bytes are a slice of the last chunk or a composite
+ * of the chunks holding the current record. Records are emitted as slices of the chunks, only the records
+ * spanning several chunks are copied.
+ *
  * @author <a href="http://tfox.org">Tim Fox</a>
  * @author <a href="mailto:larsdtimm@gmail.com">Lars Timm</a>
  */
 public class RecordParserImpl implements RecordParser {
 
-  // Empty and unmodifiable
-  private static final Buffer EMPTY_BUFFER = BufferInternal.buffer(Unpooled.EMPTY_BUFFER);
-
-  private Buffer buff = EMPTY_BUFFER;
+  private ByteBuf buff = Unpooled.EMPTY_BUFFER;
   private int pos;            // Current position in buffer
   private int start;          // Position of beginning of current record
-  private int delimPos;       // Position of current match in delimiter array
 
-  private boolean delimited;
+  private static final int DELIMITED_MODE = 0;
+  private static final int FIXED_SIZE_MODE = 1;
+  private static final int LENGTH_FIELD_MODE = 2;
+  private static final int VARINT_MODE = 3;
+
+  private int mode;
   private byte[] delim;
   private int recordSize;
+  private int lengthFieldOffset;
+  private int lengthFieldLength;
+  private int lengthAdjustment;
+  private boolean bigEndian;
+  private boolean stripHeader;
+  private int headerSize;     // Size of the header of the current record to strip
   private int maxRecordSize;
+  private long bytesToDiscard; // Remaining bytes of a discarded record
+  private boolean failed;      // The stream cannot be framed anymore
   private long demand = Long.MAX_VALUE;
   private Handler<Buffer> eventHandler;
   private Handler<Void> endHandler;
@@ -119,6 +135,22 @@ public class RecordParserImpl implements RecordParser {
     return ls;
   }
 
+  /**
+   * Create a new {@code RecordParser} instance, initially in length field mode, where each record is prefixed by
+   * its length encoded as a big-endian unsigned integer of {@code lengthFieldLength} bytes.
+   * <p>
+   * {@code output} Will receive whole records which have been parsed.
+   *
+   * @param lengthFieldLength  the length of the length field
+   * @param output  handler that will receive the output
+   */
+  public static RecordParser newLengthField(int lengthFieldLength, ReadStream<Buffer> stream, Handler<Buffer> output) {
+    RecordParserImpl ls = new RecordParserImpl(stream);
+    ls.handler(output);
+    ls.lengthFieldMode(lengthFieldLength);
+    return ls;
+  }
+
   /**
    * Flip the parser into delimited mode, and where the delimiter can be represented
    * by the String {@code delim} encoded in latin-1 . Don't use this if your String contains other than latin-1 characters.
@@ -141,9 +173,8 @@ public class RecordParserImpl implements RecordParser {
    */
   public void delimitedMode(Buffer delim) {
     Objects.requireNonNull(delim, "delim");
-    delimited = true;
+    mode = DELIMITED_MODE;
     this.delim = delim.getBytes();
-    delimPos = 0;
   }
 
   /**
@@ -155,15 +186,68 @@ public class RecordParserImpl implements RecordParser {
    */
   public void fixedSizeMode(int size) {
     Arguments.require(size > 0, "Size must be > 0");
-    delimited = false;
+    mode = FIXED_SIZE_MODE;
     recordSize = size;
   }
 
   /**
-   * Set the maximum allowed size for a record when using the delimited mode.
-   * The delimiter itself does not count for the record size.
+   * Flip the parser into length field mode, where each record is prefixed by its length encoded as a big-endian
+   * unsigned integer of {@code lengthFieldLength} bytes. The length field is not part of the emitted records.
+   *
+   * @param lengthFieldLength  the length of the length field: 1, 2, 3, 4 or 8 bytes
+   */
+  public void lengthFieldMode(int lengthFieldLength) {
+    lengthFieldMode(0, lengthFieldLength, 0, true, true);
+  }
+
+  /**
+   * Flip the parser into length field mode.
+   * <p>
+   * The record length is the value of the length field plus {@code lengthAdjustment}, it counts the bytes following
+   * the length field.
+   *
+   * @param lengthFieldOffset  the offset of the length field in the record header
+   * @param lengthFieldLength  the length of the length field: 1, 2, 3, 4 or 8 bytes
+   * @param lengthAdjustment  the value added to the length field
+   * @param bigEndian  whether the length field is big-endian or little-endian
+   * @param stripHeader  whether to strip the header, i.e. the bytes up to the end of the length field, from the emitted records
+   */
+  public void lengthFieldMode(int lengthFieldOffset, int lengthFieldLength, int lengthAdjustment, boolean bigEndian, boolean stripHeader) {
+    Arguments.require(lengthFieldOffset >= 0, "Length field offset must be >= 0");
+    switch (lengthFieldLength) {
+      case 1:
+      case 2:
+      case 3:
+      case 4:
+      case 8:
+        break;
+      default:
+        throw new IllegalArgumentException("Length field length must be 1, 2, 3, 4 or 8");
+    }
+    mode = LENGTH_FIELD_MODE;
+    this.lengthFieldOffset = lengthFieldOffset;
+    this.lengthFieldLength = lengthFieldLength;
+    this.lengthAdjustment = lengthAdjustment;
+    this.bigEndian = bigEndian;
+    this.stripHeader = stripHeader;
+  }
+
+  /**
+   * Flip the parser into varint mode, where each record is prefixed by its length encoded as a base 128 varint
+   * (e.g. protobuf length delimited messages). The length prefix is not part of the emitted records.
+   */
+  public void varintMode() {
+    mode = VARINT_MODE;
+    stripHeader = true;
+  }
+
+  /**
+   * Set the maximum allowed size for a record when using the delimited, length field or varint modes.
+   * The delimiter or the length prefix itself does not count for the record size.
    * <p>
-   * If a record is longer than specified, an {@link IllegalStateException} will be thrown.
+   * If a record is longer than specified, an {@link IllegalStateException} will be thrown. In the length field and
+   * varint modes the record length is checked as soon as the prefix is received and the record is discarded as it
+   * is received.
    *
    * @param size the maximum record size
    * @return  a reference to this, so the API can be used fluently
@@ -183,17 +267,32 @@ public class RecordParserImpl implements RecordParser {
       do {
         if (demand > 0L) {
           int next;
-          if (delimited) {
-            next = parseDelimited();
-          } else {
-            next = parseFixed();
+          headerSize = 0;
+          switch (mode) {
+            case DELIMITED_MODE:
+              next = parseDelimited();
+              break;
+            case FIXED_SIZE_MODE:
+              next = parseFixed();
+              break;
+            default:
+              next = parseLengthPrefixed();
+              break;
           }
           if (next == -1) {
             if (streamEnded) {
-              if (buff.length() == 0) {
+              if (mode == LENGTH_FIELD_MODE || mode == VARINT_MODE) {
+                if (start < buff.writerIndex()) {
+                  // Never emit a partial frame
+                  start = pos = buff.writerIndex();
+                  reportFailure(new IllegalStateException("Truncated record"));
+                }
                 break;
               }
-              next = buff.length();
+              if (buff.writerIndex() == 0) {
+                break;
+              }
+              next = buff.writerIndex();
             } else {
               ReadStream<Buffer> s = stream;
               if (s != null) {
@@ -208,7 +307,7 @@ public class RecordParserImpl implements RecordParser {
           if (demand != Long.MAX_VALUE) {
             demand--;
           }
-          Buffer event = buff.getBuffer(start, next);
+          Buffer event = record(start + headerSize, next);
           start = pos;
           Handler<Buffer> handler = eventHandler;
           if (handler != null) {
@@ -226,14 +325,7 @@ public class RecordParserImpl implements RecordParser {
           break;
         }
       } while (true);
-      int len = buff.length();
-      if (start == len) {
-        buff = EMPTY_BUFFER;
-      } else if (start > 0) {
-        buff = buff.getBuffer(start, len);
-      }
-      pos -= start;
-      start = 0;
+      compact();
       if (streamEnded) {
         end();
       }
@@ -242,28 +334,207 @@ public class RecordParserImpl implements RecordParser {
     }
   }
 
+  /**
+   * Create a record from the pending bytes.
+   */
+  private Buffer record(int from, int to) {
+    int length = to - from;
+    if (length == 0) {
+      return Buffer.buffer();
+    }
+    if (buff instanceof CompositeByteBuf) {
+      CompositeByteBuf composite = (CompositeByteBuf) buff;
+      int index = composite.toComponentIndex(from);
+      int offset = composite.toByteIndex(index);
+      ByteBuf component = composite.internalComponent(index);
+      if (to - offset <= component.readableBytes()) {
+        return BufferInternal.buffer(component.slice(from - offset, length));
+      }
+      // The record spans several chunks
+      ByteBuf copy = VertxByteBufAllocator.DEFAULT.heapBuffer(length);
+      copy.writeBytes(composite, from, length);
+      return BufferInternal.buffer(copy);
+    }
+    return BufferInternal.buffer(buff.slice(from, length));
+  }
+
+  /**
+   * Discard the bytes of the emitted records, the emitted records are slices of the chunks and remain valid.
+   */
+  private void compact() {
+    int len = buff.writerIndex();
+    if (start == len) {
+      buff = Unpooled.EMPTY_BUFFER;
+    } else if (start > 0) {
+      if (buff instanceof CompositeByteBuf) {
+        CompositeByteBuf composite = (CompositeByteBuf) buff;
+        int index = composite.toComponentIndex(start);
+        int offset = composite.toByteIndex(index);
+        int num = composite.numComponents();
+        if (index == num - 1) {
+          buff = composite.internalComponent(index).slice(start - offset, len - start);
+        } else {
+          CompositeByteBuf remaining = newComposite();
+          remaining.addComponent(true, composite.internalComponent(index).slice(start - offset, composite.toByteIndex(index + 1) - start));
+          for (int i = index + 1;i < num;i++) {
+            remaining.addComponent(true, composite.internalComponent(i));
+          }
+          buff = remaining;
+        }
+      } else {
+        buff = buff.slice(start, len - start);
+      }
+    }
+    pos -= start;
+    start = 0;
+  }
+
+  private static CompositeByteBuf newComposite() {
+    // Not leak detected, the components are unpooled heap buffers
+    return new CompositeByteBuf(VertxByteBufAllocator.DEFAULT, false, Integer.MAX_VALUE);
+  }
+
   private int parseDelimited() {
-    int len = buff.length();
-    for (; pos < len; pos++) {
-      if (buff.getByte(pos) == delim[delimPos]) {
-        delimPos++;
-        if (delimPos == delim.length) {
-          pos++;
-          delimPos = 0;
-          return pos - delim.length;
+    int len = buff.writerIndex();
+    byte[] delim = this.delim;
+    byte first = delim[0];
+    while (pos < len) {
+      // Bulk scan for the first byte of the delimiter
+      int idx = buff.indexOf(pos, len, first);
+      if (idx == -1) {
+        pos = len;
+        return -1;
+      }
+      int available = Math.min(delim.length, len - idx);
+      if (matches(idx, available)) {
+        if (available == delim.length) {
+          pos = idx + delim.length;
+          return idx;
+        }
+        // Partial match at the end of the buffer, resume from there with more data
+        pos = idx;
+        return -1;
+      }
+      pos = idx + 1;
+    }
+    return -1;
+  }
+
+  private boolean matches(int idx, int length) {
+    for (int i = 1;i < length;i++) {
+      if (buff.getByte(idx + i) != delim[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int parseLengthPrefixed() {
+    while (true) {
+      if (failed || (bytesToDiscard > 0L && !discard())) {
+        return -1;
+      }
+      int len = buff.writerIndex();
+      int header;
+      long length;
+      if (mode == LENGTH_FIELD_MODE) {
+        header = lengthFieldOffset + lengthFieldLength;
+        if (len - start < header) {
+          return -1;
         }
+        length = lengthField(start + lengthFieldOffset) + lengthAdjustment;
       } else {
-        if (delimPos > 0) {
-          pos -= delimPos;
-          delimPos = 0;
+        length = 0L;
+        int idx = start;
+        int shift = 0;
+        while (true) {
+          if (idx == len) {
+            return -1;
+          }
+          byte b = buff.getByte(idx++);
+          length |= (long) (b & 0x7F) << shift;
+          if (b >= 0) {
+            break;
+          }
+          shift += 7;
+          if (shift > 63) {
+            return invalidRecord("Malformed varint length prefix");
+          }
         }
+        header = idx - start;
+      }
+      if (length < 0L) {
+        return invalidRecord("Invalid record length " + length);
       }
+      if (length > Integer.MAX_VALUE - header || (maxRecordSize > 0 && length > maxRecordSize)) {
+        // Skip the record as it is received, the following records can still be parsed
+        bytesToDiscard = header + length;
+        reportFailure(new IllegalStateException("The current record is too long"));
+        continue;
+      }
+      long end = (long) start + header + length;
+      if (end > len) {
+        return -1;
+      }
+      if (stripHeader) {
+        headerSize = header;
+      }
+      pos = (int) end;
+      return pos;
+    }
+  }
+
+  /**
+   * Discard the pending bytes of a skipped record.
+   *
+   * @return whether the record is entirely discarded
+   */
+  private boolean discard() {
+    int discarded = (int) Math.min(bytesToDiscard, buff.writerIndex() - start);
+    start += discarded;
+    pos = start;
+    bytesToDiscard -= discarded;
+    return bytesToDiscard == 0L;
+  }
+
+  private long lengthField(int idx) {
+    switch (lengthFieldLength) {
+      case 1:
+        return buff.getUnsignedByte(idx);
+      case 2:
+        return bigEndian ? buff.getUnsignedShort(idx) : buff.getUnsignedShortLE(idx);
+      case 3:
+        return bigEndian ? buff.getUnsignedMedium(idx) : buff.getUnsignedMediumLE(idx);
+      case 4:
+        return bigEndian ? buff.getUnsignedInt(idx) : buff.getUnsignedIntLE(idx);
+      default:
+        return bigEndian ? buff.getLong(idx) : buff.getLongLE(idx);
     }
+  }
+
+  /**
+   * The stream cannot be framed anymore: discard the pending bytes, ignore the following bytes and report the failure.
+   */
+  private int invalidRecord(String msg) {
+    failed = true;
+    buff = Unpooled.EMPTY_BUFFER;
+    pos = 0;
+    start = 0;
+    reportFailure(new IllegalStateException(msg));
     return -1;
   }
 
+  private void reportFailure(IllegalStateException ex) {
+    Handler<Throwable> handler = exceptionHandler;
+    if (handler != null) {
+      handler.handle(ex);
+    } else {
+      throw ex;
+    }
+  }
+
   private int parseFixed() {
-    int len = buff.length();
+    int len = buff.writerIndex();
     if (len - start >= recordSize) {
       int end = start + recordSize;
       pos = end;
@@ -278,19 +549,22 @@ public class RecordParserImpl implements RecordParser {
    * @param buffer  a chunk of data
    */
   public void handle(Buffer buffer) {
-    if (buff.length() == 0) {
-      buff = buffer;
+    if (failed) {
+      return;
+    }
+    ByteBuf chunk = ((BufferInternal) buffer).getByteBuf();
+    if (buff.writerIndex() == 0) {
+      buff = chunk;
+    } else if (buff instanceof CompositeByteBuf) {
+      ((CompositeByteBuf) buff).addComponent(true, chunk);
     } else {
-      buff.appendBuffer(buffer);
+      CompositeByteBuf composite = newComposite();
+      composite.addComponents(true, buff, chunk);
+      buff = composite;
     }
     handleParsing();
-    if (buff != null && maxRecordSize > 0 && buff.length() > maxRecordSize) {
-      IllegalStateException ex = new IllegalStateException("The current record is too long");
-      if (exceptionHandler != null) {
-        exceptionHandler.handle(ex);
-      } else {
-        throw ex;
-      }
+    if (buff != null && maxRecordSize > 0 && (mode == DELIMITED_MODE || mode == FIXED_SIZE_MODE) && buff.writerIndex() > maxRecordSize) {
+      reportFailure(new IllegalStateException("The current record is too long"));
     }
   }
 
@@ -87,8 +87,7 @@ public class NodeInfo implements ClusterSerializable {
     if (metadata == null) {
       buffer.appendInt(-1);
     } else {
-      Buffer buf = metadata.toBuffer();
-      buffer.appendInt(buf.length()).appendBuffer(buf);
+      metadata.writeToBuffer(buffer);
     }
   }
 
@@ -68,4 +68,19 @@ public interface JsonCodec {
   default Buffer toBuffer(Object object) throws EncodeException {
     return toBuffer(object, false);
   }
+
+  /**
+   * Encode the specified {@code object} at the end of the {@code buffer}, this avoids the intermediate buffer
+   * created by {@link #toBuffer(Object, boolean)} when the encoded JSON is written in a larger buffer.
+   * <p>
+   * When the encoding fails, the {@code buffer} might contain a part of the encoded JSON.
+   *
+   * @param object the object to encode
+   * @param pretty {@code true} to format the JSON prettily
+   * @param buffer the buffer to append to
+   * @throws EncodeException anything preventing the encoding
+   */
+  default void appendToBuffer(Object object, boolean pretty, Buffer buffer) throws EncodeException {
+    buffer.appendBuffer(toBuffer(object, pretty));
+  }
 }
@@ -13,6 +13,8 @@ package io.vertx.core.spi.metrics;
 
 import io.vertx.core.net.SocketAddress;
 
+import java.util.function.LongSupplier;
+
 /**
  * An SPI used internally by Vert.x to gather metrics on a net socket which serves
  * as a base class for things like HttpServer and HttpClient, all of which serve TCP connections.<p/>
@@ -58,4 +60,26 @@ public interface TCPMetrics<S> extends NetworkMetrics<S> {
   default void disconnected(S socketMetric, SocketAddress remoteAddress) {
   }
 
+  /**
+   * Called once when the server accounts the memory buffered by its connections, see
+   * {@link io.vertx.core.net.NetServerOptions#setMaxBufferedBytes(long)}.<p/>
+   *
+   * The {@code bufferedBytes} gauge can be polled from any thread.
+   *
+   * @param maxBufferedBytes the memory budget of the server
+   * @param bufferedBytes the gauge of the number of bytes currently buffered by the server connections
+   */
+  default void bufferedBytes(long maxBufferedBytes, LongSupplier bufferedBytes) {
+  }
+
+  /**
+   * Called when a connection is rejected because the server memory budget is exhausted.<p/>
+   *
+   * This method is called from the event-loop of the rejected connection.
+   *
+   * @param remoteAddress the remote address of the client
+   */
+  default void connectionRejected(SocketAddress remoteAddress) {
+  }
+
 }
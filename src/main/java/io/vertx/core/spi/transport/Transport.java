@@ -13,8 +13,10 @@ package io.vertx.core.spi.transport;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.*;
 import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.DatagramPacket;
 import io.netty.channel.socket.InternetProtocolFamily;
 import io.vertx.core.datagram.DatagramSocketOptions;
 import io.vertx.core.net.ClientOptionsBase;
@@ -84,6 +86,15 @@ public interface Transport {
     }
   }
 
+  /**
+   * @param channel the socket channel
+   * @return the smoothed round trip time of the TCP connection in microseconds or {@code -1} when the transport
+   *         cannot provide it
+   */
+  default long roundTripTime(Channel channel) {
+    return -1L;
+  }
+
   /**
    * @param type one of {@link #ACCEPTOR_EVENT_LOOP_GROUP} or {@link #IO_EVENT_LOOP_GROUP}.
    * @param nThreads the number of threads that will be used by this instance.
@@ -116,6 +127,18 @@ public interface Transport {
    */
   ChannelFactory<? extends ServerChannel> serverChannelFactory(boolean domainSocket);
 
+  /**
+   * Create a datagram packet segmented by the kernel or the network card (UDP generic segmentation offload).
+   *
+   * @param content the content made of contiguous segments, only the last segment can be smaller than {@code segmentSize}
+   * @param segmentSize the size of a segment
+   * @param recipient the recipient
+   * @return the packet or {@code null} when the transport does not support segmentation offload
+   */
+  default DatagramPacket segmentedDatagramPacket(ByteBuf content, int segmentSize, InetSocketAddress recipient) {
+    return null;
+  }
+
   default void configure(DatagramChannel channel, DatagramSocketOptions options) {
     channel.config().setAllocator(PartialPooledByteBufAllocator.INSTANCE);
     if (options.getSendBufferSize() != -1) {
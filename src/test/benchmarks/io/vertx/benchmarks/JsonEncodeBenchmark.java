@@ -12,6 +12,8 @@
 package io.vertx.benchmarks;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.json.jackson.DatabindCodec;
 import io.vertx.core.json.jackson.JacksonCodec;
@@ -34,6 +36,7 @@ public class JsonEncodeBenchmark extends BenchmarkBase {
   private JsonObject small;
   private JsonObject wide;
   private JsonObject deep;
+  private JsonObject large;
   private JsonCodec jacksonCodec;
   private JsonCodec databindCodec;
 
@@ -43,6 +46,11 @@ public class JsonEncodeBenchmark extends BenchmarkBase {
     small = loadJson(classLoader.getResource("small_bench.json"));
     wide = loadJson(classLoader.getResource("wide_bench.json"));
     deep = loadJson(classLoader.getResource("deep_bench.json"));
+    JsonArray items = new JsonArray();
+    for (int i = 0;i < 100;i++) {
+      items.add(wide.copy()).add(deep.copy());
+    }
+    large = new JsonObject().put("items", items);
     jacksonCodec = new JacksonCodec();
     databindCodec = new DatabindCodec();
   }
@@ -123,6 +131,53 @@ public class JsonEncodeBenchmark extends BenchmarkBase {
     bufferDatabind(wide, blackhole);
   }
 
+  @Benchmark
+  public void largeStringJackson(Blackhole blackhole) throws Exception {
+    stringJackson(large, blackhole);
+  }
+
+  @Benchmark
+  public void largeStringDatabind(Blackhole blackhole) throws Exception {
+    stringDatabind(large, blackhole);
+  }
+
+  @Benchmark
+  public void largeBufferJackson(Blackhole blackhole) throws Exception {
+    bufferJackson(large, blackhole);
+  }
+
+  @Benchmark
+  public void largeBufferDatabind(Blackhole blackhole) throws Exception {
+    bufferDatabind(large, blackhole);
+  }
+
+  @Benchmark
+  public void smallAppendJackson(Blackhole blackhole) throws Exception {
+    appendToBuffer(jacksonCodec, small, blackhole);
+  }
+
+  @Benchmark
+  public void smallAppendDatabind(Blackhole blackhole) throws Exception {
+    appendToBuffer(databindCodec, small, blackhole);
+  }
+
+  @Benchmark
+  public void largeAppendJackson(Blackhole blackhole) throws Exception {
+    appendToBuffer(jacksonCodec, large, blackhole);
+  }
+
+  @Benchmark
+  public void largeAppendDatabind(Blackhole blackhole) throws Exception {
+    appendToBuffer(databindCodec, large, blackhole);
+  }
+
+  private void appendToBuffer(JsonCodec codec, JsonObject jsonObject, Blackhole blackhole) throws Exception {
+    Buffer buffer = Buffer.buffer();
+    buffer.appendInt(0);
+    codec.appendToBuffer(jsonObject, false, buffer);
+    blackhole.consume(buffer);
+  }
+
   private void bufferJackson(JsonObject jsonObject, Blackhole blackhole) throws Exception {
     blackhole.consume(jsonObject.toBuffer());
   }
@@ -12,6 +12,7 @@
 package io.vertx.core.buffer;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.util.IllegalReferenceCountException;
 import io.vertx.core.buffer.impl.BufferImpl;
@@ -24,6 +25,9 @@ import org.junit.Test;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -1102,6 +1106,23 @@ public class BufferTest {
     }
   }
 
+  @Test
+  public void testAppendToSlice() {
+    Buffer buff = TestUtils.randomBuffer(100);
+    Buffer expected = buff.copy();
+    Buffer sliced = buff.slice(10, 20);
+    Buffer appended = TestUtils.randomBuffer(10);
+    sliced.appendBuffer(appended).appendBytes(appended.getBytes()).appendInt(4).appendByte((byte) 5);
+    assertEquals(35, sliced.length());
+    assertEquals(expected.slice(10, 20), sliced.slice(0, 10));
+    assertEquals(appended, sliced.slice(10, 20));
+    assertEquals(appended, sliced.slice(20, 30));
+    assertEquals(4, sliced.getInt(30));
+    assertEquals(5, sliced.getByte(34));
+    // The slice has been copied on expansion
+    assertEquals(expected, buff);
+  }
+
   @Test
   public void testToJsonObject() throws Exception {
     JsonObject obj = new JsonObject();
@@ -1240,4 +1261,96 @@ public class BufferTest {
     Buffer buff = BufferInternal.buffer(byteBuf.asReadOnly());
     assertSame(buff, buff.copy());
   }
+
+  @Test
+  public void testPooledBuffer() {
+    PooledBuffer buff = Buffer.pooled(4);
+    Buffer expected = TestUtils.randomBuffer(1024);
+    buff.appendBuffer(expected).appendInt(5);
+    assertEquals(1028, buff.length());
+    assertEquals(expected, buff.getBuffer(0, 1024));
+    assertEquals(5, buff.getInt(1024));
+    Buffer copy = buff.copy();
+    assertEquals(buff, copy);
+    assertEquals(copy, buff);
+    ByteBuf byteBuf = ((BufferInternal) buff).getByteBuf();
+    assertEquals(1028, byteBuf.readableBytes());
+    assertFalse(buff.isReleased());
+    assertTrue(buff.release());
+    assertTrue(buff.isReleased());
+    assertFalse(buff.release());
+    // Copies are independent of the pooled memory
+    assertEquals(5, copy.getInt(1024));
+    assertEquals(5, byteBuf.getInt(1024));
+    try {
+      buff.getInt(1024);
+      fail();
+    } catch (IllegalReferenceCountException ignore) {
+      // Expected
+    }
+  }
+
+  @Test
+  public void testPooledBufferTransfer() {
+    PooledBuffer buff = Buffer.pooled(16);
+    buff.appendString("foo");
+    ByteBuf byteBuf = ((BufferInternal) buff).transferByteBuf();
+    assertTrue(buff.isReleased());
+    assertFalse(buff.release());
+    assertEquals(1, byteBuf.refCnt());
+    assertEquals("foo", byteBuf.toString(StandardCharsets.UTF_8));
+    assertIllegalStateException(() -> ((BufferInternal) buff).transferByteBuf());
+    assertTrue(byteBuf.release());
+  }
+
+  @Test
+  public void testCompositeBuffer() {
+    Buffer buff = Buffer.composite();
+    Buffer expected = Buffer.buffer();
+    for (int i = 0;i < 10;i++) {
+      Buffer fragment = TestUtils.randomBuffer(i * 50);
+      buff.appendBuffer(fragment).appendInt(i);
+      expected.appendBuffer(fragment).appendInt(i);
+    }
+    Buffer large = TestUtils.randomBuffer(1024);
+    buff.appendBuffer(large, 100, 500);
+    expected.appendBuffer(large, 100, 500);
+    assertEquals(expected.length(), buff.length());
+    assertEquals(expected, buff);
+    assertEquals(expected.toString(), buff.toString());
+    assertEquals(expected.getBuffer(200, 1500), buff.getBuffer(200, 1500));
+    assertEquals(expected.getInt(expected.length() - 504), buff.getInt(buff.length() - 504));
+    assertEquals(expected, buff.copy());
+    assertEquals(expected.slice(10, 1000), buff.slice(10, 1000));
+    ByteBuf byteBuf = ((BufferInternal) buff).getByteBuf();
+    assertEquals(expected.length(), byteBuf.readableBytes());
+    assertTrue(byteBuf.nioBufferCount() > 1);
+    // Appended buffers are not copied
+    large.setByte(100, (byte) (large.getByte(100) + 1));
+    assertEquals(large.getByte(100), buff.getByte(buff.length() - 500));
+  }
+
+  @Test
+  public void testCompositeBufferAlternatingAppends() {
+    Buffer buff = Buffer.composite();
+    Buffer expected = Buffer.buffer();
+    int num = 100;
+    for (int i = 0;i < num;i++) {
+      Buffer fragment = TestUtils.randomBuffer(1000);
+      buff.appendByte((byte) i).appendBuffer(fragment);
+      expected.appendByte((byte) i).appendBuffer(fragment);
+    }
+    assertEquals(expected, buff);
+    CompositeByteBuf composite = (CompositeByteBuf) ((BufferImpl) buff).byteBuf();
+    assertEquals(buff.length(), composite.capacity());
+    assertEquals(2 * num, composite.numComponents());
+    // Count the memory retained by the components, including the unused space of the tail chunks
+    Set<ByteBuf> retained = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (int i = 0;i < composite.numComponents();i++) {
+      ByteBuf component = composite.internalComponent(i);
+      retained.add(component.unwrap() != null ? component.unwrap() : component);
+    }
+    int size = retained.stream().mapToInt(ByteBuf::capacity).sum();
+    assertTrue(size < 2 * buff.length());
+  }
 }
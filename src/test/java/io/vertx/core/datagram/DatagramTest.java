@@ -33,6 +33,8 @@ import org.junit.Test;
 
 import java.net.InetAddress;
 import java.net.NetworkInterface;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -150,6 +152,52 @@ public class DatagramTest extends VertxTestBase {
 
 
 
+  @Test
+  public void testSendReceiveBatch() {
+    testSendReceiveBatch(new DatagramSocketOptions());
+  }
+
+  @Test
+  public void testSendReceiveBatchSegmented() {
+    testSendReceiveBatch(new DatagramSocketOptions().setUdpGso(true));
+  }
+
+  private void testSendReceiveBatch(DatagramSocketOptions senderOptions) {
+    int numPackets = 16;
+    peer1 = vertx.createDatagramSocket(senderOptions);
+    peer2 = vertx.createDatagramSocket(new DatagramSocketOptions()
+      .setReceiveBatchSize(numPackets)
+      .setMaxDatagramPayloadSize(512));
+    peer2.exceptionHandler(t -> fail(t.getMessage()));
+    peer2.listen(1234, "127.0.0.1").onComplete(onSuccess(v -> {
+      List<Buffer> expected = new ArrayList<>();
+      for (int i = 0;i < numPackets;i++) {
+        expected.add(TestUtils.randomBuffer(i == numPackets - 1 ? 64 : 128));
+      }
+      List<Buffer> received = new ArrayList<>();
+      peer2.handler(packet -> fail());
+      peer2.batchHandler(packets -> {
+        assertFalse(packets.isEmpty());
+        assertTrue(packets.size() <= numPackets);
+        packets.forEach(packet -> received.add(packet.data()));
+        if (received.size() == numPackets) {
+          assertEquals(expected, received);
+          // Packets can be appended to
+          for (int i = 0;i < numPackets;i++) {
+            received.get(i).appendBuffer(expected.get(i));
+          }
+          for (int i = 0;i < numPackets;i++) {
+            Buffer data = expected.get(i);
+            assertEquals(Buffer.buffer().appendBuffer(data).appendBuffer(data), received.get(i));
+          }
+          testComplete();
+        }
+      });
+      peer1.sendBatch(expected, 1234, "127.0.0.1").onComplete(onSuccess(ar2 -> {}));
+    }));
+    await();
+  }
+
   @Test
   public void testSender() {
     peer1 = vertx.createDatagramSocket(new DatagramSocketOptions());
@@ -429,6 +477,28 @@ public class DatagramTest extends VertxTestBase {
     assertEquals(options, options.setIpV6(true));
     assertTrue(options.isIpV6());
 
+    assertEquals(DatagramSocketOptions.DEFAULT_RECEIVE_BATCH_SIZE, options.getReceiveBatchSize());
+    rand = 1 + TestUtils.randomPositiveInt() % DatagramSocketOptions.MAX_RECEIVE_BATCH_SIZE;
+    assertEquals(options, options.setReceiveBatchSize(rand));
+    assertEquals(rand, options.getReceiveBatchSize());
+    assertIllegalArgumentException(() -> options.setReceiveBatchSize(0));
+    assertIllegalArgumentException(() -> options.setReceiveBatchSize(DatagramSocketOptions.MAX_RECEIVE_BATCH_SIZE + 1));
+
+    assertEquals(DatagramSocketOptions.DEFAULT_MAX_DATAGRAM_PAYLOAD_SIZE, options.getMaxDatagramPayloadSize());
+    rand = TestUtils.randomPositiveInt() % (DatagramSocketOptions.MAX_DATAGRAM_PAYLOAD_SIZE + 1);
+    assertEquals(options, options.setMaxDatagramPayloadSize(rand));
+    assertEquals(rand, options.getMaxDatagramPayloadSize());
+    assertIllegalArgumentException(() -> options.setMaxDatagramPayloadSize(-1));
+    assertIllegalArgumentException(() -> options.setMaxDatagramPayloadSize(DatagramSocketOptions.MAX_DATAGRAM_PAYLOAD_SIZE + 1));
+
+    assertFalse(options.isUdpGro());
+    assertEquals(options, options.setUdpGro(true));
+    assertTrue(options.isUdpGro());
+
+    assertFalse(options.isUdpGso());
+    assertEquals(options, options.setUdpGso(true));
+    assertTrue(options.isUdpGso());
+
     testComplete();
   }
 
@@ -11,11 +11,23 @@
 
 package io.vertx.core.file;
 
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.impl.FileResolverImpl;
+import io.vertx.core.impl.VertxInternal;
 import io.vertx.core.json.JsonObject;
+import io.vertx.test.core.TestUtils;
 import io.vertx.test.core.VertxTestBase;
 import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.Random;
 
+import static io.vertx.test.core.TestUtils.assertIllegalArgumentException;
+
 public class FileSystemOptionsTest extends VertxTestBase {
 
   @Test
@@ -24,6 +36,18 @@ public class FileSystemOptionsTest extends VertxTestBase {
 
     assertTrue(options.isFileCachingEnabled());
     assertTrue(options.isClassPathResolvingEnabled());
+    assertEquals(FileSystemOptions.DEFAULT_WORKER_POOL_SIZE, options.getWorkerPoolSize());
+    assertEquals(FileSystemOptions.DEFAULT_WORKER_POOL_MAX_QUEUE_SIZE, options.getWorkerPoolMaxQueueSize());
+    assertIllegalArgumentException(() -> options.setWorkerPoolSize(-1));
+    assertIllegalArgumentException(() -> options.setWorkerPoolMaxQueueSize(0));
+    assertEquals(FileSystemOptions.DEFAULT_CLASS_PATH_RESOURCE_CACHE_SIZE, options.getClassPathResourceCacheSize());
+    assertEquals(FileSystemOptions.DEFAULT_CLASS_PATH_RESOURCE_MAX_SIZE, options.getClassPathResourceMaxSize());
+    assertIllegalArgumentException(() -> options.setClassPathResourceCacheSize(-1));
+    assertIllegalArgumentException(() -> options.setClassPathResourceMaxSize(-1));
+    assertEquals(FileSystemOptions.DEFAULT_FILE_HANDLE_CACHE_SIZE, options.getFileHandleCacheSize());
+    assertEquals(FileSystemOptions.DEFAULT_FILE_HANDLE_CACHE_CHECK_INTERVAL, options.getFileHandleCacheCheckInterval());
+    assertIllegalArgumentException(() -> options.setFileHandleCacheSize(-1));
+    assertIllegalArgumentException(() -> options.setFileHandleCacheCheckInterval(-1));
   }
 
   @Test
@@ -34,9 +58,21 @@ public class FileSystemOptionsTest extends VertxTestBase {
     boolean enabled = rand.nextBoolean();
     options.setFileCachingEnabled(enabled);
     options.setClassPathResolvingEnabled(enabled);
+    options.setWorkerPoolSize(4);
+    options.setWorkerPoolMaxQueueSize(100);
+    options.setClassPathResourceCacheSize(1024 * 1024);
+    options.setClassPathResourceMaxSize(1024);
+    options.setFileHandleCacheSize(64);
+    options.setFileHandleCacheCheckInterval(500);
     options = new FileSystemOptions(options);
     assertEquals(enabled, options.isClassPathResolvingEnabled());
     assertEquals(enabled, options.isFileCachingEnabled());
+    assertEquals(4, options.getWorkerPoolSize());
+    assertEquals(100, options.getWorkerPoolMaxQueueSize());
+    assertEquals(1024 * 1024, options.getClassPathResourceCacheSize());
+    assertEquals(1024, options.getClassPathResourceMaxSize());
+    assertEquals(64, options.getFileHandleCacheSize());
+    assertEquals(500, options.getFileHandleCacheCheckInterval());
   }
 
   @Test
@@ -58,5 +94,68 @@ public class FileSystemOptionsTest extends VertxTestBase {
     assertEquals(enabled, options.toJson().getBoolean("fileCachingEnabled"));
     assertEquals(enabled, options.isClassPathResolvingEnabled());
     assertEquals(enabled, options.toJson().getBoolean("classPathResolvingEnabled"));
+    options = new FileSystemOptions(new JsonObject().put("workerPoolSize", 4).put("workerPoolMaxQueueSize", 100));
+    assertEquals(4, options.getWorkerPoolSize());
+    assertEquals(100, options.getWorkerPoolMaxQueueSize());
+    assertEquals(4, (int) options.toJson().getInteger("workerPoolSize"));
+    assertEquals(100, (int) options.toJson().getInteger("workerPoolMaxQueueSize"));
+    options = new FileSystemOptions(new JsonObject().put("classPathResourceCacheSize", 1024 * 1024).put("classPathResourceMaxSize", 1024));
+    assertEquals(1024 * 1024, options.getClassPathResourceCacheSize());
+    assertEquals(1024, options.getClassPathResourceMaxSize());
+    assertEquals(1024 * 1024, (long) options.toJson().getLong("classPathResourceCacheSize"));
+    assertEquals(1024, (int) options.toJson().getInteger("classPathResourceMaxSize"));
+    options = new FileSystemOptions(new JsonObject().put("fileHandleCacheSize", 64).put("fileHandleCacheCheckInterval", 500));
+    assertEquals(64, options.getFileHandleCacheSize());
+    assertEquals(500, options.getFileHandleCacheCheckInterval());
+    assertEquals(64, (int) options.toJson().getInteger("fileHandleCacheSize"));
+    assertEquals(500, (long) options.toJson().getLong("fileHandleCacheCheckInterval"));
+  }
+
+  @Test
+  public void testFileHandleCache() throws Exception {
+    Vertx vertx = vertx(new VertxOptions().setFileSystemOptions(new FileSystemOptions().setFileHandleCacheSize(16)));
+    assertNotNull(((VertxInternal) vertx).getFileHandleCache());
+    File file = TestUtils.tmpFile(".dat");
+    Buffer content = TestUtils.randomBuffer(10_000);
+    vertx.fileSystem()
+      .writeFile(file.getAbsolutePath(), content)
+      .compose(v -> vertx.fileSystem().readFile(file.getAbsolutePath()))
+      .onComplete(onSuccess(buff -> {
+        assertEquals(content, buff);
+        assertEquals(1, ((VertxInternal) vertx).getFileHandleCache().size());
+        testComplete();
+      }));
+    await();
+  }
+
+  @Test
+  public void testClassPathResourceCache() throws Exception {
+    Vertx vertx = vertx(new VertxOptions().setFileSystemOptions(new FileSystemOptions().setClassPathResourceCacheSize(1024 * 1024)));
+    byte[] expected = Files.readAllBytes(Paths.get(getClass().getClassLoader().getResource("conf.json").toURI()));
+    vertx.fileSystem().readFile("conf.json").onComplete(onSuccess(buff -> {
+      assertEquals(Buffer.buffer(expected), buff);
+      // Served from memory, not unpacked to the file cache
+      String cacheDir = ((FileResolverImpl) ((VertxInternal) vertx).fileResolver()).cacheDir();
+      assertFalse(new File(cacheDir, "conf.json").exists());
+      testComplete();
+    }));
+    await();
+  }
+
+  @Test
+  public void testWorkerPool() throws Exception {
+    Vertx vertx = vertx(new VertxOptions().setFileSystemOptions(new FileSystemOptions().setWorkerPoolSize(2)));
+    assertNotNull(((VertxInternal) vertx).getFileSystemWorkerPool());
+    File file = TestUtils.tmpFile(".dat");
+    Buffer content = TestUtils.randomBuffer(10_000);
+    vertx.fileSystem()
+      .writeFile(file.getAbsolutePath(), content)
+      .compose(v -> vertx.fileSystem().open(file.getAbsolutePath(), new OpenOptions()))
+      .compose(f -> f.read(Buffer.buffer(), 0, 0, content.length()).eventually(f::close))
+      .onComplete(onSuccess(buff -> {
+        assertEquals(content, buff);
+        testComplete();
+      }));
+    await();
   }
 }
@@ -13,10 +13,12 @@ package io.vertx.core.file;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.util.IllegalReferenceCountException;
 import io.vertx.core.*;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.buffer.impl.BufferInternal;
 import io.vertx.core.file.impl.AsyncFileImpl;
+import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.Utils;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.streams.Pump;
@@ -32,9 +34,13 @@ import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ReadOnlyBufferException;
 import java.nio.channels.OverlappingFileLockException;
 import java.nio.file.*;
 import java.nio.file.attribute.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
@@ -1051,6 +1057,301 @@ public class FileSystemTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testMapFile() throws Exception {
+    byte[] content = TestUtils.randomByteArray(1000);
+    String fileName = "some-file.dat";
+    createFile(fileName, content);
+
+    vertx.fileSystem().mapFile(testDir + pathSep + fileName, 100, 500).onComplete(onSuccess(buff -> {
+      assertEquals(Buffer.buffer(content).getBuffer(100, 600), buff);
+      assertEquals(500, buff.length());
+      assertEquals(content[100], buff.getByte(0));
+      Buffer copy = buff.copy();
+      try {
+        buff.appendByte((byte) 0);
+        fail();
+      } catch (ReadOnlyBufferException ignore) {
+      }
+      assertTrue(buff.unmap());
+      assertTrue(buff.isUnmapped());
+      assertFalse(buff.unmap());
+      try {
+        buff.getByte(0);
+        fail();
+      } catch (IllegalReferenceCountException ignore) {
+      }
+      assertEquals(Buffer.buffer(content).getBuffer(100, 600), copy);
+      testComplete();
+    }));
+    await();
+  }
+
+  @Test
+  public void testMapFileInvalidRegion() throws Exception {
+    String fileName = "some-file.dat";
+    createFile(fileName, TestUtils.randomByteArray(1000));
+    vertx.fileSystem().mapFile(testDir + pathSep + fileName, 900, 200).onComplete(onFailure(err -> {
+      assertTrue(err instanceof FileSystemException);
+      testComplete();
+    }));
+    await();
+  }
+
+  @Test
+  public void testAppendLog() throws Exception {
+    String fileName = "some-file.log";
+    createFile(fileName, TestUtils.randomByteArray(10));
+    int num = 100;
+    Buffer expected = Buffer.buffer();
+    ContextInternal ctx = (ContextInternal) vertx.getOrCreateContext();
+    ctx.runOnContext(v1 -> {
+      vertx.fileSystem().openAppendLog(testDir + pathSep + fileName).onComplete(onSuccess(log -> {
+        // Hold the blocking tasks of the context so the first sync waits until all the records are appended
+        CountDownLatch latch = new CountDownLatch(1);
+        ctx.executeBlockingInternal(() -> {
+          latch.await(20, TimeUnit.SECONDS);
+          return null;
+        });
+        List<Future<Long>> appends = new ArrayList<>();
+        for (int i = 0;i < num;i++) {
+          Buffer record = TestUtils.randomBuffer(1 + i);
+          expected.appendBuffer(record);
+          appends.add(log.append(record));
+        }
+        assertEquals(10 + expected.length(), log.size());
+        latch.countDown();
+        Future.all(appends).onComplete(onSuccess(v2 -> {
+          long pos = 10;
+          for (int i = 0;i < num;i++) {
+            assertEquals(pos, (long) appends.get(i).result());
+            pos += 1 + i;
+          }
+          // The first record is synced alone, the records appended meanwhile are synced together
+          assertEquals(2, log.fsyncCount());
+          assertTrue(log.maxFsyncTime() <= log.fsyncTime());
+          log.close().onComplete(onSuccess(v3 -> {
+            Buffer content = vertx.fileSystem().readFileBlocking(testDir + pathSep + fileName);
+            assertEquals(expected, content.getBuffer(10, content.length()));
+            log.append(Buffer.buffer("closed")).onComplete(onFailure(err -> testComplete()));
+          }));
+        }));
+      }));
+    });
+    await();
+  }
+
+  @Test
+  public void testAppendLogMaxLatency() throws Exception {
+    AppendLog log = vertx.fileSystem().openAppendLogBlocking(testDir + pathSep + "some-file.log");
+    log.setMaxLatency(100);
+    List<Future<Long>> appends = new ArrayList<>();
+    for (int i = 0;i < 10;i++) {
+      appends.add(log.append(Buffer.buffer("record-" + i)));
+    }
+    Future.all(appends).onComplete(onSuccess(v -> {
+      assertEquals(1, log.fsyncCount());
+      log.close().onComplete(onSuccess(v2 -> testComplete()));
+    }));
+    await();
+  }
+
+  @Test
+  public void testWatchDirectory() throws Exception {
+    String dir = testDir + pathSep + "watched";
+    Files.createDirectory(Paths.get(dir));
+    vertx.fileSystem().watch(dir, new FileWatchOptions().setCoalescingDelay(0)).onComplete(onSuccess(watcher -> {
+      List<FileChangeType> changes = new ArrayList<>();
+      watcher.handler(event -> {
+        assertEquals(dir + pathSep + "some-file.dat", event.path());
+        changes.add(event.type());
+        switch (event.type()) {
+          case CREATED:
+            vertx.fileSystem().delete(event.path());
+            break;
+          case DELETED:
+            watcher.close();
+            break;
+        }
+      });
+      watcher.endHandler(v -> {
+        assertEquals(FileChangeType.CREATED, changes.get(0));
+        assertEquals(FileChangeType.DELETED, changes.get(changes.size() - 1));
+        testComplete();
+      });
+      vertx.fileSystem().createFile(dir + pathSep + "some-file.dat");
+    }));
+    await();
+  }
+
+  @Test
+  public void testWatchFile() throws Exception {
+    createFile("some-file.dat", TestUtils.randomByteArray(10));
+    createFile("other-file.dat", TestUtils.randomByteArray(10));
+    String path = testDir + pathSep + "some-file.dat";
+    vertx.fileSystem().watch(path, new FileWatchOptions()).onComplete(onSuccess(watcher -> {
+      watcher.handler(event -> {
+        assertEquals(FileChangeType.MODIFIED, event.type());
+        assertEquals(path, event.path());
+        watcher.close().onComplete(onSuccess(v -> testComplete()));
+      });
+      vertx.fileSystem()
+        .writeFile(testDir + pathSep + "other-file.dat", Buffer.buffer("other"))
+        .compose(v -> vertx.fileSystem().writeFile(path, Buffer.buffer("changed")));
+    }));
+    await();
+  }
+
+  @Test
+  public void testWatchRecursive() throws Exception {
+    String dir = testDir + pathSep + "watched";
+    Files.createDirectories(Paths.get(dir, "sub"));
+    String file = dir + pathSep + "sub" + pathSep + "created" + pathSep + "some-file.dat";
+    vertx.fileSystem().watch(dir, new FileWatchOptions().setRecursive(true)).onComplete(onSuccess(watcher -> {
+      watcher.handler(event -> {
+        if (event.path().equals(file)) {
+          assertEquals(FileChangeType.CREATED, event.type());
+          watcher.close().onComplete(onSuccess(v -> testComplete()));
+        }
+      });
+      vertx.fileSystem()
+        .mkdir(dir + pathSep + "sub" + pathSep + "created")
+        .compose(v -> vertx.fileSystem().createFile(file));
+    }));
+    await();
+  }
+
+  @Test
+  public void testWatchCoalescing() throws Exception {
+    String dir = testDir + pathSep + "watched";
+    Files.createDirectory(Paths.get(dir));
+    vertx.fileSystem().watch(dir, new FileWatchOptions().setCoalescingDelay(500)).onComplete(onSuccess(watcher -> {
+      List<FileChangeEvent> events = new ArrayList<>();
+      watcher.handler(event -> {
+        events.add(event);
+        if (events.size() == 1) {
+          // Any further event would be a coalescing failure
+          vertx.setTimer(1000, id -> {
+            assertEquals(1, events.size());
+            assertEquals(FileChangeType.CREATED, event.type());
+            assertEquals(dir + pathSep + "written.dat", event.path());
+            watcher.close().onComplete(onSuccess(v -> testComplete()));
+          });
+        }
+      });
+      Path deleted = Paths.get(dir, "deleted.dat");
+      Path written = Paths.get(dir, "written.dat");
+      vertx.executeBlocking(() -> {
+        Files.write(deleted, new byte[10]);
+        Files.delete(deleted);
+        for (int i = 0;i < 10;i++) {
+          Files.write(written, TestUtils.randomByteArray(10), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        return null;
+      });
+    }));
+    await();
+  }
+
+  @Test
+  public void testWatchMissingFile() {
+    vertx.fileSystem().watch(testDir + pathSep + "missing", new FileWatchOptions()).onComplete(onFailure(err -> {
+      assertTrue(err instanceof FileSystemException);
+      assertTrue(err.getCause() instanceof NoSuchFileException);
+      testComplete();
+    }));
+    await();
+  }
+
+  private Set<String> createTree(String dir, int depth, int width) throws Exception {
+    Set<String> paths = new HashSet<>();
+    Files.createDirectories(Paths.get(dir));
+    for (int i = 0;i < width;i++) {
+      Path file = Paths.get(dir, "file-" + i + ".dat");
+      Files.write(file, TestUtils.randomByteArray(i));
+      paths.add(file.toString());
+      if (depth > 1) {
+        String sub = dir + pathSep + "dir-" + i;
+        paths.add(sub);
+        paths.addAll(createTree(sub, depth - 1, width));
+      }
+    }
+    return paths;
+  }
+
+  @Test
+  public void testWalk() throws Exception {
+    String root = testDir + pathSep + "root";
+    Set<String> expected = createTree(root, 3, 5);
+    Set<String> paths = new HashSet<>();
+    ReadStream<FileEntry> stream = vertx.fileSystem().walk(root, new FileWalkOptions().setBatchSize(7));
+    stream.endHandler(v -> {
+      assertEquals(expected, paths);
+      testComplete();
+    });
+    stream.exceptionHandler(this::fail);
+    stream.handler(entry -> {
+      assertTrue(paths.add(entry.path()));
+      Path path = Paths.get(entry.path());
+      assertEquals(Files.isDirectory(path), entry.props().isDirectory());
+      if (!entry.props().isDirectory()) {
+        assertEquals(path.toFile().length(), entry.props().size());
+      }
+    });
+    await();
+  }
+
+  @Test
+  public void testWalkMaxDepthAndFilter() throws Exception {
+    String root = testDir + pathSep + "root";
+    createTree(root, 3, 3);
+    Set<String> paths = new HashSet<>();
+    ReadStream<FileEntry> stream = vertx.fileSystem().walk(root, new FileWalkOptions().setMaxDepth(2).setFilter("file-1\\.dat"));
+    stream.endHandler(v -> {
+      Set<String> expected = new HashSet<>();
+      expected.add(root + pathSep + "file-1.dat");
+      for (int i = 0;i < 3;i++) {
+        expected.add(root + pathSep + "dir-" + i + pathSep + "file-1.dat");
+      }
+      assertEquals(expected, paths);
+      testComplete();
+    });
+    stream.handler(entry -> paths.add(entry.path()));
+    await();
+  }
+
+  @Test
+  public void testWalkFetch() throws Exception {
+    String root = testDir + pathSep + "root";
+    Set<String> expected = createTree(root, 2, 20);
+    Set<String> paths = new HashSet<>();
+    ReadStream<FileEntry> stream = vertx.fileSystem().walk(root, new FileWalkOptions().setBatchSize(4));
+    stream.pause();
+    stream.endHandler(v -> {
+      assertEquals(expected, paths);
+      testComplete();
+    });
+    stream.handler(entry -> {
+      paths.add(entry.path());
+      vertx.runOnContext(v -> stream.fetch(1));
+    });
+    stream.fetch(1);
+    await();
+  }
+
+  @Test
+  public void testWalkMissingDirectory() {
+    ReadStream<FileEntry> stream = vertx.fileSystem().walk(testDir + pathSep + "missing", new FileWalkOptions());
+    stream.exceptionHandler(err -> {
+      assertTrue(err instanceof FileSystemException);
+      assertTrue(err.getCause() instanceof NoSuchFileException);
+      testComplete();
+    });
+    stream.endHandler(v -> fail());
+    stream.handler(entry -> fail());
+    await();
+  }
+
   @Test
   public void testWriteFile() {
     byte[] content = TestUtils.randomByteArray(1000);
@@ -1161,6 +1462,61 @@ public class FileSystemTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testReadVectored() throws Exception {
+    String fileName = "some-file.dat";
+    byte[] content = TestUtils.randomByteArray(64 * 1024);
+    Buffer expected = Buffer.buffer(content);
+    createFile(fileName, content);
+    List<FileRange> ranges = Arrays.asList(
+      new FileRange(32 * 1024, 1000),
+      new FileRange(0, 100),
+      new FileRange(100, 200),
+      new FileRange(150, 300),
+      new FileRange(1000, 0),
+      new FileRange(2000, 40 * 1024),
+      new FileRange(60 * 1024, 8 * 1024),
+      new FileRange(128 * 1024, 100));
+    vertx.fileSystem().open(testDir + pathSep + fileName, new OpenOptions()).onComplete(onSuccess(file -> {
+      file.readVectored(ranges).onComplete(onSuccess(buffers -> {
+        assertEquals(ranges.size(), buffers.size());
+        for (int i = 0;i < ranges.size();i++) {
+          FileRange range = ranges.get(i);
+          int start = (int) Math.min(range.getPosition(), content.length);
+          int end = (int) Math.min(range.getPosition() + range.getLength(), content.length);
+          assertEquals(expected.getBuffer(start, end), buffers.get(i));
+        }
+        file.close().onComplete(onSuccess(v -> testComplete()));
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testReadVectoredNoRanges() throws Exception {
+    String fileName = "some-file.dat";
+    createFile(fileName, TestUtils.randomByteArray(100));
+    vertx.fileSystem().open(testDir + pathSep + fileName, new OpenOptions()).onComplete(onSuccess(file -> {
+      file.readVectored(new ArrayList<>()).onComplete(onSuccess(buffers -> {
+        assertTrue(buffers.isEmpty());
+        testComplete();
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testReadVectoredClosedFile() throws Exception {
+    String fileName = "some-file.dat";
+    createFile(fileName, TestUtils.randomByteArray(100));
+    AsyncFile file = vertx.fileSystem().openBlocking(testDir + pathSep + fileName, new OpenOptions());
+    file.close().onComplete(onSuccess(v -> {
+      assertIllegalStateException(() -> file.readVectored(Collections.singletonList(new FileRange(0, 10))));
+      testComplete();
+    }));
+    await();
+  }
+
   @Test
   public void testWriteStream() {
     String fileName = "some-file.dat";
@@ -1322,10 +1678,29 @@ public class FileSystemTest extends VertxTestBase {
     testReadStream(ReadStrategy.FETCH);
   }
 
+  @Test
+  public void testReadStreamReadAhead() throws Exception {
+    testReadStream(ReadStrategy.NONE, 4);
+  }
+
+  @Test
+  public void testReadStreamReadAheadFlowing() throws Exception {
+    testReadStream(ReadStrategy.FLOWING, 4);
+  }
+
+  @Test
+  public void testReadStreamReadAheadFetch() throws Exception {
+    testReadStream(ReadStrategy.FETCH, 4);
+  }
+
   private void testReadStream(ReadStrategy strategy) throws Exception {
+    testReadStream(strategy, 1);
+  }
+
+  private void testReadStream(ReadStrategy strategy, int readAhead) throws Exception {
     String fileName = "some-file.dat";
     int chunkSize = 1000;
-    int chunks = 10;
+    int chunks = readAhead > 1 ? 1000 : 10;
     byte[] content = TestUtils.randomByteArray(chunkSize * chunks);
     createFile(fileName, content);
     vertx.fileSystem().open(testDir + pathSep + fileName, new OpenOptions()).onComplete(onSuccess(rs -> {
@@ -1340,6 +1715,9 @@ public class FileSystemTest extends VertxTestBase {
           }));
         }
       };
+      if (readAhead > 1) {
+        rs.setReadBufferSize(chunkSize).setReadAhead(readAhead);
+      }
       strategy.init(rs);
       rs.handler(chunk -> {
         buff.appendBuffer(chunk);
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.file.impl;
+
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+public class ClassPathResourceCacheTest extends VertxTestBase {
+
+  @Rule
+  public TemporaryFolder testFolder = new TemporaryFolder();
+
+  private File createJar(String... entries) throws IOException {
+    File jar = testFolder.newFile();
+    try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+      for (int i = 0;i < entries.length;i += 2) {
+        out.putNextEntry(new JarEntry(entries[i]));
+        out.write(entries[i + 1].getBytes());
+        out.closeEntry();
+      }
+    }
+    return jar;
+  }
+
+  private File createDir(String name, String content) throws IOException {
+    File dir = testFolder.newFolder();
+    File file = new File(dir, name);
+    assertTrue(file.getParentFile().mkdirs() || file.getParentFile().isDirectory());
+    Files.write(file.toPath(), content.getBytes());
+    return dir;
+  }
+
+  private static String classPath(File... elements) {
+    StringBuilder sb = new StringBuilder();
+    for (File element : elements) {
+      if (sb.length() > 0) {
+        sb.append(File.pathSeparator);
+      }
+      sb.append(element.getAbsolutePath());
+    }
+    return sb.toString();
+  }
+
+  @Test
+  public void testResolveFromJar() throws Exception {
+    File jar1 = createJar("webroot/index.html", "first", "webroot/other.html", "other");
+    File jar2 = createJar("webroot/index.html", "second");
+    ClassPathResourceCache cache = new ClassPathResourceCache(classPath(jar1, jar2), 1024, 1024);
+    try {
+      assertEquals("first", new String(cache.get("webroot/index.html")));
+      assertEquals("other", new String(cache.get("webroot/other.html")));
+      assertNull(cache.get("webroot/missing.html"));
+      assertNull(cache.get("webroot"));
+      assertEquals(10, cache.size());
+    } finally {
+      cache.close();
+    }
+  }
+
+  @Test
+  public void testResolveClassPathOrder() throws Exception {
+    File dir1 = createDir("webroot/index.html", "dir1");
+    File jar = createJar("webroot/index.html", "jar", "webroot/other.html", "jar");
+    File dir2 = createDir("webroot/other.html", "dir2");
+    ClassPathResourceCache cache = new ClassPathResourceCache(classPath(dir1, jar, dir2), 1024, 1024);
+    try {
+      assertEquals("dir1", new String(cache.get("webroot/index.html")));
+      assertEquals("jar", new String(cache.get("webroot/other.html")));
+      assertNull(cache.get("../webroot/index.html"));
+    } finally {
+      cache.close();
+    }
+  }
+
+  @Test
+  public void testMaxResourceSize() throws Exception {
+    File jar = createJar("small.txt", "0123", "large.txt", "0123456789");
+    ClassPathResourceCache cache = new ClassPathResourceCache(classPath(jar), 1024, 4);
+    try {
+      assertEquals("0123", new String(cache.get("small.txt")));
+      assertNull(cache.get("large.txt"));
+    } finally {
+      cache.close();
+    }
+  }
+
+  @Test
+  public void testEviction() throws Exception {
+    File jar = createJar("a.txt", "aaaa", "b.txt", "bbbb", "c.txt", "cccc");
+    ClassPathResourceCache cache = new ClassPathResourceCache(classPath(jar), 8, 8);
+    try {
+      cache.get("a.txt");
+      cache.get("b.txt");
+      assertEquals(8, cache.size());
+      // a.txt becomes the most recently used
+      cache.get("a.txt");
+      cache.get("c.txt");
+      assertEquals(8, cache.size());
+      assertEquals("aaaa", new String(cache.get("a.txt")));
+      assertEquals(8, cache.size());
+    } finally {
+      cache.close();
+    }
+  }
+}
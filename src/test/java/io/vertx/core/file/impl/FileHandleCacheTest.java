@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.file.impl;
+
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+
+public class FileHandleCacheTest extends VertxTestBase {
+
+  @Rule
+  public TemporaryFolder testFolder = new TemporaryFolder();
+
+  private File createFile(String content) throws IOException {
+    File file = testFolder.newFile();
+    Files.write(file.toPath(), content.getBytes());
+    return file;
+  }
+
+  @Test
+  public void testShareHandle() throws Exception {
+    File file = createFile("hello");
+    FileHandleCache cache = new FileHandleCache(4, 60_000);
+    FileHandleCache.FileHandle handle1 = cache.acquire(file);
+    FileHandleCache.FileHandle handle2 = cache.acquire(file);
+    assertSame(handle1, handle2);
+    assertEquals(5, handle1.length());
+    assertEquals("hello", new String(handle1.readAll()));
+    handle1.release();
+    handle2.release();
+    // Still cached
+    assertTrue(handle1.channel().isOpen());
+    assertEquals(1, cache.size());
+    cache.close();
+    assertFalse(handle1.channel().isOpen());
+  }
+
+  @Test
+  public void testInvalidateModifiedFile() throws Exception {
+    File file = createFile("hello");
+    FileHandleCache cache = new FileHandleCache(4, 0);
+    FileHandleCache.FileHandle handle1 = cache.acquire(file);
+    Files.write(file.toPath(), "hello world".getBytes());
+    FileHandleCache.FileHandle handle2 = cache.acquire(file);
+    assertNotSame(handle1, handle2);
+    assertEquals("hello world", new String(handle2.readAll()));
+    // The evicted handle is still usable until released
+    assertTrue(handle1.channel().isOpen());
+    handle1.release();
+    assertFalse(handle1.channel().isOpen());
+    handle2.release();
+    cache.close();
+  }
+
+  @Test
+  public void testEviction() throws Exception {
+    File file1 = createFile("1");
+    File file2 = createFile("2");
+    FileHandleCache cache = new FileHandleCache(1, 60_000);
+    FileHandleCache.FileHandle handle1 = cache.acquire(file1);
+    handle1.release();
+    FileHandleCache.FileHandle handle2 = cache.acquire(file2);
+    handle2.release();
+    assertEquals(1, cache.size());
+    assertFalse(handle1.channel().isOpen());
+    assertTrue(handle2.channel().isOpen());
+    cache.close();
+  }
+
+  @Test
+  public void testMissingFile() throws Exception {
+    FileHandleCache cache = new FileHandleCache(4, 60_000);
+    try {
+      cache.acquire(new File(testFolder.getRoot(), "missing"));
+      fail();
+    } catch (FileNotFoundException expected) {
+    }
+    try {
+      cache.acquire(testFolder.newFolder());
+      fail();
+    } catch (FileNotFoundException expected) {
+    }
+    assertEquals(0, cache.size());
+    cache.close();
+  }
+}
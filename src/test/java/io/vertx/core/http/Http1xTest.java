@@ -11,6 +11,7 @@
 
 package io.vertx.core.http;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.EventLoop;
@@ -19,6 +20,11 @@ import io.netty.handler.codec.http.TooLongHttpHeaderException;
 import io.vertx.core.*;
 import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.PooledBuffer;
+import io.vertx.core.buffer.impl.BufferImpl;
+import io.vertx.core.file.FileSystemOptions;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.core.file.impl.FileHandleCache;
 import io.vertx.core.http.impl.Http1xOrH2CHandler;
 import io.vertx.core.http.impl.Http1xServerConnection;
 import io.vertx.core.http.impl.Http1xUpgradeToH2CHandler;
@@ -398,6 +404,15 @@ public class Http1xTest extends HttpTest {
     assertEquals(256, options.getDecoderInitialBufferSize());
     assertIllegalArgumentException(() -> options.setDecoderInitialBufferSize(-1));
 
+    assertEquals(HttpServerOptions.DEFAULT_SEND_FILE_CACHE_SIZE, options.getSendFileCacheSize());
+    assertEquals(options, options.setSendFileCacheSize(1024 * 1024));
+    assertEquals(1024 * 1024, options.getSendFileCacheSize());
+    assertIllegalArgumentException(() -> options.setSendFileCacheSize(-1));
+
+    assertEquals(HttpServerOptions.DEFAULT_SEND_FILE_CACHE_MAX_FILE_SIZE, options.getSendFileCacheMaxFileSize());
+    assertEquals(options, options.setSendFileCacheMaxFileSize(4096));
+    assertEquals(4096, options.getSendFileCacheMaxFileSize());
+    assertIllegalArgumentException(() -> options.setSendFileCacheMaxFileSize(-1));
   }
 
   @Test
@@ -841,6 +856,8 @@ public class Http1xTest extends HttpTest {
     assertEquals(def.isDecompressionSupported(), json.isDecompressionSupported());
     assertEquals(def.isAcceptUnmaskedFrames(), json.isAcceptUnmaskedFrames());
     assertEquals(def.getDecoderInitialBufferSize(), json.getDecoderInitialBufferSize());
+    assertEquals(def.getSendFileCacheSize(), json.getSendFileCacheSize());
+    assertEquals(def.getSendFileCacheMaxFileSize(), json.getSendFileCacheMaxFileSize());
   }
 
   @Test
@@ -3958,6 +3975,34 @@ public class Http1xTest extends HttpTest {
     await();
   }
 
+  @Test
+  public void testPooledWriteReleasedWhenClientClosesConnection() throws Exception {
+    Buffer chunk = TestUtils.randomBuffer(1024);
+    Promise<Void> queued = Promise.promise();
+    server.requestHandler(req -> {
+      HttpServerResponse resp = req.response().setChunked(true);
+      while (!resp.writeQueueFull()) {
+        resp.write(chunk);
+      }
+      PooledBuffer pooled = Buffer.pooled(1024);
+      pooled.appendBuffer(chunk);
+      ByteBuf buf = ((BufferImpl) pooled).byteBuf();
+      resp.write(pooled).onComplete(onFailure(err -> {
+        // The write was still queued when the connection closed
+        assertEquals(0, buf.refCnt());
+        testComplete();
+      }));
+      queued.complete();
+    });
+    startServer(testAddress);
+    vertx.createNetClient(new NetClientOptions().setSoLinger(0)).connect(testAddress).onComplete(onSuccess(socket -> {
+      socket.pause();
+      socket.write("GET / HTTP/1.1\r\n\r\n");
+      queued.future().onComplete(onSuccess(v -> socket.close()));
+    }));
+    await();
+  }
+
   // Use a raw socket to check the body response is effectively empty (it could be an empty chunk)
   protected MultiMap checkEmptyHttpResponse(HttpMethod method, int sc, MultiMap reqHeaders) throws Exception {
     server.requestHandler(req -> {
@@ -5077,6 +5122,40 @@ public class Http1xTest extends HttpTest {
     await();
   }
 
+  @Test
+  public void testPipeFileToResponse() throws Exception {
+    testPipeFileToResponse(false);
+  }
+
+  @Test
+  public void testPipeFileToChunkedResponse() throws Exception {
+    testPipeFileToResponse(true);
+  }
+
+  private void testPipeFileToResponse(boolean chunked) throws Exception {
+    Buffer content = TestUtils.randomBuffer(100_000);
+    File file = TestUtils.tmpFile(".dat");
+    vertx.fileSystem().writeFileBlocking(file.getAbsolutePath(), content);
+    server.requestHandler(req -> {
+      req.response().setChunked(chunked);
+      vertx.fileSystem().open(file.getAbsolutePath(), new OpenOptions().setWrite(false)).onComplete(onSuccess(f -> {
+        f.setReadPos(1000).setReadLength(50_000);
+        f.pipeTo(req.response()).onComplete(onSuccess(v -> f.close()));
+      }));
+    });
+    startServer(testAddress);
+    client.request(requestOptions)
+      .compose(req -> req.send().compose(resp -> {
+        assertEquals(chunked ? null : "50000", resp.getHeader(HttpHeaders.CONTENT_LENGTH));
+        return resp.body();
+      }))
+      .onComplete(onSuccess(body -> {
+        assertEquals(content.getBuffer(1000, 51_000), body);
+        testComplete();
+      }));
+    await();
+  }
+
   @Test
   public void testSendFileWithConnectionCloseHeader() throws Exception {
     String content = TestUtils.randomUnicodeString(1024 * 1024 * 2);
@@ -5084,6 +5163,68 @@ public class Http1xTest extends HttpTest {
       () -> client.request(requestOptions).map(req -> req.putHeader(HttpHeaders.CONNECTION, "close")));
   }
 
+  @Test
+  public void testSendFileWithSendFileCache() throws Exception {
+    String content = TestUtils.randomAlphaString(1024);
+    File fileToSend = setupFile("test-send-file.html", content);
+    server.close();
+    server = vertx.createHttpServer(createBaseServerOptions().setSendFileCacheSize(1024 * 1024));
+    server.requestHandler(req -> req.response().sendFile(fileToSend.getAbsolutePath()));
+    startServer(testAddress);
+    AtomicReference<String> etag = new AtomicReference<>();
+    client.request(requestOptions)
+      .compose(req -> req.send().compose(resp -> {
+        assertEquals(200, resp.statusCode());
+        assertEquals("text/html", resp.getHeader(HttpHeaders.CONTENT_TYPE));
+        assertEquals(String.valueOf(fileToSend.length()), resp.getHeader(HttpHeaders.CONTENT_LENGTH));
+        assertNotNull(resp.getHeader(HttpHeaders.LAST_MODIFIED));
+        etag.set(resp.getHeader(HttpHeaders.ETAG));
+        assertNotNull(etag.get());
+        return resp.body();
+      }))
+      .compose(body -> {
+        assertEquals(content, body.toString());
+        return client.request(requestOptions).compose(req -> req.send().compose(resp -> {
+          assertEquals(etag.get(), resp.getHeader(HttpHeaders.ETAG));
+          return resp.body();
+        }));
+      })
+      .onComplete(onSuccess(body -> {
+        assertEquals(content, body.toString());
+        testComplete();
+      }));
+    await();
+  }
+
+  @Test
+  public void testSendFileReleasesFileHandleWhenHeadersFail() throws Exception {
+    Vertx vx = vertx(new VertxOptions().setFileSystemOptions(new FileSystemOptions().setFileHandleCacheSize(16)));
+    FileHandleCache cache = ((VertxInternal) vx).getFileHandleCache();
+    File fileToSend = setupFile("test-send-file.html", TestUtils.randomAlphaString(1024));
+    FileHandleCache.FileHandle handle = cache.acquire(fileToSend);
+    handle.release();
+    server.close();
+    server = vx.createHttpServer(createBaseServerOptions());
+    server.requestHandler(req -> {
+      HttpServerResponse resp = req.response();
+      resp.headersEndHandler(v -> {
+        throw new IllegalStateException();
+      });
+      try {
+        resp.sendFile(fileToSend.getAbsolutePath());
+        fail();
+      } catch (IllegalStateException expected) {
+      }
+      // The cache holds the only reference of the handle
+      cache.close();
+      assertFalse(handle.channel().isOpen());
+      testComplete();
+    });
+    startServer(testAddress, vx.getOrCreateContext());
+    client.request(requestOptions).compose(HttpClientRequest::send);
+    await();
+  }
+
   @Test
   public void testResponseEndHandlersConnectionClose() throws Exception {
     waitFor(2);
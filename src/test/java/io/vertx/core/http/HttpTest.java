@@ -30,6 +30,7 @@ import io.vertx.core.VertxException;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.dns.AddressResolverOptions;
+import io.vertx.core.file.FileSystemOptions;
 import io.vertx.core.http.impl.CleanableHttpClient;
 import io.vertx.core.http.impl.HttpClientImpl;
 import io.vertx.core.http.impl.HttpServerRequestInternal;
@@ -2003,6 +2004,29 @@ public abstract class HttpTest extends HttpTestBase {
       () -> client.request(requestOptions));
   }
 
+  @Test
+  public void testSendFileWithFileHandleCache() throws Exception {
+    Vertx vx = vertx(new VertxOptions().setFileSystemOptions(new FileSystemOptions().setFileHandleCacheSize(16)));
+    String content = TestUtils.randomUnicodeString(10000);
+    File fileToSend = setupFile("test-send-file.html", content);
+    server = vx.createHttpServer(createBaseServerOptions());
+    server.requestHandler(req -> req.response().sendFile(fileToSend.getAbsolutePath()));
+    startServer(testAddress, vx.getOrCreateContext());
+    client.request(requestOptions)
+      .compose(req -> req.send().compose(HttpClientResponse::body))
+      .compose(body -> {
+        assertEquals(content, body.toString());
+        return client.request(requestOptions).compose(req -> req.send().compose(HttpClientResponse::body));
+      })
+      .onComplete(onSuccess(body -> {
+        assertEquals(content, body.toString());
+        // Both responses used the same handle
+        assertEquals(1, ((VertxInternal) vx).getFileHandleCache().size());
+        testComplete();
+      }));
+    await();
+  }
+
   protected void sendFile(String fileName, String contentExpected, boolean useHandler, Supplier<Future<HttpClientRequest>> requestFact) throws Exception {
     waitFor(2);
     File fileToSend = setupFile(fileName, contentExpected);
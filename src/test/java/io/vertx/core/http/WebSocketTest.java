@@ -1654,6 +1654,41 @@ public class WebSocketTest extends VertxTestBase {
     assertEquals("Incorrect received messages", expectedMessages, receivedMessages);
   }
 
+  @Test
+  public void testGroupBroadcast() throws InterruptedException {
+    String text = randomAlphaString(100);
+    Buffer binary = TestUtils.randomBuffer(1000);
+    int numMembers = 3;
+    waitFor(numMembers * 2 + 1);
+    WebSocketGroup group = WebSocketGroup.create(vertx);
+    server = vertx.createHttpServer(new HttpServerOptions().setPort(DEFAULT_HTTP_PORT)).webSocketHandler(ws -> {
+      group.add(ws);
+      if (group.size() == numMembers) {
+        group.writeTextMessage(text)
+          .compose(v -> group.writeBinaryMessage(binary))
+          .onComplete(onSuccess(v -> complete()));
+      }
+    });
+    awaitFuture(server.listen());
+    client = vertx.createWebSocketClient();
+    WebSocketClient compressingClient = vertx.createWebSocketClient(new WebSocketClientOptions().setTryUsePerMessageCompression(true));
+    for (int i = 0;i < numMembers;i++) {
+      WebSocketClient c = i == 0 ? compressingClient : client;
+      c.connect(DEFAULT_HTTP_PORT, DEFAULT_HTTP_HOST, "/").onComplete(onSuccess(ws -> {
+        ws.textMessageHandler(msg -> {
+          assertEquals(text, msg);
+          complete();
+        });
+        ws.binaryMessageHandler(msg -> {
+          assertEquals(binary, msg);
+          complete();
+        });
+      }));
+    }
+    await();
+    compressingClient.close();
+  }
+
   private void testWriteSingleTextMessage(String messageToSend, WebsocketVersion version) throws InterruptedException {
     List<String> messagesToSend = Collections.singletonList(messageToSend);
     SocketMessages socketMessages = testWriteTextMessages(messagesToSend, version);
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.*;
+
+public class SendFileCacheTest {
+
+  @Rule
+  public TemporaryFolder testFolder = new TemporaryFolder();
+
+  private File createFile(String name, String content) throws IOException {
+    File file = testFolder.newFile(name);
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+
+  @Test
+  public void testCacheFile() throws Exception {
+    File file = createFile("index.html", "hello");
+    SendFileCache cache = new SendFileCache(1024, 1024);
+    SendFileCache.Entry entry1 = cache.get(file);
+    assertNotNull(entry1);
+    assertEquals(5, entry1.length);
+    assertEquals("text/html", entry1.contentType.toString());
+    assertNotNull(entry1.etag);
+    assertNotNull(entry1.lastModified);
+    assertEquals("hello", entry1.content.toString(StandardCharsets.UTF_8));
+    SendFileCache.Entry entry2 = cache.get(file);
+    assertEquals(entry1.etag, entry2.etag);
+    assertEquals(5, cache.size());
+    entry1.content.release();
+    entry2.content.release();
+    cache.close();
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testGetIfChecked() throws Exception {
+    File file = createFile("index.html", "hello");
+    SendFileCache cache = new SendFileCache(1024, 1024);
+    // Not loaded yet
+    assertNull(cache.getIfChecked(file));
+    cache.get(file).content.release();
+    SendFileCache.Entry entry = cache.getIfChecked(file);
+    assertNotNull(entry);
+    assertEquals("hello", entry.content.toString(StandardCharsets.UTF_8));
+    entry.content.release();
+    cache.close();
+  }
+
+  @Test
+  public void testFileTooLarge() throws Exception {
+    File file = createFile("large.txt", "hello world");
+    SendFileCache cache = new SendFileCache(1024, 4);
+    assertNull(cache.get(file));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testMissingFile() {
+    SendFileCache cache = new SendFileCache(1024, 1024);
+    assertNull(cache.get(new File(testFolder.getRoot(), "missing.txt")));
+    assertNull(cache.get(testFolder.getRoot()));
+  }
+
+  @Test
+  public void testEviction() throws Exception {
+    File file1 = createFile("file1.txt", "0123456789");
+    File file2 = createFile("file2.txt", "0123456789");
+    SendFileCache cache = new SendFileCache(16, 16);
+    SendFileCache.Entry entry1 = cache.get(file1);
+    assertEquals(10, cache.size());
+    SendFileCache.Entry entry2 = cache.get(file2);
+    assertEquals(10, cache.size());
+    // The evicted content remains valid until released
+    assertEquals("0123456789", entry1.content.toString(StandardCharsets.UTF_8));
+    entry1.content.release();
+    entry2.content.release();
+    cache.close();
+  }
+}
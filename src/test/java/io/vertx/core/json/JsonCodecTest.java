@@ -97,6 +97,23 @@ public class JsonCodecTest {
     assertEquals(expected, json);
   }
 
+  @Test
+  public void testAppendToBuffer() {
+    JsonObject jsonObject = new JsonObject()
+      .put("mystr", "foo")
+      .put("myarr", new JsonArray().add("foo").add(123))
+      .put("myobj", new JsonObject().put("foo", TestUtils.randomAlphaString(1000)));
+    Buffer buffer = Buffer.buffer("prefix");
+    mapper.appendToBuffer(jsonObject, false, buffer);
+    assertEquals("prefix" + mapper.toString(jsonObject), buffer.toString());
+    assertEquals(jsonObject.toBuffer(), mapper.toBuffer(jsonObject));
+    buffer = Buffer.buffer();
+    jsonObject.writeToBuffer(buffer);
+    JsonObject read = new JsonObject();
+    assertEquals(buffer.length(), read.readFromBuffer(0, buffer));
+    assertEquals(jsonObject, read);
+  }
+
   @Test
   public void testEncodeJsonArray() {
     JsonArray jsonArray = new JsonArray();
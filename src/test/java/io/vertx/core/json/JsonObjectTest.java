@@ -12,6 +12,7 @@
 package io.vertx.core.json;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.impl.CompactJsonMap;
 import io.vertx.core.shareddata.Shareable;
 import io.vertx.test.core.TestUtils;
 import org.junit.Before;
@@ -1973,4 +1974,144 @@ public class JsonObjectTest {
   public void testJsonObjectOfEmpty() {
     assertEquals(new JsonObject(), JsonObject.of());
   }
+
+  @Test
+  public void testCompactMap() {
+    JsonObject obj = new JsonObject(new CompactJsonMap());
+    for (int i = 0;i < CompactJsonMap.MAX_COMPACT_SIZE;i++) {
+      obj.put("key" + i, i);
+    }
+    obj.put("key3", "three");
+    assertEquals(CompactJsonMap.MAX_COMPACT_SIZE, obj.size());
+    assertEquals("three", obj.getString("key3"));
+    assertEquals(Arrays.asList("key0", "key1", "key2", "key3", "key4", "key5", "key6", "key7"), new ArrayList<>(obj.fieldNames()));
+    JsonObject expected = new JsonObject();
+    obj.forEach(entry -> expected.put(entry.getKey(), entry.getValue()));
+    assertEquals(expected, obj);
+    assertEquals(expected.hashCode(), obj.hashCode());
+    assertEquals(2, obj.remove("key2"));
+    assertNull(obj.remove("key2"));
+    Iterator<Map.Entry<String, Object>> it = obj.iterator();
+    assertEquals("key0", it.next().getKey());
+    it.remove();
+    assertEquals("key1", it.next().getKey());
+    assertEquals(Arrays.asList("key1", "key3", "key4", "key5", "key6", "key7"), new ArrayList<>(obj.fieldNames()));
+    JsonObject copy = obj.copy();
+    assertTrue(copy.getMap() instanceof CompactJsonMap);
+    assertEquals(obj, copy);
+    try {
+      for (Map.Entry<String, Object> entry : obj) {
+        obj.put("other", "value");
+      }
+      fail();
+    } catch (ConcurrentModificationException ignore) {
+      // Expected
+    }
+  }
+
+  @Test
+  public void testCompactMapUpgrade() {
+    JsonObject obj = new JsonObject(new CompactJsonMap());
+    int size = CompactJsonMap.MAX_COMPACT_SIZE * 2;
+    for (int i = 0;i < size;i++) {
+      obj.put("key" + i, i);
+    }
+    assertEquals(size, obj.size());
+    int idx = 0;
+    for (Map.Entry<String, Object> entry : obj) {
+      assertEquals("key" + idx, entry.getKey());
+      assertEquals(idx++, entry.getValue());
+    }
+    assertEquals(size, idx);
+    assertEquals(0, obj.remove("key0"));
+    assertFalse(obj.containsKey("key0"));
+    assertEquals(Integer.valueOf(size - 1), obj.getInteger("key" + (size - 1)));
+    obj.clear();
+    assertTrue(obj.isEmpty());
+  }
+
+  @Test
+  public void testLazy() {
+    JsonObject expected = new JsonObject()
+      .put("type", "order")
+      .put("id", 1234)
+      .put("big", 12345678901L)
+      .put("ratio", 0.5)
+      .put("escaped", "a\"b\\c\u00e9")
+      .put("flag", true)
+      .putNull("nothing")
+      .put("nested", new JsonObject().put("foo", "bar").put("list", new JsonArray().add(1).add("2")))
+      .put("array", new JsonArray().add(new JsonObject().put("a", 1)));
+    Buffer encoded = Buffer.buffer(" " + expected.encode() + "\n");
+    JsonObject obj = JsonObject.lazy(encoded);
+    assertEquals("order", obj.getString("type"));
+    assertEquals(1234, (int) obj.getInteger("id"));
+    assertEquals(12345678901L, (long) obj.getLong("big"));
+    assertEquals(0.5, obj.getDouble("ratio"), 0D);
+    assertEquals("a\"b\\c\u00e9", obj.getString("escaped"));
+    assertTrue(obj.getBoolean("flag"));
+    assertTrue(obj.containsKey("nothing"));
+    assertNull(obj.getValue("nothing"));
+    assertEquals("bar", obj.getJsonObject("nested").getString("foo"));
+    assertEquals(expected, obj);
+    assertEquals(new ArrayList<>(expected.fieldNames()), new ArrayList<>(obj.fieldNames()));
+    assertEquals(expected.encode(), obj.encode());
+  }
+
+  @Test
+  public void testLazyReencode() {
+    String json = "{ \"type\" : \"order\", \"nested\" : { \"foo\" : \"bar\" } }";
+    JsonObject obj = JsonObject.lazy(Buffer.buffer(json));
+    assertEquals("order", obj.getString("type"));
+    assertEquals("bar", obj.getJsonObject("nested").getString("foo"));
+    // Unmodified objects are encoded as is
+    assertEquals(json, obj.encode());
+    assertEquals(Buffer.buffer(json), obj.toBuffer());
+    JsonObject copy = obj.copy();
+    assertEquals(json, copy.encode());
+    obj.getJsonObject("nested").put("foo", "juu");
+    assertEquals("{\"type\":\"order\",\"nested\":{\"foo\":\"juu\"}}", obj.encode());
+    assertEquals("bar", copy.getJsonObject("nested").getString("foo"));
+    copy.put("id", 3);
+    assertEquals("{\"type\":\"order\",\"nested\":{ \"foo\" : \"bar\" },\"id\":3}", copy.encode());
+  }
+
+  @Test
+  public void testLazyModification() {
+    JsonObject obj = JsonObject.lazy(Buffer.buffer("{\"a\":1,\"b\":2,\"c\":3,\"a\":4}"));
+    assertEquals(3, obj.size());
+    assertEquals(4, (int) obj.getInteger("a"));
+    obj.put("b", "two");
+    assertEquals("{\"a\":4,\"b\":\"two\",\"c\":3}", obj.encode());
+    Iterator<Map.Entry<String, Object>> it = obj.iterator();
+    assertEquals("a", it.next().getKey());
+    assertEquals("b", it.next().getKey());
+    it.remove();
+    assertEquals("c", it.next().getKey());
+    assertFalse(it.hasNext());
+    assertEquals("{\"a\":4,\"c\":3}", obj.encode());
+    obj.put("d", 5);
+    assertEquals(new JsonObject().put("a", 4).put("c", 3).put("d", 5), obj);
+  }
+
+  @Test
+  public void testLazyDecodeError() {
+    try {
+      JsonObject.lazy(Buffer.buffer("[1,2]"));
+      fail();
+    } catch (DecodeException ignore) {
+      // Expected
+    }
+    JsonObject obj = JsonObject.lazy(Buffer.buffer("{\"valid\":1,\"invalid\":01}"));
+    assertEquals(1, (int) obj.getInteger("valid"));
+    try {
+      obj.getInteger("invalid");
+      fail();
+    } catch (DecodeException ignore) {
+      // Expected
+    }
+    // Comments are not indexed
+    obj = JsonObject.lazy(Buffer.buffer("{\"foo\":/* comment */\"bar\"}"));
+    assertEquals("bar", obj.getString("foo"));
+  }
 }
@@ -13,12 +13,15 @@ package io.vertx.core.json.pointer.impl;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.json.pointer.JsonPointer;
+import io.vertx.core.json.pointer.JsonPointerBatch;
 import io.vertx.core.json.pointer.JsonPointerIterator;
 import org.junit.Test;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 import static org.junit.Assert.*;
 
@@ -453,4 +456,49 @@ public class JsonPointerTest {
     assertSame(child2, traced.get(2));
   }
 
+
+  @Test
+  public void testQueryAfterModification() {
+    JsonObject obj = new JsonObject().put("a", new JsonObject().put("b", new JsonArray().add("c").add("d")));
+    JsonPointer pointer = JsonPointer.from("/a/b");
+    assertEquals(new JsonArray().add("c").add("d"), pointer.queryJson(obj));
+    pointer.append(1);
+    assertEquals("d", pointer.queryJson(obj));
+    pointer.parent().append("-");
+    assertNull(pointer.queryJson(obj));
+    assertEquals("default", pointer.queryJsonOrDefault(obj, "default"));
+  }
+
+  @Test
+  public void testBatchQuery() {
+    JsonObject obj = new JsonObject()
+      .put("type", "order")
+      .put("", "empty")
+      .put("items", new JsonArray().add(new JsonObject().put("id", 1)).add(new JsonObject().put("id", 2)))
+      .put("customer", new JsonObject().put("name", "foo").put("address", new JsonObject().put("city", "bar")));
+    List<JsonPointer> pointers = new ArrayList<>();
+    pointers.add(JsonPointer.create());
+    pointers.add(JsonPointer.from("/type"));
+    pointers.add(JsonPointer.from("/"));
+    pointers.add(JsonPointer.from("/items/0/id"));
+    pointers.add(JsonPointer.from("/items/1/id"));
+    pointers.add(JsonPointer.from("/items/2/id"));
+    pointers.add(JsonPointer.from("/items/-"));
+    pointers.add(JsonPointer.from("/items/foo"));
+    pointers.add(JsonPointer.from("/customer/name"));
+    pointers.add(JsonPointer.from("/customer/address"));
+    pointers.add(JsonPointer.from("/customer/address/city"));
+    pointers.add(JsonPointer.from("/customer/name/first"));
+    pointers.add(JsonPointer.from("/type"));
+    JsonPointerBatch batch = JsonPointerBatch.create(pointers);
+    List<Object> expected = new ArrayList<>();
+    for (JsonPointer pointer : pointers) {
+      expected.add(pointer.query(obj, JsonPointerIterator.JSON_ITERATOR));
+    }
+    assertEquals(expected, batch.queryJson(obj));
+    assertEquals(Arrays.asList("order", 2, "bar"), Arrays.asList(expected.get(1), expected.get(4), expected.get(10)));
+    List<Object> results = batch.queryJson(null);
+    assertEquals(pointers.size(), results.size());
+    assertTrue(results.stream().allMatch(Objects::isNull));
+  }
 }
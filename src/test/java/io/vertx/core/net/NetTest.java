@@ -13,6 +13,7 @@ package io.vertx.core.net;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelConfig;
 import io.netty.channel.ChannelHandlerAdapter;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
@@ -44,9 +45,12 @@ import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.MappedBuffer;
+import io.vertx.core.buffer.PooledBuffer;
 import io.vertx.core.buffer.impl.BufferInternal;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.file.OpenOptions;
 import io.vertx.core.http.*;
 import io.vertx.core.impl.Utils;
 import io.vertx.core.impl.VertxInternal;
@@ -82,6 +86,7 @@ import java.security.KeyStore;
 import java.security.cert.Certificate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -377,6 +382,27 @@ public class NetTest extends VertxTestBase {
     assertEquals(randomProxyTimeout, options.getProxyProtocolTimeout());
     assertIllegalArgumentException(() -> options.setProxyProtocolTimeout(-123));
 
+    assertEquals(NetServerOptions.DEFAULT_MAX_BUFFERED_BYTES, options.getMaxBufferedBytes());
+    long randomMaxBufferedBytes = TestUtils.randomPositiveLong();
+    assertEquals(options, options.setMaxBufferedBytes(randomMaxBufferedBytes));
+    assertEquals(randomMaxBufferedBytes, options.getMaxBufferedBytes());
+    assertIllegalArgumentException(() -> options.setMaxBufferedBytes(0));
+    assertIllegalArgumentException(() -> options.setMaxBufferedBytes(-2));
+
+    assertEquals(NetServerOptions.DEFAULT_ADAPTIVE_WRITE_QUEUE, options.isAdaptiveWriteQueue());
+    assertEquals(options, options.setAdaptiveWriteQueue(true));
+    assertTrue(options.isAdaptiveWriteQueue());
+    assertEquals(NetServerOptions.DEFAULT_ADAPTIVE_WRITE_QUEUE_MIN_SIZE, options.getAdaptiveWriteQueueMinSize());
+    int randomMinSize = TestUtils.randomPositiveInt();
+    assertEquals(options, options.setAdaptiveWriteQueueMinSize(randomMinSize));
+    assertEquals(randomMinSize, options.getAdaptiveWriteQueueMinSize());
+    assertIllegalArgumentException(() -> options.setAdaptiveWriteQueueMinSize(0));
+    assertEquals(NetServerOptions.DEFAULT_ADAPTIVE_WRITE_QUEUE_MAX_SIZE, options.getAdaptiveWriteQueueMaxSize());
+    int randomMaxSize = TestUtils.randomPositiveInt();
+    assertEquals(options, options.setAdaptiveWriteQueueMaxSize(randomMaxSize));
+    assertEquals(randomMaxSize, options.getAdaptiveWriteQueueMaxSize());
+    assertIllegalArgumentException(() -> options.setAdaptiveWriteQueueMaxSize(-1));
+
     testComplete();
   }
 
@@ -1121,6 +1147,99 @@ public class NetTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testMemoryBudgetRejectsConnections() {
+    server.close();
+    server = vertx.createNetServer(new NetServerOptions().setMaxBufferedBytes(64 * 1024));
+    AtomicInteger connections = new AtomicInteger();
+    server.connectHandler(sock -> {
+      if (connections.incrementAndGet() > 1) {
+        sock.close();
+        fail("Connection should have been rejected");
+        return;
+      }
+      sock.setWriteQueueMaxSize(1024 * 1024);
+      Buffer buff = TestUtils.randomBuffer(16 * 1024);
+      vertx.setPeriodic(1, id -> {
+        sock.write(buff.copy());
+        if (sock.writeQueueFull()) {
+          vertx.cancelTimer(id);
+          // The memory budget is exhausted
+          client.connect(testAddress).onComplete(onSuccess(rejected -> {
+            rejected.closeHandler(v -> {
+              // The connection buffering over the budget stopped reading
+              assertFalse(((NetSocketInternal) sock).channelHandlerContext().channel().config().isAutoRead());
+              testComplete();
+            });
+          }));
+        }
+      });
+    }).listen(testAddress).onComplete(onSuccess(s -> {
+      client.connect(testAddress).onComplete(onSuccess(NetSocket::pause));
+    }));
+    await();
+  }
+
+  @Test
+  public void testAdaptiveWriteQueueBounds() {
+    // The bounds can be set in any order
+    NetServerOptions options = new NetServerOptions()
+      .setAdaptiveWriteQueue(true)
+      .setAdaptiveWriteQueueMinSize(8 * 1024 * 1024)
+      .setAdaptiveWriteQueueMaxSize(16 * 1024 * 1024);
+    vertx.createNetServer(options).close();
+    options.setAdaptiveWriteQueueMaxSize(4 * 1024 * 1024);
+    assertIllegalArgumentException(() -> vertx.createNetServer(options));
+    // Ignored when the write queue does not adapt
+    vertx.createNetServer(options.setAdaptiveWriteQueue(false)).close();
+  }
+
+  @Test
+  public void testAdaptiveWriteQueue() {
+    server.close();
+    server = vertx.createNetServer(new NetServerOptions()
+      .setAdaptiveWriteQueue(true)
+      .setAdaptiveWriteQueueMinSize(4 * 1024)
+      .setAdaptiveWriteQueueMaxSize(1024 * 1024));
+    Buffer expected = TestUtils.randomBuffer(4 * 1024 * 1024);
+    Set<Integer> highWaterMarks = new HashSet<>();
+    server.connectHandler(sock -> {
+      ChannelConfig config = ((NetSocketInternal) sock).channelHandlerContext().channel().config();
+      int chunkSize = 8 * 1024;
+      AtomicInteger pos = new AtomicInteger();
+      Handler<Void> writer = new Handler<Void>() {
+        @Override
+        public void handle(Void v) {
+          highWaterMarks.add(config.getWriteBufferHighWaterMark());
+          while (pos.get() < expected.length() && !sock.writeQueueFull()) {
+            int from = pos.getAndAdd(chunkSize);
+            sock.write(expected.slice(from, Math.min(from + chunkSize, expected.length())).copy());
+          }
+          if (pos.get() < expected.length()) {
+            sock.drainHandler(this);
+          }
+        }
+      };
+      writer.handle(null);
+    }).listen(testAddress).onComplete(onSuccess(s -> {
+      client.connect(testAddress).onComplete(onSuccess(so -> {
+        Buffer received = Buffer.buffer();
+        so.handler(buff -> {
+          received.appendBuffer(buff);
+          if (received.length() == expected.length()) {
+            assertEquals(expected, received);
+            // The water marks are sized within the bounds
+            for (int high : highWaterMarks) {
+              assertTrue(high >= 4 * 1024 && high <= 1024 * 1024);
+            }
+            testComplete();
+          }
+        });
+      }));
+    }));
+    await();
+  }
+
   void pausingServer(Handler<AsyncResult<NetServer>> listenHandler) {
     server.connectHandler(sock -> {
       sock.pause();
@@ -2187,6 +2306,107 @@ public class NetTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testWritePooledBuffer() throws Exception {
+    Buffer expected = TestUtils.randomBuffer(4096);
+    server.connectHandler(socket -> {
+      Buffer received = Buffer.buffer();
+      socket.handler(buff -> {
+        received.appendBuffer(buff);
+        if (received.length() == expected.length()) {
+          assertEquals(expected, received);
+          testComplete();
+        }
+      });
+    }).listen(testAddress).onComplete(onSuccess(v -> {
+      client.connect(testAddress).onComplete(onSuccess(socket -> {
+        try (PooledBuffer buff = Buffer.pooled(64)) {
+          buff.appendBuffer(expected);
+          socket.write(buff).onComplete(onSuccess(v2 -> {
+            assertTrue(buff.isReleased());
+          }));
+          // Ownership has been transferred
+          assertTrue(buff.isReleased());
+          assertFalse(buff.release());
+        }
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testWriteMappedBuffer() throws Exception {
+    Buffer expected = TestUtils.randomBuffer(4096);
+    File file = new File(testFolder.newFolder(), "some-file.dat");
+    vertx.fileSystem().writeFileBlocking(file.getAbsolutePath(), expected);
+    server.connectHandler(socket -> {
+      Buffer received = Buffer.buffer();
+      socket.handler(buff -> {
+        received.appendBuffer(buff);
+        if (received.length() == expected.length()) {
+          assertEquals(expected, received);
+          testComplete();
+        }
+      });
+    }).listen(testAddress).onComplete(onSuccess(v -> {
+      client.connect(testAddress).onComplete(onSuccess(socket -> {
+        MappedBuffer buff = vertx.fileSystem().mapFileBlocking(file.getAbsolutePath(), 0, expected.length());
+        socket.write(buff);
+        // The region remains mapped until written
+        assertTrue(buff.unmap());
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testPipeFileToSocket() throws Exception {
+    Buffer content = TestUtils.randomBuffer(100_000);
+    File file = new File(testFolder.newFolder(), "some-file.dat");
+    vertx.fileSystem().writeFileBlocking(file.getAbsolutePath(), content);
+    server.connectHandler(socket -> {
+      vertx.fileSystem().open(file.getAbsolutePath(), new OpenOptions().setWrite(false)).onComplete(onSuccess(f -> {
+        f.setReadPos(1000).setReadLength(50_000);
+        f.pipeTo(socket).onComplete(onSuccess(v -> f.close()));
+      }));
+    }).listen(testAddress).onComplete(onSuccess(v -> {
+      client.connect(testAddress).onComplete(onSuccess(socket -> {
+        Buffer received = Buffer.buffer();
+        socket.handler(received::appendBuffer);
+        socket.closeHandler(v2 -> {
+          assertEquals(content.getBuffer(1000, 51_000), received);
+          testComplete();
+        });
+      }));
+    }));
+    await();
+  }
+
+  @Test
+  public void testPipeReplacedFileToSocket() throws Exception {
+    Buffer content = TestUtils.randomBuffer(100_000);
+    File file = new File(testFolder.newFolder(), "some-file.dat");
+    vertx.fileSystem().writeFileBlocking(file.getAbsolutePath(), content);
+    server.connectHandler(socket -> {
+      vertx.fileSystem().open(file.getAbsolutePath(), new OpenOptions().setWrite(false)).onComplete(onSuccess(f -> {
+        // The path denotes another file, the content of the opened file is streamed
+        vertx.fileSystem().deleteBlocking(file.getAbsolutePath());
+        vertx.fileSystem().writeFileBlocking(file.getAbsolutePath(), TestUtils.randomBuffer(100_000));
+        f.pipeTo(socket).onComplete(onSuccess(v -> f.close()));
+      }));
+    }).listen(testAddress).onComplete(onSuccess(v -> {
+      client.connect(testAddress).onComplete(onSuccess(socket -> {
+        Buffer received = Buffer.buffer();
+        socket.handler(received::appendBuffer);
+        socket.closeHandler(v2 -> {
+          assertEquals(content, received);
+          testComplete();
+        });
+      }));
+    }));
+    await();
+  }
+
   @Test
   public void sendFileClientToServer() throws Exception {
     File fDir = testFolder.newFolder();
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.net.impl;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelConfig;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.core.impl.transports.JDKTransport;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class AdaptiveWriteBufferWaterMarkTest {
+
+  private static final int MIN_SIZE = 4 * 1024;
+  private static final int MAX_SIZE = 1024 * 1024;
+  private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final AdaptiveWriteBufferWaterMark handler = new AdaptiveWriteBufferWaterMark(new JDKTransport() {
+    @Override
+    public long roundTripTime(Channel channel) {
+      // 1 ms
+      return 1000L;
+    }
+  }, MIN_SIZE, MAX_SIZE);
+
+  @Test
+  public void testSizing() {
+    EmbeddedChannel ch = new EmbeddedChannel(handler);
+    ChannelConfig config = ch.config();
+    // The default 64KB water mark is within the bounds
+    assertEquals(64 * 1024, config.getWriteBufferHighWaterMark());
+    assertEquals(32 * 1024, config.getWriteBufferLowWaterMark());
+    // Drains 64KB per ms, the water mark covers two round trips
+    handler.sample(ch, 64 * 1024, MILLIS);
+    assertEquals(128 * 1024, config.getWriteBufferHighWaterMark());
+    assertEquals(64 * 1024, config.getWriteBufferLowWaterMark());
+    // A small variation does not resize
+    handler.sample(ch, 66 * 1024, MILLIS);
+    assertEquals(128 * 1024, config.getWriteBufferHighWaterMark());
+    // Fast connection
+    for (int i = 0;i < 16;i++) {
+      handler.sample(ch, 16 * 1024 * 1024, MILLIS);
+    }
+    assertEquals(MAX_SIZE, config.getWriteBufferHighWaterMark());
+    // Slow connection
+    for (int i = 0;i < 64;i++) {
+      handler.sample(ch, 1, 1000 * MILLIS);
+    }
+    int high = config.getWriteBufferHighWaterMark();
+    assertTrue(high >= MIN_SIZE);
+    // Resized unless within 1/8 of the min size
+    assertTrue(high <= MIN_SIZE * 8 / 7 + 1);
+  }
+
+  @Test
+  public void testClampInitialWaterMark() {
+    EmbeddedChannel ch = new EmbeddedChannel();
+    ch.config().setWriteBufferHighWaterMark(16 * 1024 * 1024);
+    ch.pipeline().addLast(handler);
+    assertEquals(MAX_SIZE, ch.config().getWriteBufferHighWaterMark());
+    assertEquals(MAX_SIZE / 2, ch.config().getWriteBufferLowWaterMark());
+  }
+}
@@ -12,6 +12,9 @@
 package io.vertx.core.parsetools;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.DecodeException;
@@ -20,6 +23,7 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.test.core.TestUtils;
 import org.junit.Test;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
 import java.util.*;
@@ -583,6 +587,66 @@ public class JsonParserTest {
     assertEquals(Arrays.asList(new TheObject("the-value-1"), new TheObject("the-value-2")), values);
   }
 
+  @Test
+  public void testObjectBinding() {
+    JsonParser parser = JsonParser.newParser();
+    List<Object> values = new ArrayList<>();
+    List<JsonEventType> events = new ArrayList<>();
+    parser.objectValueMode(TheObject.class);
+    parser.handler(event -> {
+      events.add(event.type());
+      if (event.type() == JsonEventType.VALUE) {
+        assertTrue(event.value() instanceof TheObject);
+        values.add(event.mapTo(TheObject.class));
+      }
+    });
+    parser.handle(Buffer.buffer("[{\"f\":\"the-value-1\"},"));
+    parser.handle(Buffer.buffer("{\"f\":\"the-val"));
+    parser.handle(Buffer.buffer("ue-2\"}]"));
+    parser.end();
+    assertEquals(Arrays.asList(new TheObject("the-value-1"), new TheObject("the-value-2")), values);
+    assertEquals(Arrays.asList(JsonEventType.START_ARRAY, JsonEventType.VALUE, JsonEventType.VALUE, JsonEventType.END_ARRAY), events);
+  }
+
+  @Test
+  public void testObjectBindingTree() {
+    List<TheTreeObject> values = new ArrayList<>();
+    JsonParser.newParser()
+      .objectValueMode(TheTreeObject.class)
+      .handler(event -> values.add((TheTreeObject) event.value()))
+      .write(Buffer.buffer("{\"node\":{\"a\":[1,2]},\"tree\":{\"b\":true}}"))
+      .end();
+    assertEquals(1, values.size());
+    assertEquals(2, values.get(0).node.get("a").size());
+    assertTrue(values.get(0).tree.get("b").asBoolean());
+  }
+
+  public static class TheTreeObject {
+
+    public JsonNode node;
+
+    @JsonDeserialize(using = TreeDeserializer.class)
+    public JsonNode tree;
+  }
+
+  public static class TreeDeserializer extends com.fasterxml.jackson.databind.JsonDeserializer<JsonNode> {
+    @Override
+    public JsonNode deserialize(com.fasterxml.jackson.core.JsonParser p, DeserializationContext ctxt) throws IOException {
+      // Uses the parser codec
+      return p.readValueAsTree();
+    }
+  }
+
+  @Test
+  public void testObjectBindingError() {
+    List<Object> values = new ArrayList<>();
+    List<Throwable> errors = new ArrayList<>();
+    JsonParser.newParser().objectValueMode(TheObject.class).handler(event -> values.add(event.value())).exceptionHandler(errors::add).write(Buffer.buffer("{\"destination\":\"unknown\"}")).end();
+    assertEquals(Collections.emptyList(), values);
+    assertEquals(1, errors.size());
+    assertTrue(errors.get(0) instanceof DecodeException);
+  }
+
   @Test
   public void testObjectMappingError() {
     List<Object> values = new ArrayList<>();
@@ -42,6 +42,8 @@ public class RecordParserTest {
     assertNullPointerException(() -> parser.delimitedMode((Buffer) null));
     assertNullPointerException(() -> parser.delimitedMode((String) null));
     assertIllegalArgumentException(() -> parser.maxRecordSize(-1));
+    assertIllegalArgumentException(() -> parser.lengthFieldMode(5));
+    assertIllegalArgumentException(() -> parser.lengthFieldMode(-1, 4, 0, true, true));
   }
 
   @Test
@@ -275,6 +277,152 @@ public class RecordParserTest {
       new Integer[] { 18 }, Buffer.buffer("start-ab-c-ddd"));
   }
 
+  @Test
+  public void testRecordSpanningChunks() {
+    List<Buffer> emitted = new ArrayList<>();
+    RecordParser parser = RecordParser.newDelimited("\r\n", emitted::add);
+    Buffer first = Buffer.buffer("ab");
+    parser.handle(first);
+    parser.handle(Buffer.buffer("c"));
+    parser.handle(Buffer.buffer("d\r"));
+    parser.handle(Buffer.buffer("\nef\r\ngh\r\n"));
+    assertEquals(Arrays.asList(Buffer.buffer("abcd"), Buffer.buffer("ef"), Buffer.buffer("gh")), emitted);
+    // The chunks are not modified by the parser
+    assertEquals(Buffer.buffer("ab"), first);
+    // Records can be appended to without affecting the other records
+    assertEquals(Buffer.buffer("ef!"), emitted.get(1).appendString("!"));
+    assertEquals(Buffer.buffer("abcd?"), emitted.get(0).appendBuffer(Buffer.buffer("?")));
+    assertEquals(Buffer.buffer("ghj"), emitted.get(2).appendBuffer(Buffer.buffer("ij"), 1, 1));
+    assertEquals(Buffer.buffer("ef!"), emitted.get(1));
+  }
+
+  @Test
+  public void testLengthField() {
+    List<Buffer> records = generateLines(50, false, (byte) 0);
+    Buffer input = Buffer.buffer();
+    for (Buffer record : records) {
+      input.appendInt(record.length()).appendBuffer(record);
+    }
+    Buffer[] expected = records.toArray(new Buffer[0]);
+    for (int i = 1; i < input.length() * 2; i += 7) {
+      doTestLengthField(input, new Integer[]{i}, expected, parser -> parser.lengthFieldMode(4));
+    }
+    List<Integer> chunkSizes = generateChunkSizes(50);
+    Collections.shuffle(chunkSizes);
+    doTestLengthField(input, chunkSizes.toArray(new Integer[0]), expected, parser -> parser.lengthFieldMode(4));
+  }
+
+  @Test
+  public void testLengthFieldOffsetAndAdjustment() {
+    // Little-endian 2 bytes length after a 1 byte type, the length includes the header
+    Buffer input = Buffer.buffer()
+      .appendByte((byte) 1).appendShortLE((short) 6).appendString("abc")
+      .appendByte((byte) 2).appendShortLE((short) 3);
+    Buffer[] expected = {
+      Buffer.buffer().appendByte((byte) 1).appendShortLE((short) 6).appendString("abc"),
+      Buffer.buffer().appendByte((byte) 2).appendShortLE((short) 3)
+    };
+    for (int i = 1; i < input.length(); i++) {
+      doTestLengthField(input, new Integer[]{i}, expected, parser -> parser.lengthFieldMode(1, 2, -3, false, false));
+    }
+  }
+
+  @Test
+  public void testVarint() {
+    List<Buffer> records = Arrays.asList(Buffer.buffer(), TestUtils.randomBuffer(1), TestUtils.randomBuffer(127),
+      TestUtils.randomBuffer(128), TestUtils.randomBuffer(300), TestUtils.randomBuffer(20000));
+    Buffer input = Buffer.buffer();
+    for (Buffer record : records) {
+      int length = record.length();
+      while ((length & ~0x7F) != 0) {
+        input.appendByte((byte) ((length & 0x7F) | 0x80));
+        length >>>= 7;
+      }
+      input.appendByte((byte) length).appendBuffer(record);
+    }
+    Buffer[] expected = records.toArray(new Buffer[0]);
+    for (int i : new int[] { 1, 2, 3, 100, 1000, input.length() }) {
+      doTestLengthField(input, new Integer[]{i}, expected, RecordParser::varintMode);
+    }
+  }
+
+  @Test
+  public void testLengthFieldMaxRecordSize() {
+    List<Buffer> emitted = new ArrayList<>();
+    List<Throwable> errors = new ArrayList<>();
+    RecordParser parser = RecordParser.newLengthField(2, emitted::add).maxRecordSize(4);
+    parser.exceptionHandler(errors::add);
+    parser.handle(Buffer.buffer().appendShort((short) 4).appendString("abcd"));
+    // The length prefix is rejected before the record is received
+    parser.handle(Buffer.buffer().appendShort((short) 5));
+    assertEquals(Collections.singletonList(Buffer.buffer("abcd")), emitted);
+    assertEquals(1, errors.size());
+    assertTrue(errors.get(0) instanceof IllegalStateException);
+  }
+
+  @Test
+  public void testLengthFieldDiscardOversizedRecord() {
+    List<Buffer> emitted = new ArrayList<>();
+    List<Throwable> errors = new ArrayList<>();
+    RecordParser parser = RecordParser.newLengthField(2, emitted::add).maxRecordSize(4);
+    parser.exceptionHandler(errors::add);
+    Buffer input = Buffer.buffer()
+      .appendShort((short) 10).appendString("0123456789")
+      .appendShort((short) 3).appendString("abc");
+    // The payload of the oversized record must not be parsed as length prefixes
+    for (int i = 0;i < input.length();i += 3) {
+      parser.handle(input.getBuffer(i, Math.min(i + 3, input.length())));
+    }
+    assertEquals(Collections.singletonList(Buffer.buffer("abc")), emitted);
+    assertEquals(1, errors.size());
+  }
+
+  @Test
+  public void testMalformedVarint() {
+    List<Buffer> emitted = new ArrayList<>();
+    List<Throwable> errors = new ArrayList<>();
+    RecordParser parser = RecordParser.newFixed(1, emitted::add);
+    parser.varintMode();
+    parser.exceptionHandler(errors::add);
+    Buffer malformed = Buffer.buffer();
+    for (int i = 0;i < 10;i++) {
+      malformed.appendByte((byte) 0x80);
+    }
+    parser.handle(malformed);
+    assertEquals(1, errors.size());
+    // The stream cannot be framed anymore
+    parser.handle(Buffer.buffer().appendByte((byte) 3).appendString("abc"));
+    assertEquals(Collections.emptyList(), emitted);
+    assertEquals(1, errors.size());
+  }
+
+  @Test
+  public void testLengthFieldTruncatedRecord() {
+    FakeStream<Buffer> stream = new FakeStream<>();
+    RecordParser parser = RecordParser.newLengthField(2, stream);
+    List<Buffer> emitted = new ArrayList<>();
+    List<Throwable> errors = new ArrayList<>();
+    AtomicInteger ends = new AtomicInteger();
+    parser.exceptionHandler(errors::add);
+    parser.endHandler(v -> ends.incrementAndGet());
+    parser.handler(emitted::add);
+    stream.write(Buffer.buffer().appendShort((short) 3).appendString("abc").appendShort((short) 5).appendString("de"));
+    stream.end();
+    assertEquals(Collections.singletonList(Buffer.buffer("abc")), emitted);
+    assertEquals(1, errors.size());
+    assertEquals("Truncated record", errors.get(0).getMessage());
+    assertEquals(1, ends.get());
+  }
+
+  private void doTestLengthField(Buffer input, Integer[] chunkSizes, Buffer[] expected, Handler<RecordParser> mode) {
+    List<Buffer> results = new ArrayList<>();
+    RecordParser parser = RecordParser.newFixed(1, results::add);
+    mode.handle(parser);
+    feedChunks(input, parser, chunkSizes);
+    checkResults(expected, results.toArray(new Buffer[0]));
+    assertEquals(expected.length, results.size());
+  }
+
   @Test
   public void testDelimitedMaxRecordSize() {
     doTestDelimitedMaxRecordSize(Buffer.buffer("ABCD\nEFGH\n"), Buffer.buffer("\n"), new Integer[] { 2 },